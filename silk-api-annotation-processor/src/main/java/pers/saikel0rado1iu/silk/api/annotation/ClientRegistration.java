@@ -26,7 +26,7 @@ import java.lang.annotation.Target;
  * @since 1.0.0
  */
 @Target(ElementType.TYPE)
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 public @interface ClientRegistration {
     /**
      * 提供注册器用于生成注册方法
@@ -190,7 +190,7 @@ public final class ClientRegistrationProcessor extends AbstractProcessor {
             }
             // 创建一个文件
             try {
-                TypeSpec typeSpec = builder.build();
+                TypeSpec typeSpec = builder.addOriginatingElement(element).build();
                 FileObject existingFile = processingEnv.getFiler().getResource(
                         StandardLocation.SOURCE_OUTPUT, packageName, typeSpec.name + ".java");
                 if (existingFile != null && existingFile.getLastModified() > 0) {
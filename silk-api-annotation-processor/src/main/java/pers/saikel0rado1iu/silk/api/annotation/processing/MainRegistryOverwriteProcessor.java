@@ -13,8 +13,6 @@ package pers.saikel0rado1iu.silk.api.annotation.processing;
 
 import com.google.auto.service.AutoService;
 import com.squareup.javapoet.*;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.tree.*;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.ModifyArg;
@@ -29,16 +27,9 @@ import javax.tools.Diagnostic;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
-import java.util.MissingFormatArgumentException;
-import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static pers.saikel0rado1iu.silk.api.annotation.processing.ProcessorUtil.getTypeElement;
 
@@ -54,15 +45,14 @@ import static pers.saikel0rado1iu.silk.api.annotation.processing.ProcessorUtil.g
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
 @SupportedAnnotationTypes("pers.saikel0rado1iu.silk.api.annotation.MainRegistryOverwrite")
 public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
-    private static final String IO_ERROR = "出现 I/O 错误：无法找到 %s 的字节码或无法读取 class 文件";
     private static final String REGISTRAR_ERROR = "注册器参数错误：%s 并不是一个实现了注册器的接口或类";
     private static final String FIELD_NOT_FIND = "字段未找到：%s 中并未声明一个名为 %s 的静态字段";
-    private static final String METHOD_NOT_FIND = "方法未找到：%s 中并未在静态初始化代码块中调用名为 %s 的方法";
     private static final String FIELD_NOT_USE_METHOD = "字段声明未使用方法：字段 %s 的注册过程中并未调用名为 %s 的方法";
     private static final String OVERWRITE_NOT_FIND = "覆盖字段未找到：覆盖字段 %s 并与字段 %s 在同个类或接口中声明";
 
     static TypeSpec.Builder generateRegister(TypeSpec.Builder builder, Element element,
                                              ProcessingEnvironment processingEnv,
+                                             RegistrarClassCache cache,
                                              TypeElement registrar, String field,
                                              Register register) {
         if ("register".equals(register.method())) {
@@ -92,8 +82,8 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
                                                     .asElement(interfaces.getFirst()))
                 .getQualifiedName()
                 .toString()
-                .replaceAll("\\.", "/")
-                .replaceAll("Registry", "");
+                .replace('.', '/')
+                .replace("Registry", "");
         TypeVariableName t = TypeVariableName.get("T");
         TypeName type = TypeName.get(parameter);
         String targetFormat = "other".equals(register.method())
@@ -113,9 +103,9 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
                         targetFormat,
                         prefix,
                         register.method(),
-                        getParameterDesc(processingEnv.getFiler(), registrar, register.method())))
+                        cache.parameterDesc(registrar, register.method())))
                 .addMember("ordinal", "$L", findMethodOrdinal(
-                        processingEnv.getFiler(), registrar, field, register.method()))
+                        cache, registrar, field, register.method()))
                 .build();
         MethodSpec method = MethodSpec
                 .methodBuilder(register.method())
@@ -142,6 +132,7 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
 
     static TypeSpec.Builder generateOverwrite(TypeSpec.Builder builder, Element element,
                                               ProcessingEnvironment processingEnv,
+                                              RegistrarClassCache cache,
                                               TypeElement registrar,
                                               String field) {
         final List<? extends TypeMirror> interfaces = registrar.getInterfaces();
@@ -152,8 +143,8 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
                                                     .asElement(interfaces.getFirst()))
                 .getQualifiedName()
                 .toString()
-                .replaceAll("\\.", "/")
-                .replaceAll("Registry", "");
+                .replace('.', '/')
+                .replace("Registry", "");
         TypeVariableName t = TypeVariableName.get("T");
         ParameterizedTypeName supplier = ParameterizedTypeName.get(ClassName.get(Supplier.class), t);
         String javadoc =
@@ -168,7 +159,7 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
                         "L%1$sRegistry;registrar(Ljava/util/function/Supplier;)L%1$sRegistrationProvider$MainRegistrar;",
                         target))
                 .addMember("ordinal", "$L",
-                        findFieldOrdinal(processingEnv.getFiler(), registrar, field))
+                        findFieldOrdinal(cache, registrar, field))
                 .build();
         MethodSpec overwrite = MethodSpec
                 .methodBuilder("overwrite")
@@ -193,147 +184,37 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
         return builder.addMethod(overwrite);
     }
 
-    private static String getParameterDesc(Filer filer, TypeElement registrar, String methodName) {
-        final String className = registrar
-                .getQualifiedName().toString().replace('.', '/') + ".class";
-
-        try (InputStream classStream = filer
-                .getResource(StandardLocation.CLASS_PATH, "", className)
-                .openInputStream()) {
-            ClassReader classReader = new ClassReader(classStream);
-            ClassNode classNode = new ClassNode();
-            classReader.accept(classNode, 0);
-            // 遍历所有方法
-            for (MethodNode method : classNode.methods) {
-                Optional<String> optionalDesc = getParameterDesc(method, methodName);
-                if (optionalDesc.isPresent()) {
-                    return optionalDesc.get();
-                }
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(String.format(IO_ERROR, registrar), e);
-        }
-        throw new IllegalArgumentException(String.format(METHOD_NOT_FIND, registrar, methodName));
-    }
-
-    private static Optional<String> getParameterDesc(MethodNode method, String methodName) {
-        if (!"<clinit>".equals(method.name)) {
-            return Optional.empty();
-        }
-        // 只关注类初始化方法
-        AbstractInsnNode[] instructions = method.instructions.toArray();
-        for (AbstractInsnNode node : instructions) {
-            if (!(node instanceof MethodInsnNode m) || !m.name.equals(methodName)) {
-                continue;
-            }
-            Matcher matcher = Pattern.compile("\\((.*?)\\)").matcher(m.desc);
-            if (matcher.find()) {
-                return Optional.of(matcher.group(1));
-            } else {
-                String msg = String.format("方法格式错误：方法 %s 的描述符格式不正确，请检查方法参数", methodName);
-                throw new MissingFormatArgumentException(msg);
-            }
+    private static int findMethodOrdinal(RegistrarClassCache cache, TypeElement registrar,
+                                         String fieldName, String methodName) {
+        Integer ordinal = cache.methodOrdinals(registrar, methodName).get(fieldName);
+        if (ordinal == null) {
+            String msg = String.format(FIELD_NOT_FIND, registrar, fieldName);
+            throw new IllegalArgumentException(msg);
         }
-        return Optional.empty();
-    }
-
-    private static int findMethodOrdinal(Filer filer, TypeElement registrar, String fieldName,
-                                         String methodName) {
-        final String className = registrar
-                .getQualifiedName().toString().replace('.', '/') + ".class";
-
-        try (InputStream classStream = filer
-                .getResource(StandardLocation.CLASS_PATH, "", className)
-                .openInputStream()) {
-            ClassReader classReader = new ClassReader(classStream);
-            ClassNode classNode = new ClassNode();
-            classReader.accept(classNode, 0);
-            AtomicInteger globalCount = new AtomicInteger(0);
-            int ordinal = -1;
-            // 遍历所有方法
-            AtomicBoolean haveField = new AtomicBoolean(false);
-            for (MethodNode method : classNode.methods) {
-                if (!"<clinit>".equals(method.name)) {
-                    continue;
-                }
-                // 只关注类初始化方法
-                AbstractInsnNode[] ins = method.instructions.toArray();
-                for (int i = 0; i < ins.length; i++) {
-                    ordinal = findMethodOrdinal(ins, i, globalCount, haveField, fieldName, methodName);
-                }
-            }
-            if (!haveField.get()) {
-                String msg = String.format(FIELD_NOT_FIND, registrar, fieldName);
-                throw new IllegalArgumentException(msg);
-            }
-            // 未找到字段调用的方法
-            if (ordinal == -1) {
-                String msg = String.format(FIELD_NOT_USE_METHOD, fieldName, methodName);
-                throw new IllegalArgumentException(msg);
-            }
-            return ordinal - 1;
-        } catch (IOException e) {
-            throw new RuntimeException(String.format(IO_ERROR, registrar), e);
+        // 未找到字段调用的方法
+        if (ordinal == -1) {
+            String msg = String.format(FIELD_NOT_USE_METHOD, fieldName, methodName);
+            throw new IllegalArgumentException(msg);
         }
+        return ordinal;
     }
 
-    private static int findMethodOrdinal(AbstractInsnNode[] instructions, int count,
-                                         AtomicInteger globalCount,
-                                         AtomicBoolean haveField,
-                                         String fieldName,
-                                         String methodName) {
-        final AbstractInsnNode node = instructions[count];
-
-        int ordinal = -1;
-        // 查找 TEST_ITEM1 的赋值
-        if (node instanceof FieldInsnNode field && fieldName.equals(field.name)) {
-            haveField.set(true);
-            // 向上查找 group 方法调用的序号
-            for (int i = count; i >= 0; i--) {
-                AbstractInsnNode prev = instructions[i];
-                if (!(prev instanceof MethodInsnNode m)) {
-                    continue;
-                }
-                if (!methodName.equals(m.name)) {
-                    continue;
-                }
-                ordinal = globalCount.get();
-                break;
-            }
+    private static int findFieldOrdinal(RegistrarClassCache cache, TypeElement registrar, String fieldName) {
+        Integer ordinal = cache.fieldOrdinals(registrar).get(fieldName);
+        if (ordinal == null) {
+            throw new IllegalArgumentException(String.format(FIELD_NOT_FIND, registrar, fieldName));
         }
-        // 统计全局 group 方法的调用
-        if (node instanceof MethodInsnNode m && m.name.equals(methodName)) {
-            globalCount.set(globalCount.get() + 1);
+        // 字段未通过注册器注册
+        if (ordinal == -1) {
+            throw new IllegalArgumentException(String.format(FIELD_NOT_USE_METHOD, fieldName, "registrar"));
         }
         return ordinal;
     }
 
-    private static int findFieldOrdinal(Filer filer, TypeElement registrar, String fieldName) {
-        final String className = registrar.getQualifiedName()
-                                          .toString()
-                                          .replace('.', '/') + ".class";
-
-        try (InputStream classStream = filer
-                .getResource(StandardLocation.CLASS_PATH, "", className)
-                .openInputStream()) {
-            ClassReader classReader = new ClassReader(classStream);
-            ClassNode classNode = new ClassNode();
-            classReader.accept(classNode, 0);
-            int ordinal = 0;
-            for (FieldNode field : classNode.fields) {
-                if (fieldName.equals(field.name)) {
-                    return ordinal;
-                }
-                ordinal++;
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(String.format(IO_ERROR, registrar), e);
-        }
-        throw new IllegalArgumentException(String.format(FIELD_NOT_FIND, registrar, fieldName));
-    }
-
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // 每轮处理使用新的缓存，同一注册器的字节码只在本轮中解析一次
+        RegistrarClassCache cache = new RegistrarClassCache(processingEnv.getFiler());
         for (Element element : roundEnv.getElementsAnnotatedWith(MainRegistryOverwrite.class)) {
             MainRegistryOverwrite mainRegistryOverwrite = element.getAnnotation(MainRegistryOverwrite.class);
             String pack = mainRegistryOverwrite.pack();
@@ -351,14 +232,15 @@ public final class MainRegistryOverwriteProcessor extends AbstractProcessor {
                     element.getSimpleName());
             TypeSpec.Builder builder = TypeSpec
                     .interfaceBuilder(className)
+                    .addOriginatingElement(element.getEnclosingElement())
                     .addJavadoc(javadoc)
                     .addAnnotation(AnnotationSpec
                             .builder(Mixin.class)
                             .addMember("value", "$T.class", registrar)
                             .build());
-            builder = generateOverwrite(builder, element, processingEnv, registrar, field);
+            builder = generateOverwrite(builder, element, processingEnv, cache, registrar, field);
             for (Register register : registers) {
-                builder = generateRegister(builder, element, processingEnv, registrar, field, register);
+                builder = generateRegister(builder, element, processingEnv, cache, registrar, field, register);
             }
             // 创建一个文件
             try {
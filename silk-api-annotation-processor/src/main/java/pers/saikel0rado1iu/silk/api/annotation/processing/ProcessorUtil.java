@@ -22,6 +22,7 @@ import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import java.lang.annotation.Annotation;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * <h2>处理器实用工具</h2>
@@ -33,6 +34,11 @@ import java.util.function.Supplier;
  * @since 1.0.0
  */
 interface ProcessorUtil {
+    /**
+     * 空白字符分隔模式
+     */
+    Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * 将字符串转换为大驼峰命名法的字符串格式
      *
@@ -43,8 +49,7 @@ interface ProcessorUtil {
         if (str == null || str.isEmpty()) {
             return str;
         }
-        str = str.replaceAll("_", " ");
-        String[] words = str.split("\\s+");
+        String[] words = WHITESPACE.split(str.replace('_', ' '));
         StringBuilder sb = new StringBuilder();
         for (String word : words) {
             if (word.isEmpty()) {
@@ -54,7 +59,7 @@ interface ProcessorUtil {
               .append(word.substring(1).toLowerCase())
               .append(" ");
         }
-        return sb.toString().trim().replaceAll(" ", "");
+        return sb.toString().trim().replace(" ", "");
     }
 
     /**
@@ -0,0 +1,161 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.annotation.processing;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.*;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.TypeElement;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>注册器字节码缓存</h2>
+ * 在一轮注解处理中缓存注册器的 {@link ClassNode} 及从中解析出的方法描述符与序号，
+ * 同一注册器中的所有被覆写字段只需读取并解析一次字节码
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.0.1
+ */
+final class RegistrarClassCache {
+    private static final Pattern PARAMETER_DESC = Pattern.compile("\\((.*?)\\)");
+    private static final String IO_ERROR = "出现 I/O 错误：无法找到 %s 的字节码或无法读取 class 文件";
+    private static final String METHOD_NOT_FIND = "方法未找到：%s 中并未在静态初始化代码块中调用名为 %s 的方法";
+    private final Filer filer;
+    private final Map<String, ClassNode> classNodes = new HashMap<>();
+    private final Map<String, String> parameterDescs = new HashMap<>();
+    private final Map<String, Map<String, Integer>> methodOrdinals = new HashMap<>();
+
+    RegistrarClassCache(Filer filer) {
+        this.filer = filer;
+    }
+
+    private static String key(TypeElement registrar) {
+        return registrar.getQualifiedName().toString();
+    }
+
+    /**
+     * 获取注册器的类节点
+     *
+     * @param registrar 注册器
+     * @return 类节点
+     */
+    ClassNode classNode(TypeElement registrar) {
+        return classNodes.computeIfAbsent(key(registrar), name -> {
+            final String className = name.replace('.', '/') + ".class";
+
+            try (InputStream classStream = filer
+                    .getResource(StandardLocation.CLASS_PATH, "", className)
+                    .openInputStream()) {
+                ClassNode classNode = new ClassNode();
+                // 只需要字段与指令，跳过调试信息与栈帧以加快解析
+                new ClassReader(classStream).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                return classNode;
+            } catch (IOException e) {
+                throw new RuntimeException(String.format(IO_ERROR, registrar), e);
+            }
+        });
+    }
+
+    /**
+     * 获取字段在注册器中调用 {@code registrar} 方法的序号<br>
+     * 未调用注册器的字段不占用序号，其序号为 {@code -1}
+     *
+     * @param registrar 注册器
+     * @return 以字段名为键的调用序号，未在静态初始化代码块中赋值的字段不在其中
+     */
+    Map<String, Integer> fieldOrdinals(TypeElement registrar) {
+        return methodOrdinals(registrar, "registrar");
+    }
+
+    /**
+     * 获取方法在静态初始化代码块中首次调用时的参数描述符
+     *
+     * @param registrar  注册器
+     * @param methodName 方法名
+     * @return 参数描述符
+     */
+    String parameterDesc(TypeElement registrar, String methodName) {
+        String cacheKey = key(registrar) + '#' + methodName;
+        String cached = parameterDescs.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        for (AbstractInsnNode node : clinit(registrar)) {
+            if (!(node instanceof MethodInsnNode m) || !m.name.equals(methodName)) {
+                continue;
+            }
+            Matcher matcher = PARAMETER_DESC.matcher(m.desc);
+            if (!matcher.find()) {
+                String msg = String.format("方法格式错误：方法 %s 的描述符格式不正确，请检查方法参数", methodName);
+                throw new MissingFormatArgumentException(msg);
+            }
+            parameterDescs.put(cacheKey, matcher.group(1));
+            return matcher.group(1);
+        }
+        throw new IllegalArgumentException(String.format(METHOD_NOT_FIND, registrar, methodName));
+    }
+
+    /**
+     * 获取每个字段在赋值前最后一次调用方法的全局调用序号<br>
+     * 一次遍历静态初始化代码块即可得到所有字段的序号，
+     * 自上一个字段赋值以来未调用过该方法的字段序号为 {@code -1}，以免将前一个字段的调用归属给它
+     *
+     * @param registrar  注册器
+     * @param methodName 方法名
+     * @return 以字段名为键的调用序号，未在静态初始化代码块中赋值的字段不在其中
+     */
+    Map<String, Integer> methodOrdinals(TypeElement registrar, String methodName) {
+        return methodOrdinals.computeIfAbsent(key(registrar) + '#' + methodName, name -> {
+            final String owner = classNode(registrar).name;
+
+            Map<String, Integer> ordinals = new HashMap<>();
+            int count = 0;
+            int sinceLastField = 0;
+            for (AbstractInsnNode node : clinit(registrar)) {
+                // 字段赋值时记录此前最后一次方法调用的序号，仅当该调用发生在上一个字段赋值之后
+                if (node instanceof FieldInsnNode field
+                        && field.getOpcode() == Opcodes.PUTSTATIC
+                        && owner.equals(field.owner)) {
+                    ordinals.putIfAbsent(field.name, sinceLastField > 0 ? count - 1 : -1);
+                    sinceLastField = 0;
+                }
+                // 统计全局方法的调用
+                if (node instanceof MethodInsnNode m && methodName.equals(m.name)) {
+                    count++;
+                    sinceLastField++;
+                }
+            }
+            return ordinals;
+        });
+    }
+
+    private InsnList clinit(TypeElement registrar) {
+        // 只关注类初始化方法
+        for (MethodNode method : classNode(registrar).methods) {
+            if ("<clinit>".equals(method.name)) {
+                return method.instructions;
+            }
+        }
+        return new InsnList();
+    }
+}
@@ -153,7 +153,7 @@ public final class ServerRegistrationProcessor extends AbstractProcessor {
             }
             // 创建一个文件
             try {
-                TypeSpec typeSpec = builder.build();
+                TypeSpec typeSpec = builder.addOriginatingElement(element).build();
                 FileObject existingFile = processingEnv.getFiler().getResource(
                         StandardLocation.SOURCE_OUTPUT, packageName, typeSpec.name + ".java");
                 if (existingFile != null && existingFile.getLastModified() > 0) {
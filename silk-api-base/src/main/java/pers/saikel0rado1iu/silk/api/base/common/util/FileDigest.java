@@ -0,0 +1,297 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.base.common.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>文件摘要</h2>
+ * 以流式方式计算文件摘要，并以 (路径, 大小, 修改时间, 文件键) 为键在内存与可选的磁盘缓存中缓存结果<br>
+ * 文件未发生变化时重复获取摘要不会再次读取文件<br>
+ * 磁盘缓存在新摘要产生后延迟 {@link FileDigest#FLUSH_DELAY_SECONDS} 秒批量写入，并在虚拟机关闭时写入；
+ * 写入时会丢弃文件已被删除或已被修改的条目
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.0.3
+ */
+public final class FileDigest {
+    /** 读取缓冲区大小 */
+    public static final int BUFFER_SIZE = 64 * 1024;
+    /** 磁盘缓存的写入延迟 */
+    public static final long FLUSH_DELAY_SECONDS = 5;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+    private static final Map<Key, String> MEMORY_CACHE = new ConcurrentHashMap<>();
+    private static final Object DISK_LOCK = new Object();
+    private static final AtomicBoolean DIRTY = new AtomicBoolean(false);
+    private static final AtomicBoolean FLUSH_SCHEDULED = new AtomicBoolean(false);
+    private static final ScheduledExecutorService FLUSH_POOL = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "silk-file-digest-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile Path diskCache = null;
+    private static boolean shutdownHookAdded = false;
+
+    private FileDigest() {
+    }
+
+    /**
+     * 启用磁盘缓存，缓存文件不存在时将在首次写入时创建
+     *
+     * @param cacheFile 缓存文件路径
+     */
+    public static void enableDiskCache(Path cacheFile) {
+        synchronized (DISK_LOCK) {
+            diskCache = cacheFile;
+            if (!shutdownHookAdded) {
+                shutdownHookAdded = true;
+                Runtime.getRuntime().addShutdownHook(new Thread(FileDigest::flush, "silk-file-digest-shutdown"));
+            }
+            if (!Files.isRegularFile(cacheFile)) return;
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                return;
+            }
+            properties.forEach((key, value) -> Key.parse(key.toString()).ifPresent(k -> MEMORY_CACHE.putIfAbsent(k, value.toString())));
+        }
+    }
+
+    /**
+     * 获取文件摘要
+     *
+     * @param path      文件 {@link Path}
+     * @param algorithm 摘要算法
+     * @return 十六进制摘要值，如果出现解析错误则返回空字符串
+     */
+    public static String get(Path path, Algorithm algorithm) {
+        Optional<Key> key = Key.of(path, algorithm);
+        if (key.isEmpty()) return "";
+        String cached = MEMORY_CACHE.get(key.get());
+        if (cached != null) return cached;
+        String digest = compute(path, algorithm);
+        if (digest.isEmpty()) return digest;
+        MEMORY_CACHE.put(key.get(), digest);
+        markDirty();
+        return digest;
+    }
+
+    /**
+     * 获取文件摘要而不读取或写入缓存，用于下载中的临时文件等只会计算一次的文件
+     *
+     * @param path      文件 {@link Path}
+     * @param algorithm 摘要算法
+     * @return 十六进制摘要值，如果出现解析错误则返回空字符串
+     */
+    public static String getUncached(Path path, Algorithm algorithm) {
+        return compute(path, algorithm);
+    }
+
+    /**
+     * 在公共线程池中异步获取文件摘要
+     *
+     * @param path      文件 {@link Path}
+     * @param algorithm 摘要算法
+     * @return 十六进制摘要值的 {@link CompletableFuture}
+     */
+    public static CompletableFuture<String> getAsync(Path path, Algorithm algorithm) {
+        return CompletableFuture.supplyAsync(() -> get(path, algorithm), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 并行获取多个文件的摘要，用于在启动时预先计算所有模组文件的摘要
+     *
+     * @param paths     文件 {@link Path} 集合
+     * @param algorithm 摘要算法
+     * @param executor  执行计算的线程池
+     * @return 以路径为键的摘要表的 {@link CompletableFuture}
+     */
+    public static CompletableFuture<Map<Path, String>> getAll(Collection<Path> paths, Algorithm algorithm, ExecutorService executor) {
+        Map<Path, CompletableFuture<String>> futures = new LinkedHashMap<>(paths.size());
+        for (Path path : paths) futures.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> get(p, algorithm), executor));
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(v -> {
+            Map<Path, String> digests = new LinkedHashMap<>(futures.size());
+            futures.forEach((path, future) -> digests.put(path, future.join()));
+            return Collections.unmodifiableMap(digests);
+        });
+    }
+
+    /**
+     * 清除内存缓存
+     */
+    public static void invalidateAll() {
+        MEMORY_CACHE.clear();
+    }
+
+    /**
+     * 将字节数组转换为小写十六进制字符串
+     *
+     * @param bytes 字节数组
+     * @return 十六进制字符串
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    private static String compute(Path path, Algorithm algorithm) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MessageDigest digest = algorithm.newDigest();
+            ByteBuffer buffer = BUFFER.get();
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return toHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return "";
+        }
+    }
+
+    /**
+     * 立即将内存缓存写入磁盘缓存，没有新摘要时不进行写入
+     */
+    public static void flush() {
+        Path cacheFile = diskCache;
+        if (cacheFile == null || !DIRTY.getAndSet(false)) return;
+        synchronized (DISK_LOCK) {
+            Properties properties = new Properties();
+            // 丢弃文件已被删除或已被修改的条目
+            MEMORY_CACHE.keySet().removeIf(Key::isStale);
+            MEMORY_CACHE.forEach((key, value) -> properties.setProperty(key.toString(), value));
+            try {
+                Path parent = cacheFile.toAbsolutePath().getParent();
+                if (parent != null) Files.createDirectories(parent);
+                Path temp = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    properties.store(writer, "Silk API file digest cache");
+                }
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static void markDirty() {
+        if (diskCache == null) return;
+        DIRTY.set(true);
+        if (!FLUSH_SCHEDULED.compareAndSet(false, true)) return;
+        FLUSH_POOL.schedule(() -> {
+            FLUSH_SCHEDULED.set(false);
+            flush();
+        }, FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 摘要算法
+     */
+    public enum Algorithm {
+        /** SHA-1 */
+        SHA_1("SHA-1"),
+        /** SHA-256 */
+        SHA_256("SHA-256"),
+        /** SHA-512 */
+        SHA_512("SHA-512");
+
+        private final String name;
+
+        Algorithm(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 创建新的摘要实例
+         *
+         * @return 摘要实例
+         * @throws NoSuchAlgorithmException 如果运行环境不支持此算法
+         */
+        public MessageDigest newDigest() throws NoSuchAlgorithmException {
+            return MessageDigest.getInstance(name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * 缓存键，文件大小、修改时间或文件键任一改变都会使缓存失效
+     *
+     * @param path         文件绝对路径
+     * @param algorithm    摘要算法
+     * @param size         文件大小
+     * @param lastModified 修改时间
+     * @param fileKey      文件键，文件系统不支持时为空字符串
+     */
+    private record Key(String path, Algorithm algorithm, long size, long lastModified, String fileKey) {
+        private static final String SEPARATOR = "|";
+
+        private static Optional<Key> of(Path path, Algorithm algorithm) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) return Optional.empty();
+                Object fileKey = attributes.fileKey();
+                return Optional.of(new Key(path.toAbsolutePath().normalize().toString(), algorithm, attributes.size(),
+                        attributes.lastModifiedTime().toMillis(), fileKey == null ? "" : fileKey.toString()));
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+
+        private boolean isStale() {
+            try {
+                return of(Path.of(path), algorithm).filter(this::equals).isEmpty();
+            } catch (InvalidPathException e) {
+                return true;
+            }
+        }
+
+        private static Optional<Key> parse(String key) {
+            String[] parts = key.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5) return Optional.empty();
+            try {
+                return Optional.of(new Key(parts[4], Algorithm.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public String toString() {
+            // 路径放在末尾，避免路径中的分隔符影响解析
+            return String.join(SEPARATOR, algorithm.name(), Long.toString(size), Long.toString(lastModified), fileKey, path);
+        }
+    }
+}
@@ -11,13 +11,7 @@
 
 package pers.saikel0rado1iu.silk.api.base.common.util;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.math.BigInteger;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 /**
  * <h2>Jar 包实用工具</h2>
@@ -30,34 +24,33 @@ import java.security.NoSuchAlgorithmException;
  */
 public interface JarUtil {
     /**
-     * 获取文件的 SHA-1
+     * 获取文件的 SHA-1<br>
+     * 结果由 {@link FileDigest} 缓存，文件未改变时不会重复读取
      *
      * @param path 文件 {@link Path}
      * @return SHA-1 值，如果出现解析错误则返回空字符串
      */
     static String getFileSha1(Path path) {
-        if (!path.toFile().isFile()) {
-            return "";
-        }
-        try (InputStream in = Files.newInputStream(path)) {
-            MessageDigest digest = MessageDigest.getInstance("SHA-1");
-            byte[] buffer = new byte[1024 * 1024 * 10];
+        return FileDigest.get(path, FileDigest.Algorithm.SHA_1);
+    }
 
-            int len;
-            while ((len = in.read(buffer)) > 0) {
-                digest.update(buffer, 0, len);
-            }
-            StringBuilder sha1 = new StringBuilder(new BigInteger(1, digest.digest()).toString(16));
-            int length = 40 - sha1.length();
-            if (length <= 0) {
-                return sha1.toString();
-            }
-            for (int i = 0; i < length; i++) {
-                sha1.insert(0, "0");
-            }
-            return sha1.toString();
-        } catch (IOException | NoSuchAlgorithmException e) {
-            return "";
-        }
+    /**
+     * 获取文件的 SHA-256
+     *
+     * @param path 文件 {@link Path}
+     * @return SHA-256 值，如果出现解析错误则返回空字符串
+     */
+    static String getFileSha256(Path path) {
+        return FileDigest.get(path, FileDigest.Algorithm.SHA_256);
+    }
+
+    /**
+     * 获取文件的 SHA-512
+     *
+     * @param path 文件 {@link Path}
+     * @return SHA-512 值，如果出现解析错误则返回空字符串
+     */
+    static String getFileSha512(Path path) {
+        return FileDigest.get(path, FileDigest.Algorithm.SHA_512);
     }
 }
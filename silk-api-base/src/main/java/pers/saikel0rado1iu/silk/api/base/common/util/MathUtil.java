@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.api.base.common.util;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * <h2>数学实用工具</h2>
@@ -23,15 +24,128 @@ import java.math.BigDecimal;
  * @since 0.1.0
  */
 public interface MathUtil {
+    /** 支持的最大小数位数 */
+    int MAX_DECIMAL_PLACES = 15;
+    /** 无分配小数位比较所能精确处理的最大放大值 */
+    double EXACT_ROUNDING_LIMIT = 0x1p40;
+
     /**
-     * 比较两个浮点数的值
+     * 比较两个浮点数的值<br>
+     * 结果与按十进制字符串表示构建 {@link BigDecimal} 后比较一致，但不产生任何分配：
+     * {@code 0.0} 与 {@code -0.0} 视为相等，无穷值按自然顺序比较，{@code NaN} 大于其他所有值且与自身相等
      *
      * @param f1 左浮点值
      * @param f2 右浮点值
      * @return -1 为小于；0 为等于；1 为大于
      */
     static int compareFloat(double f1, double f2) {
-        return new BigDecimal(String.valueOf(f1)).compareTo(new BigDecimal(String.valueOf(f2)));
+        if (f1 < f2) return -1;
+        if (f1 > f2) return 1;
+        if (f1 == f2) return 0;
+        return Double.compare(f1, f2);
+    }
+
+    /**
+     * 以 ULP（最小精度单位）距离比较两个浮点数的值
+     *
+     * @param f1       左浮点值
+     * @param f2       右浮点值
+     * @param maxUlps  视为相等的最大 ULP 距离
+     * @return -1 为小于；0 为等于；1 为大于
+     */
+    static int compareFloatUlps(double f1, double f2, long maxUlps) {
+        if (Double.isNaN(f1) || Double.isNaN(f2)) return compareFloat(f1, f2);
+        long ulps = ulpDistance(f1, f2);
+        return ulps <= maxUlps ? 0 : compareFloat(f1, f2);
+    }
+
+    /**
+     * 以绝对误差比较两个浮点数的值
+     *
+     * @param f1      左浮点值
+     * @param f2      右浮点值
+     * @param epsilon 视为相等的最大绝对误差
+     * @return -1 为小于；0 为等于；1 为大于
+     */
+    static int compareFloatAbs(double f1, double f2, double epsilon) {
+        return Math.abs(f1 - f2) <= epsilon ? 0 : compareFloat(f1, f2);
+    }
+
+    /**
+     * 以相对误差比较两个浮点数的值，误差以两值中绝对值较大者为基准
+     *
+     * @param f1      左浮点值
+     * @param f2      右浮点值
+     * @param epsilon 视为相等的最大相对误差
+     * @return -1 为小于；0 为等于；1 为大于
+     */
+    static int compareFloatRel(double f1, double f2, double epsilon) {
+        if (f1 == f2) return 0;
+        double diff = Math.abs(f1 - f2);
+        double scale = Math.max(Math.abs(f1), Math.abs(f2));
+        return diff <= scale * epsilon ? 0 : compareFloat(f1, f2);
+    }
+
+    /**
+     * 将两个浮点数四舍五入到指定小数位后比较<br>
+     * 结果与 {@link BigDecimal#setScale(int, RoundingMode)} 使用
+     * {@link RoundingMode#HALF_UP} 后比较一致：进位点按其最近的浮点数精确判断，
+     * 仅在放大后的值超过 {@link MathUtil#EXACT_ROUNDING_LIMIT} 时回退到十进制比较
+     *
+     * @param f1     左浮点值
+     * @param f2     右浮点值
+     * @param places 小数位数，范围为 0 到 {@link MathUtil#MAX_DECIMAL_PLACES}
+     * @return -1 为小于；0 为等于；1 为大于
+     */
+    static int compareFloat(double f1, double f2, int places) {
+        if (places < 0 || places > MAX_DECIMAL_PLACES) throw new IllegalArgumentException("places must be in [0, " + MAX_DECIMAL_PLACES + "], got " + places);
+        if (!Double.isFinite(f1) || !Double.isFinite(f2)) return compareFloat(f1, f2);
+        double pow10 = 1;
+        for (int count = 0; count < places; count++) pow10 *= 10;
+        // 放大后的值过大时进位点无法精确表示，此时回退到十进制比较
+        if (Math.max(Math.abs(f1), Math.abs(f2)) * pow10 >= EXACT_ROUNDING_LIMIT) {
+            return new BigDecimal(String.valueOf(f1)).setScale(places, RoundingMode.HALF_UP)
+                    .compareTo(new BigDecimal(String.valueOf(f2)).setScale(places, RoundingMode.HALF_UP));
+        }
+        return compareFloat(roundHalfUp(f1, pow10), roundHalfUp(f2, pow10));
+    }
+
+    /**
+     * 获取两个浮点数之间相隔的可表示浮点数个数
+     *
+     * @param f1 左浮点值
+     * @param f2 右浮点值
+     * @return ULP 距离，若其中一个值为 {@code NaN} 则返回 {@link Long#MAX_VALUE}
+     */
+    static long ulpDistance(double f1, double f2) {
+        if (Double.isNaN(f1) || Double.isNaN(f2)) return Long.MAX_VALUE;
+        long l1 = Double.doubleToRawLongBits(f1);
+        long l2 = Double.doubleToRawLongBits(f2);
+        // 将符号位表示转换为单调递增的二进制补码表示，使 -0.0 与 0.0 重合
+        if (l1 < 0) l1 = Long.MIN_VALUE - l1;
+        if (l2 < 0) l2 = Long.MIN_VALUE - l2;
+        long distance = l1 - l2;
+        // 溢出时说明两值分别位于极大的正负两端
+        if ((l1 ^ l2) < 0 && (l1 ^ distance) < 0) return Long.MAX_VALUE;
+        return Math.abs(distance);
+    }
+
+    /**
+     * 将浮点数按 {@link RoundingMode#HALF_UP} 四舍五入到指定小数位，并返回放大 10<sup>places</sup> 倍的值
+     *
+     * @param value 浮点值
+     * @param pow10 10<sup>places</sup>
+     * @return 放大后的整数值
+     */
+    private static double roundHalfUp(double value, double pow10) {
+        double abs = Math.abs(value);
+        double rounded = Math.rint(abs * pow10);
+        // 进位点 (2n ± 1) / (2 * 10^places) 的分子分母均可精确表示，其商即为十进制进位点最近的浮点数，
+        // 浮点数的最短十进制表示不小于进位点当且仅当其本身不小于该最近浮点数
+        double twicePow10 = pow10 * 2;
+        if (abs < (rounded * 2 - 1) / twicePow10) rounded--;
+        else if (abs >= (rounded * 2 + 1) / twicePow10) rounded++;
+        return Math.copySign(rounded, value) + 0.0;
     }
 
     /**
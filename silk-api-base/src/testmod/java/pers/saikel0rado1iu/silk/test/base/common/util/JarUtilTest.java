@@ -32,10 +32,13 @@ public interface JarUtilTest {
      */
     static void test() {
         try {
-            LOGGER.info("JarUtil.getFileSha1(*) = {}", JarUtil.getFileSha1(Path.of(JarUtilTest.class.getProtectionDomain()
-                                                                                                    .getCodeSource()
-                                                                                                    .getLocation()
-                                                                                                    .toURI())));
+            Path jar = Path.of(JarUtilTest.class.getProtectionDomain()
+                                                .getCodeSource()
+                                                .getLocation()
+                                                .toURI());
+            String sha1 = JarUtil.getFileSha1(jar);
+            LOGGER.info("JarUtil.getFileSha1(*) = {}", sha1);
+            LOGGER.info("JarUtil.getFileSha1(*) cached = {} (expected true)", sha1.equals(JarUtil.getFileSha1(jar)));
         } catch (URISyntaxException ignored) {
         }
     }
@@ -15,6 +15,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pers.saikel0rado1iu.silk.api.base.common.util.MathUtil;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
 /**
  * Test MathUtil
  */
@@ -23,6 +27,10 @@ public interface MathUtilTest {
      * 日志
      */
     Logger LOGGER = LoggerFactory.getLogger("SilkApiBase/TestingMathUtil");
+    /**
+     * 等价性测试的样本数
+     */
+    int SAMPLES = 3_000;
 
     /**
      * 测试
@@ -32,10 +40,51 @@ public interface MathUtilTest {
         LOGGER.info("MathUtil.compareFloat(1, 1) = {}", MathUtil.compareFloat(1, 1));
         LOGGER.info("MathUtil.compareFloat(1, 0.5) = {}", MathUtil.compareFloat(1, 0.5));
         LOGGER.info("MathUtil.compareFloat(1, 1.5) = {}", MathUtil.compareFloat(1, 1.5));
+        LOGGER.info("MathUtil.compareFloat(0.0, -0.0) = {}", MathUtil.compareFloat(0.0, -0.0));
+        LOGGER.info("MathUtil.compareFloat(1.005, 1.01, 2) = {}", MathUtil.compareFloat(1.005, 1.01, 2));
+        LOGGER.info("MathUtil.compareFloatUlps(0.1 + 0.2, 0.3, 1) = {}", MathUtil.compareFloatUlps(0.1 + 0.2, 0.3, 1));
+        LOGGER.info("MathUtil.compareFloatAbs(1, 1.001, 0.01) = {}", MathUtil.compareFloatAbs(1, 1.001, 0.01));
+        LOGGER.info("MathUtil.compareFloatRel(1000, 1001, 0.01) = {}", MathUtil.compareFloatRel(1000, 1001, 0.01));
+        LOGGER.info("MathUtil.ulpDistance(-0.0, Double.MIN_VALUE) = {}", MathUtil.ulpDistance(-0.0, Double.MIN_VALUE));
+        testCompareFloatProperty();
         LOGGER.info("MathUtil.xor(true, true) = {}", MathUtil.xor(true, true));
         LOGGER.info("MathUtil.xor(true, false) = {}", MathUtil.xor(true, false));
         LOGGER.info("MathUtil.xor(false, false) = {}", MathUtil.xor(false, false));
         LOGGER.info("MathUtil.toFloat(0.123456789) = {}", MathUtil.toFloat(0.123456789));
         LOGGER.info("MathUtil.toRadians(180) = {}", MathUtil.toRadians(180));
     }
+
+    /**
+     * 以 {@link BigDecimal} 十进制比较为参照，测试浮点比较的等价性
+     */
+    private static void testCompareFloatProperty() {
+        Random random = new Random(0);
+        int mismatches = 0;
+        int roundingMismatches = 0;
+        for (int count = 0; count < SAMPLES; count++) {
+            double f1 = switch (count % 3) {
+                case 0 -> random.nextDouble() * 200 - 100;
+                case 1 -> Math.round(random.nextDouble() * 100_000) / 1000.0;
+                default -> Double.longBitsToDouble(random.nextLong());
+            };
+            double f2 = count % 2 == 0 ? Math.nextUp(f1) : random.nextDouble() * 200 - 100;
+            if (!Double.isFinite(f1) || !Double.isFinite(f2)) continue;
+            int reference = new BigDecimal(String.valueOf(f1)).compareTo(new BigDecimal(String.valueOf(f2)));
+            if (reference != MathUtil.compareFloat(f1, f2)) mismatches++;
+            if (Math.abs(f1) > 1e12 || Math.abs(f2) > 1e12) continue;
+            int places = random.nextInt(8);
+            // 构建十进制进位点附近的值以覆盖二进制误差
+            double tie = (Math.floor(Math.abs(f1) * Math.pow(10, places)) + 0.5) / Math.pow(10, places);
+            double near = switch (count % 3) {
+                case 0 -> tie;
+                case 1 -> Math.nextUp(tie);
+                default -> Math.nextDown(tie);
+            };
+            int roundingReference = new BigDecimal(String.valueOf(near)).setScale(places, RoundingMode.HALF_UP)
+                    .compareTo(new BigDecimal(String.valueOf(tie)).setScale(places, RoundingMode.HALF_UP));
+            if (roundingReference != MathUtil.compareFloat(near, tie, places)) roundingMismatches++;
+        }
+        LOGGER.info("MathUtil.compareFloat property mismatches = {} (expected 0)", mismatches);
+        LOGGER.info("MathUtil.compareFloat(*, *, places) property mismatches = {} (expected 0)", roundingMismatches);
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.generate.advancement.criterion;
+
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.datafixer.DataFixTypes;
+import net.minecraft.nbt.*;
+import net.minecraft.predicate.NumberRange;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateManager;
+import pers.saikel0rado1iu.silk.impl.SilkApi;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <h2 style="color:FFC800">标准计数状态</h2>
+ * 用于储存需要在多次触发之间累计数量的标准的玩家计数<br>
+ * 条件的键在每个条件对象上只计算一次，并在状态中驻留为整数标识符，计数使用原始类型映射储存，只有计数真正改变时才会标记为脏数据<br>
+ * 读取旧版以字符串为键的储存格式时会自动迁移为新格式
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.2.3
+ */
+public final class CriterionCountState extends PersistentState {
+	private static final String CONDITIONS_KEY = "conditions";
+	private static final String PLAYERS_KEY = "players";
+	private static final String UUID_KEY = "uuid";
+	private static final String COUNTS_KEY = "counts";
+	private static final Map<Object, String> CONDITION_KEYS = new MapMaker().weakKeys().makeMap();
+	private static final Map<String, Type<CriterionCountState>> TYPES = new ConcurrentHashMap<>();
+	private final List<String> conditions = new ArrayList<>();
+	private final Object2IntOpenHashMap<String> conditionIds = new Object2IntOpenHashMap<>();
+	private final Map<UUID, Int2IntOpenHashMap> players = new HashMap<>();
+	
+	/**
+	 * 创建空的计数状态
+	 */
+	public CriterionCountState() {
+		conditionIds.defaultReturnValue(-1);
+	}
+	
+	/**
+	 * 获取条件对象的计数键，每个条件对象只会计算一次
+	 *
+	 * @param conditions 条件对象，以对象身份作为弱引用键缓存
+	 * @param factory    计数键的计算方法
+	 * @param <T>        条件类型
+	 * @return 计数键
+	 */
+	public static <T> String conditionKey(T conditions, Function<? super T, String> factory) {
+		return CONDITION_KEYS.computeIfAbsent(conditions, key -> factory.apply(conditions));
+	}
+	
+	/**
+	 * 获取服务端的计数状态
+	 *
+	 * @param server  服务器
+	 * @param stateId 状态 ID
+	 * @return 计数状态
+	 */
+	public static CriterionCountState get(MinecraftServer server, String stateId) {
+		PersistentStateManager persistentStateManager = server.getOverworld().getPersistentStateManager();
+		Type<CriterionCountState> type = TYPES.computeIfAbsent(stateId, id -> new Type<>(CriterionCountState::new, (nbt, registryLookup) -> createFromNbt(id, nbt), DataFixTypes.PLAYER));
+		return persistentStateManager.getOrCreate(type, SilkApi.getInternal().id() + '.' + stateId);
+	}
+	
+	/**
+	 * 从 NBT 中读取计数状态，如果是旧版格式则迁移为新格式
+	 *
+	 * @param stateId 状态 ID，旧版格式以此为根键储存计数
+	 * @param nbt     NBT 数据
+	 * @return 计数状态
+	 */
+	public static CriterionCountState createFromNbt(String stateId, NbtCompound nbt) {
+		CriterionCountState state = new CriterionCountState();
+		if (nbt.contains(stateId, NbtElement.COMPOUND_TYPE)) {
+			// 旧版格式：{stateId: {uuid: {counts: {conditions: count}}}}
+			NbtCompound playersNbt = nbt.getCompound(stateId);
+			for (String key : playersNbt.getKeys()) {
+				Int2IntOpenHashMap counts = new Int2IntOpenHashMap();
+				NbtCompound countsNbt = playersNbt.getCompound(key).getCompound(COUNTS_KEY);
+				for (String conditions : countsNbt.getKeys()) {
+					int count = countsNbt.getInt(conditions);
+					if (count != 0) counts.put(state.conditionId(conditions), count);
+				}
+				if (!counts.isEmpty()) state.players.put(UUID.fromString(key), counts);
+			}
+			state.markDirty();
+			return state;
+		}
+		NbtList conditionsNbt = nbt.getList(CONDITIONS_KEY, NbtElement.STRING_TYPE);
+		for (int i = 0; i < conditionsNbt.size(); i++) state.conditionId(conditionsNbt.getString(i));
+		NbtList playersNbt = nbt.getList(PLAYERS_KEY, NbtElement.COMPOUND_TYPE);
+		for (int i = 0; i < playersNbt.size(); i++) {
+			NbtCompound playerNbt = playersNbt.getCompound(i);
+			int[] pairs = playerNbt.getIntArray(COUNTS_KEY);
+			Int2IntOpenHashMap counts = new Int2IntOpenHashMap(pairs.length / 2);
+			for (int j = 0; j + 1 < pairs.length; j += 2) {
+				if (pairs[j] < state.conditions.size() && pairs[j + 1] != 0) counts.put(pairs[j], pairs[j + 1]);
+			}
+			if (!counts.isEmpty()) state.players.put(NbtHelper.toUuid(Objects.requireNonNull(playerNbt.get(UUID_KEY))), counts);
+		}
+		return state;
+	}
+	
+	/**
+	 * 获取计数键在此状态中的标识符，未出现过的计数键会分配新的标识符
+	 *
+	 * @param conditionKey 计数键
+	 * @return 标识符
+	 */
+	public int conditionId(String conditionKey) {
+		int id = conditionIds.getInt(conditionKey);
+		if (id != -1) return id;
+		id = conditions.size();
+		conditions.add(conditionKey);
+		conditionIds.put(conditionKey, id);
+		return id;
+	}
+	
+	/**
+	 * 获取玩家在条件下的计数
+	 *
+	 * @param player    玩家 UUID
+	 * @param condition 条件标识符
+	 * @return 计数
+	 */
+	public int getCount(UUID player, int condition) {
+		Int2IntOpenHashMap counts = players.get(player);
+		return counts == null ? 0 : counts.get(condition);
+	}
+	
+	/**
+	 * 累计玩家在条件下的计数，累计后的计数满足范围时将其清零
+	 *
+	 * @param player    玩家 UUID
+	 * @param condition 条件标识符
+	 * @param count     增加的计数
+	 * @param range     计数范围
+	 * @return 累计后的计数是否满足范围
+	 */
+	public boolean accumulate(UUID player, int condition, int count, NumberRange.IntRange range) {
+		Int2IntOpenHashMap counts = players.get(player);
+		int sum = (counts == null ? 0 : counts.get(condition)) + count;
+		if (range.test(sum)) {
+			if (counts != null && counts.remove(condition) != 0) {
+				if (counts.isEmpty()) players.remove(player);
+				markDirty();
+			}
+			return true;
+		}
+		if (counts == null) {
+			if (sum == 0) return false;
+			players.put(player, counts = new Int2IntOpenHashMap());
+		}
+		if (sum == 0 ? counts.remove(condition) != 0 : counts.put(condition, sum) != sum) markDirty();
+		return false;
+	}
+	
+	@Override
+	public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+		// 只写入仍有计数的条件，并重新分配连续的标识符
+		Int2IntOpenHashMap remap = new Int2IntOpenHashMap();
+		remap.defaultReturnValue(-1);
+		NbtList conditionsNbt = new NbtList();
+		NbtList playersNbt = new NbtList();
+		players.forEach((uuid, counts) -> {
+			IntArrayList pairs = new IntArrayList(counts.size() * 2);
+			for (Int2IntMap.Entry entry : counts.int2IntEntrySet()) {
+				int id = remap.get(entry.getIntKey());
+				if (id == -1) {
+					id = conditionsNbt.size();
+					remap.put(entry.getIntKey(), id);
+					conditionsNbt.add(NbtString.of(conditions.get(entry.getIntKey())));
+				}
+				pairs.add(id);
+				pairs.add(entry.getIntValue());
+			}
+			NbtCompound playerNbt = new NbtCompound();
+			playerNbt.put(UUID_KEY, NbtHelper.fromUuid(uuid));
+			playerNbt.putIntArray(COUNTS_KEY, pairs.toIntArray());
+			playersNbt.add(playerNbt);
+		});
+		nbt.put(CONDITIONS_KEY, conditionsNbt);
+		nbt.put(PLAYERS_KEY, playersNbt);
+		return nbt;
+	}
+}
@@ -13,45 +13,46 @@ package pers.saikel0rado1iu.silk.api.generate.advancement.criterion;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.minecraft.advancement.AdvancementCriterion;
 import net.minecraft.advancement.criterion.AbstractCriterion;
-import net.minecraft.datafixer.DataFixTypes;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.item.ItemConvertible;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
 import net.minecraft.loot.context.LootContext;
-import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.predicate.NumberRange;
 import net.minecraft.predicate.entity.EntityPredicate;
 import net.minecraft.predicate.entity.LootContextPredicate;
 import net.minecraft.predicate.item.ItemPredicate;
-import net.minecraft.registry.Registries;
-import net.minecraft.registry.RegistryWrapper;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.text.Text;
-import net.minecraft.util.Identifier;
-import net.minecraft.world.PersistentState;
-import net.minecraft.world.PersistentStateManager;
 import pers.saikel0rado1iu.silk.impl.SilkApi;
 
-import java.util.HashMap;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * <h2 style="color:FFC800">远程武器击杀实体标准</h2>
- * 远程武器是通过发射物的自定义名称中储存的物品标识符来判断的<br>
+ * 远程武器是通过发射物上的 {@link RangedKilledEntityCriterion#RANGED_WEAPON} 附件来判断的<br>
  * 需要使用 {@link RangedKilledEntityCriterion#setRangedWeapon(Entity, ItemStack)} 将远程武器手动添加到发射物中<br>
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 0.1.0
  */
+@SuppressWarnings("UnstableApiUsage")
 public class RangedKilledEntityCriterion extends AbstractCriterion<RangedKilledEntityCriterion.Conditions> {
+	/**
+	 * 发射物的远程武器附件<br>
+	 * 储存射击时远程武器的物品与组件，不会被渲染，并随发射物一同保存
+	 *
+	 * @since 1.2.3
+	 */
+	public static final AttachmentType<ItemStack> RANGED_WEAPON = AttachmentRegistry.<ItemStack>builder()
+			.persistent(ItemStack.CODEC)
+			.buildAndRegister(SilkApi.getInternal().ofId("ranged_weapon"));
+	private static final String STATE_ID = "rangedKilledEntityCriterion";
+	
 	/**
 	 * 设置远程武器
 	 *
@@ -59,7 +60,19 @@ public class RangedKilledEntityCriterion extends AbstractCriterion<RangedKilledE
 	 * @param ranged     远程武器
 	 */
 	public static void setRangedWeapon(Entity projectile, ItemStack ranged) {
-		projectile.setCustomName(Text.literal(Registries.ITEM.getId(ranged.getItem()).toString()));
+		if (ranged.isEmpty()) projectile.removeAttached(RANGED_WEAPON);
+		else projectile.setAttached(RANGED_WEAPON, ranged.copyWithCount(1));
+	}
+	
+	/**
+	 * 获取远程武器
+	 *
+	 * @param projectile 发射物实体
+	 * @return 远程武器，如果发射物未设置远程武器则为空物品堆栈
+	 * @since 1.2.3
+	 */
+	public static ItemStack getRangedWeapon(Entity projectile) {
+		return projectile.getAttachedOrElse(RANGED_WEAPON, ItemStack.EMPTY);
 	}
 	
 	/**
@@ -155,18 +168,17 @@ public class RangedKilledEntityCriterion extends AbstractCriterion<RangedKilledE
 		public boolean matches(ServerPlayerEntity player, LootContext killedEntityContext, Entity entity, int count) {
 			if (target.isPresent() && !target.get().test(killedEntityContext)) return false;
 			if (entity == null) return false;
-			String[] id = Optional.ofNullable(Optional.ofNullable(entity.getCustomName()).orElse(Text.literal("")).getLiteralString()).orElse("").split(":");
-			ItemStack stack = new ItemStack("".equals(id[0]) ? Items.AIR : Registries.ITEM.get(Identifier.of(id[0], id[1])));
-			if (ranged.isEmpty() || !ranged.get().test(stack)) return false;
+			if (ranged.isEmpty() || !ranged.get().test(getRangedWeapon(entity))) return false;
 			if (projectile.isPresent() && !projectile.get().test(player, entity)) return false;
-			CountState.Data data = CountState.getPlayerState(player);
+			CriterionCountState state = CriterionCountState.get(Optional.ofNullable(player.getServer()).orElseThrow(), STATE_ID);
+			int conditions = state.conditionId(CriterionCountState.conditionKey(this, Conditions::countKey));
+			return state.accumulate(player.getUuid(), conditions, count, killed);
+		}
+		
+		private String countKey() {
+			// 与旧版储存格式中的字符串键保持一致，以便迁移旧的计数
 			String targetString = target.map(lootContextPredicate -> LootContextPredicate.CODEC.encodeStart(NbtOps.INSTANCE, lootContextPredicate).result().toString()).orElseGet(() -> Optional.empty().toString());
-			String conditions = ranged + targetString + projectile + killed;
-			data.counts.put(conditions, Optional.ofNullable(data.counts.get(conditions)).orElse(0) + count);
-			int countSum = Optional.ofNullable(data.counts.get(conditions)).orElse(0);
-			if (!killed.test(countSum)) return false;
-			data.counts.put(conditions, 0);
-			return true;
+			return ranged + targetString + projectile + killed;
 		}
 		
 		@Override
@@ -233,53 +245,4 @@ public class RangedKilledEntityCriterion extends AbstractCriterion<RangedKilledE
 			}
 		}
 	}
-	
-	private static class CountState extends PersistentState {
-		public static final String STATE_ID = "rangedKilledEntityCriterion";
-		private static final Type<CountState> TYPE = new Type<>(CountState::new, CountState::createFromNbt, DataFixTypes.PLAYER);
-		private final HashMap<UUID, Data> players = new HashMap<>();
-		
-		private static CountState createFromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
-			CountState state = new CountState();
-			NbtCompound playersNbt = nbt.getCompound(STATE_ID);
-			playersNbt.getKeys().forEach(key -> {
-				Data data = new Data();
-				NbtCompound countsNbt = playersNbt.getCompound(key).getCompound("counts");
-				countsNbt.getKeys().forEach(conditions -> data.counts.put(conditions, countsNbt.getInt(conditions)));
-				UUID uuid = UUID.fromString(key);
-				state.players.put(uuid, data);
-			});
-			return state;
-		}
-		
-		private static CountState getServerState(MinecraftServer server) {
-			PersistentStateManager persistentStateManager = server.getOverworld().getPersistentStateManager();
-			CountState state = persistentStateManager.getOrCreate(TYPE, SilkApi.getInternal().id() + '.' + STATE_ID);
-			state.markDirty();
-			return state;
-		}
-		
-		private static Data getPlayerState(LivingEntity player) {
-			CountState serverState = getServerState(Optional.ofNullable(player.getWorld().getServer()).orElseThrow());
-			return serverState.players.computeIfAbsent(player.getUuid(), uuid -> new Data());
-		}
-		
-		@Override
-		public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
-			NbtCompound playersNbt = new NbtCompound();
-			players.forEach((uuid, data) -> {
-				NbtCompound playerNbt = new NbtCompound();
-				NbtCompound countsNbt = new NbtCompound();
-				data.counts.forEach(countsNbt::putInt);
-				playerNbt.put("counts", countsNbt);
-				playersNbt.put(uuid.toString(), playerNbt);
-			});
-			nbt.put(STATE_ID, playersNbt);
-			return nbt;
-		}
-		
-		private static class Data {
-			private final HashMap<String, Integer> counts = new HashMap<>();
-		}
-	}
 }
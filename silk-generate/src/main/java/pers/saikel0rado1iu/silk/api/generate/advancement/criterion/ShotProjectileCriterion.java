@@ -15,26 +15,16 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.advancement.AdvancementCriterion;
 import net.minecraft.advancement.criterion.AbstractCriterion;
-import net.minecraft.datafixer.DataFixTypes;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.item.ItemConvertible;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NbtCompound;
 import net.minecraft.predicate.NumberRange;
 import net.minecraft.predicate.entity.EntityPredicate;
 import net.minecraft.predicate.entity.LootContextPredicate;
 import net.minecraft.predicate.item.ItemPredicate;
-import net.minecraft.registry.RegistryWrapper;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.world.PersistentState;
-import net.minecraft.world.PersistentStateManager;
-import pers.saikel0rado1iu.silk.impl.SilkApi;
 
-import java.util.HashMap;
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * <h2 style="color:FFC800">射击发射物标准</h2>
@@ -43,6 +33,8 @@ import java.util.UUID;
  * @since 0.1.0
  */
 public class ShotProjectileCriterion extends AbstractCriterion<ShotProjectileCriterion.Conditions> {
+	private static final String STATE_ID = "shotProjectileCriterion";
+	
 	/**
 	 * 触发方法
 	 *
@@ -133,13 +125,14 @@ public class ShotProjectileCriterion extends AbstractCriterion<ShotProjectileCri
 		public boolean matches(ServerPlayerEntity player, ItemStack stack, Entity entity, int count) {
 			if (ranged.isEmpty() || !ranged.get().test(stack)) return false;
 			if (projectile.isPresent() && !projectile.get().test(player, entity)) return false;
-			CountState.Data data = CountState.getPlayerState(player);
-			String conditions = "" + ranged + projectile + amount;
-			data.counts.put(conditions, Optional.ofNullable(data.counts.get(conditions)).orElse(0) + count);
-			int countSum = Optional.ofNullable(data.counts.get(conditions)).orElse(0);
-			if (!amount.test(countSum)) return false;
-			data.counts.put(conditions, 0);
-			return true;
+			CriterionCountState state = CriterionCountState.get(Optional.ofNullable(player.getServer()).orElseThrow(), STATE_ID);
+			int conditions = state.conditionId(CriterionCountState.conditionKey(this, Conditions::countKey));
+			return state.accumulate(player.getUuid(), conditions, count, amount);
+		}
+		
+		private String countKey() {
+			// 与旧版储存格式中的字符串键保持一致，以便迁移旧的计数
+			return "" + ranged + projectile + amount;
 		}
 		
 		@Override
@@ -193,53 +186,4 @@ public class ShotProjectileCriterion extends AbstractCriterion<ShotProjectileCri
 			}
 		}
 	}
-	
-	private static class CountState extends PersistentState {
-		public static final String STATE_ID = "shotProjectileCriterion";
-		private static final Type<CountState> TYPE = new Type<>(CountState::new, CountState::createFromNbt, DataFixTypes.PLAYER);
-		private final HashMap<UUID, Data> players = new HashMap<>();
-		
-		private static CountState createFromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
-			CountState state = new CountState();
-			NbtCompound playersNbt = nbt.getCompound(STATE_ID);
-			playersNbt.getKeys().forEach(key -> {
-				Data data = new Data();
-				NbtCompound countsNbt = playersNbt.getCompound(key).getCompound("counts");
-				countsNbt.getKeys().forEach(conditions -> data.counts.put(conditions, countsNbt.getInt(conditions)));
-				UUID uuid = UUID.fromString(key);
-				state.players.put(uuid, data);
-			});
-			return state;
-		}
-		
-		private static CountState getServerState(MinecraftServer server) {
-			PersistentStateManager persistentStateManager = server.getOverworld().getPersistentStateManager();
-			CountState state = persistentStateManager.getOrCreate(TYPE, SilkApi.getInternal().id() + '.' + STATE_ID);
-			state.markDirty();
-			return state;
-		}
-		
-		private static Data getPlayerState(LivingEntity player) {
-			CountState serverState = getServerState(Optional.ofNullable(player.getWorld().getServer()).orElseThrow());
-			return serverState.players.computeIfAbsent(player.getUuid(), uuid -> new Data());
-		}
-		
-		@Override
-		public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
-			NbtCompound playersNbt = new NbtCompound();
-			players.forEach((uuid, data) -> {
-				NbtCompound playerNbt = new NbtCompound();
-				NbtCompound countsNbt = new NbtCompound();
-				data.counts.forEach(countsNbt::putInt);
-				playerNbt.put("counts", countsNbt);
-				playersNbt.put(uuid.toString(), playerNbt);
-			});
-			nbt.put(STATE_ID, playersNbt);
-			return nbt;
-		}
-		
-		private static class Data {
-			private final HashMap<String, Integer> counts = new HashMap<>();
-		}
-	}
 }
@@ -11,11 +11,13 @@
 
 package pers.saikel0rado1iu.silk.mixin.generate.advancement.criterion;
 
+import com.llamalad7.mixinextras.sugar.Local;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.projectile.ProjectileEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -23,10 +25,8 @@ import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import pers.saikel0rado1iu.silk.api.generate.advancement.criterion.Criteria;
 import pers.saikel0rado1iu.silk.api.generate.advancement.criterion.RangedKilledEntityCriterion;
@@ -61,18 +61,9 @@ public interface RangedKilledEntityCriterionMixin {
 	 */
 	@Mixin(net.minecraft.item.RangedWeaponItem.class)
 	abstract class RangedWeaponItem {
-		@Unique
-		private ItemStack stack;
-		
-		@Inject(method = "shootAll", at = @At("HEAD"))
-		private void shootAll(ServerWorld world, LivingEntity shooter, Hand hand, ItemStack stack, List<ItemStack> projectiles, float speed, float divergence, boolean critical, LivingEntity target, CallbackInfo ci) {
-			this.stack = stack;
-		}
-		
-		@ModifyArg(method = "shootAll", at = @At(value = "INVOKE", target = "L net/minecraft/server/world/ServerWorld;spawnEntity(L net/minecraft/entity/Entity;)Z"))
-		private Entity getEntity(Entity entity) {
-			RangedKilledEntityCriterion.setRangedWeapon(entity, stack);
-			return entity;
+		@Inject(method = "shootAll", at = @At(value = "INVOKE", target = "L net/minecraft/server/world/ServerWorld;spawnEntity(L net/minecraft/entity/Entity;)Z"))
+		private void shootAll(ServerWorld world, LivingEntity shooter, Hand hand, ItemStack stack, List<ItemStack> projectiles, float speed, float divergence, boolean critical, LivingEntity target, CallbackInfo ci, @Local ProjectileEntity projectile) {
+			RangedKilledEntityCriterion.setRangedWeapon(projectile, stack);
 		}
 	}
 }
@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.test.generate;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.resource.ResourcePackActivationType;
 import pers.saikel0rado1iu.silk.api.modpass.ModData;
 import pers.saikel0rado1iu.silk.api.modpass.ModMain;
@@ -20,6 +21,8 @@ import pers.saikel0rado1iu.silk.api.modpass.pack.DataPack;
 import pers.saikel0rado1iu.silk.api.modpass.pack.ResourcePack;
 import pers.saikel0rado1iu.silk.api.modpass.registry.MainRegistrationProvider;
 import pers.saikel0rado1iu.silk.impl.SilkApi;
+import pers.saikel0rado1iu.silk.test.generate.advancement.criterion.CriterionCountStateTest;
+import pers.saikel0rado1iu.silk.test.generate.advancement.criterion.RangedWeaponAttributionTest;
 
 import java.util.Optional;
 import java.util.Set;
@@ -55,6 +58,8 @@ public final class Main implements ModMain {
 	 */
 	@Override
 	public void main(ModPass mod) {
+		CriterionCountStateTest.test();
+		ServerLifecycleEvents.SERVER_STARTED.register(RangedWeaponAttributionTest::test);
 	}
 	
 	/**
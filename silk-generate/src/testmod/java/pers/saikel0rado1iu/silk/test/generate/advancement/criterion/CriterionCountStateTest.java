@@ -0,0 +1,127 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.generate.advancement.criterion;
+
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.predicate.NumberRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.generate.advancement.criterion.CriterionCountState;
+import pers.saikel0rado1iu.silk.api.generate.advancement.criterion.ShotProjectileCriterion;
+
+import java.util.*;
+
+/**
+ * Test {@link CriterionCountState}
+ */
+public interface CriterionCountStateTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkGenerate/TestingCriterionCountState");
+	/**
+	 * 状态 ID
+	 */
+	String STATE_ID = "shotProjectileCriterion";
+	
+	/**
+	 * 测试
+	 */
+	static void test() {
+		testMigration();
+		testDirty();
+		testEquivalence(20, 200);
+	}
+	
+	/**
+	 * 与旧版储存格式中的计数键一致
+	 *
+	 * @param conditions 条件
+	 * @return 计数键
+	 */
+	static String legacyKey(ShotProjectileCriterion.Conditions conditions) {
+		return "" + conditions.ranged() + conditions.projectile() + conditions.amount();
+	}
+	
+	/**
+	 * 测试旧版储存格式的迁移
+	 */
+	static void testMigration() {
+		ShotProjectileCriterion.Conditions conditions = ShotProjectileCriterion.Conditions.ranged(Items.BOW).amount(NumberRange.IntRange.atLeast(10)).build();
+		UUID player = UUID.randomUUID();
+		NbtCompound counts = new NbtCompound();
+		counts.putInt(legacyKey(conditions), 7);
+		NbtCompound playerNbt = new NbtCompound();
+		playerNbt.put("counts", counts);
+		NbtCompound players = new NbtCompound();
+		players.put(player.toString(), playerNbt);
+		NbtCompound legacy = new NbtCompound();
+		legacy.put(STATE_ID, players);
+		CriterionCountState migrated = CriterionCountState.createFromNbt(STATE_ID, legacy);
+		int condition = migrated.conditionId(CriterionCountState.conditionKey(conditions, CriterionCountStateTest::legacyKey));
+		LOGGER.info("migrated count = {} (expected 7), dirty = {} (expected true)", migrated.getCount(player, condition), migrated.isDirty());
+		CriterionCountState reloaded = CriterionCountState.createFromNbt(STATE_ID, migrated.writeNbt(new NbtCompound(), null));
+		int reloadedCondition = reloaded.conditionId(CriterionCountState.conditionKey(conditions, CriterionCountStateTest::legacyKey));
+		LOGGER.info("reloaded count = {} (expected 7), dirty = {} (expected false)", reloaded.getCount(player, reloadedCondition), reloaded.isDirty());
+		LOGGER.info("accumulate 3 = {} (expected true), count = {} (expected 0)", reloaded.accumulate(player, reloadedCondition, 3, conditions.amount()), reloaded.getCount(player, reloadedCondition));
+	}
+	
+	/**
+	 * 测试只有计数真正改变时才标记为脏数据
+	 */
+	static void testDirty() {
+		CriterionCountState state = new CriterionCountState();
+		UUID player = UUID.randomUUID();
+		int condition = state.conditionId("any");
+		state.accumulate(player, condition, 1, NumberRange.IntRange.ANY);
+		LOGGER.info("dirty after matching ANY = {} (expected false)", state.isDirty());
+		state.accumulate(player, condition, 1, NumberRange.IntRange.atLeast(5));
+		LOGGER.info("dirty after counting = {} (expected true)", state.isDirty());
+	}
+	
+	/**
+	 * 模拟多个玩家射击，对比旧版以字符串为键的计数方式的达成次数
+	 *
+	 * @param playerCount 玩家数量
+	 * @param shots       每个玩家的射击次数
+	 */
+	static void testEquivalence(int playerCount, int shots) {
+		List<ShotProjectileCriterion.Conditions> conditionsList = List.of(
+				ShotProjectileCriterion.Conditions.ranged(Items.BOW).build(),
+				ShotProjectileCriterion.Conditions.ranged(Items.BOW).amount(NumberRange.IntRange.atLeast(50)).build(),
+				ShotProjectileCriterion.Conditions.ranged(Items.CROSSBOW).amount(NumberRange.IntRange.atLeast(100)).build(),
+				ShotProjectileCriterion.Conditions.ranged(Items.CROSSBOW).amount(NumberRange.IntRange.exactly(64)).build());
+		List<UUID> players = new ArrayList<>(playerCount);
+		for (int i = 0; i < playerCount; i++) players.add(UUID.randomUUID());
+		HashMap<UUID, HashMap<String, Integer>> legacy = new HashMap<>();
+		int legacyMatched = 0;
+		CriterionCountState state = new CriterionCountState();
+		int matched = 0;
+		for (int shot = 0; shot < shots; shot++) {
+			for (UUID player : players) {
+				HashMap<String, Integer> counts = legacy.computeIfAbsent(player, uuid -> new HashMap<>());
+				for (ShotProjectileCriterion.Conditions conditions : conditionsList) {
+					String key = legacyKey(conditions);
+					counts.put(key, Optional.ofNullable(counts.get(key)).orElse(0) + 1);
+					if (conditions.amount().test(Optional.ofNullable(counts.get(key)).orElse(0))) {
+						counts.put(key, 0);
+						legacyMatched++;
+					}
+					int condition = state.conditionId(CriterionCountState.conditionKey(conditions, CriterionCountStateTest::legacyKey));
+					if (state.accumulate(player, condition, 1, conditions.amount())) matched++;
+				}
+			}
+		}
+		LOGGER.info("{} shots: typed matched = {} (expected {})", playerCount * shots, matched, legacyMatched);
+	}
+}
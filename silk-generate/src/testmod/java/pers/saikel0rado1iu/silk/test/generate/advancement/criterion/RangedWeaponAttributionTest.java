@@ -0,0 +1,129 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.generate.advancement.criterion;
+
+import com.mojang.authlib.GameProfile;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.ChargedProjectilesComponent;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.projectile.PersistentProjectileEntity;
+import net.minecraft.item.CrossbowItem;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.predicate.entity.EntityPredicate;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.generate.advancement.criterion.RangedKilledEntityCriterion;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Test {@link RangedKilledEntityCriterion#RANGED_WEAPON}
+ */
+public interface RangedWeaponAttributionTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkGenerate/TestingRangedWeaponAttribution");
+	/**
+	 * 每名射手的射击次数
+	 */
+	int ROUNDS = 16;
+	
+	/**
+	 * 测试两名射手在同一刻内交替使用不同武器射击时的远程武器归属<br>
+	 * 射击均经过 {@code RangedWeaponItem.shootAll}，并在服务端线程上执行
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		ServerWorld world = server.getOverworld();
+		BlockPos spawn = world.getSpawnPos().up(64);
+		FakePlayer archer = FakePlayer.get(world, new GameProfile(UUID.randomUUID(), "archer"));
+		FakePlayer crossbowman = FakePlayer.get(world, new GameProfile(UUID.randomUUID(), "crossbowman"));
+		archer.refreshPositionAndAngles(spawn, 0, 0);
+		crossbowman.refreshPositionAndAngles(spawn.east(4), 0, 0);
+		ItemStack bow = Items.BOW.getDefaultStack();
+		ItemStack crossbow = Items.CROSSBOW.getDefaultStack();
+		Text crossbowName = Text.literal("Named Crossbow");
+		crossbow.set(DataComponentTypes.CUSTOM_NAME, crossbowName);
+		archer.setStackInHand(Hand.MAIN_HAND, bow);
+		archer.getInventory().insertStack(new ItemStack(Items.ARROW, ROUNDS));
+		crossbowman.setStackInHand(Hand.MAIN_HAND, crossbow);
+		for (int round = 0; round < ROUNDS; round++) {
+			// 两名射手交替射击，两者的射击处于同一刻内
+			Items.BOW.onStoppedUsing(bow, world, archer, 0);
+			crossbow.set(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.of(Items.ARROW.getDefaultStack()));
+			((CrossbowItem) Items.CROSSBOW).shootAll(world, crossbowman, Hand.MAIN_HAND, crossbow, 3.15F, 1, null);
+		}
+		RangedKilledEntityCriterion.Conditions bowConditions = RangedKilledEntityCriterion.Conditions.ranged(Items.BOW).build();
+		RangedKilledEntityCriterion.Conditions crossbowConditions = RangedKilledEntityCriterion.Conditions.ranged(Items.CROSSBOW).build();
+		List<PersistentProjectileEntity> arrows = projectiles(world, archer);
+		List<PersistentProjectileEntity> bolts = projectiles(world, crossbowman);
+		int wrong = 0;
+		int misattributed = 0;
+		for (PersistentProjectileEntity arrow : arrows) {
+			if (!isAttributed(arrow, Items.BOW, null, bow)) wrong++;
+			if (!bowConditions.matches(archer, EntityPredicate.createAdvancementEntityLootContext(archer, arrow), arrow, 1)
+					|| crossbowConditions.matches(archer, EntityPredicate.createAdvancementEntityLootContext(archer, arrow), arrow, 1)) {
+				misattributed++;
+			}
+		}
+		for (PersistentProjectileEntity bolt : bolts) {
+			if (!isAttributed(bolt, Items.CROSSBOW, crossbowName, crossbow)) wrong++;
+			if (!crossbowConditions.matches(crossbowman, EntityPredicate.createAdvancementEntityLootContext(crossbowman, bolt), bolt, 1)
+					|| bowConditions.matches(crossbowman, EntityPredicate.createAdvancementEntityLootContext(crossbowman, bolt), bolt, 1)) {
+				misattributed++;
+			}
+		}
+		LOGGER.info("Shot {} arrows (expected {}) and {} bolts (expected {}) in one tick", arrows.size(), ROUNDS, bolts.size(), ROUNDS);
+		LOGGER.info("Wrong weapon attachments = {} (expected 0), wrong criterion attributions = {} (expected 0)", wrong, misattributed);
+		arrows.forEach(Entity::discard);
+		bolts.forEach(Entity::discard);
+	}
+	
+	/**
+	 * 检查发射物附件中的远程武器是否为射击时的武器
+	 *
+	 * @param projectile 发射物
+	 * @param item       武器物品
+	 * @param name       武器的自定义名称
+	 * @param weapon     射手手中的武器堆栈
+	 * @return 是否归属正确
+	 */
+	static boolean isAttributed(Entity projectile, Item item, Text name, ItemStack weapon) {
+		ItemStack attributed = RangedKilledEntityCriterion.getRangedWeapon(projectile);
+		// 附件必须是武器的副本，且不能通过发射物名称储存
+		return attributed.isOf(item) && attributed != weapon && Objects.equals(attributed.get(DataComponentTypes.CUSTOM_NAME), name) && !projectile.hasCustomName();
+	}
+	
+	/**
+	 * 获取射手射出的发射物
+	 *
+	 * @param world   服务端世界
+	 * @param shooter 射手
+	 * @return 发射物列表
+	 */
+	static List<PersistentProjectileEntity> projectiles(ServerWorld world, Entity shooter) {
+		return world.getEntitiesByClass(PersistentProjectileEntity.class, new Box(shooter.getBlockPos()).expand(4), projectile -> projectile.getOwner() == shooter);
+	}
+}
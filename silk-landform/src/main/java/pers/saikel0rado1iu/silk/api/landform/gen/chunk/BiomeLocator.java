@@ -0,0 +1,163 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.landform.gen.chunk;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mojang.datafixers.util.Pair;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeCoords;
+import net.minecraft.world.biome.source.BiomeSource;
+import net.minecraft.world.biome.source.util.MultiNoiseUtil;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <h2 style="color:FFC800">生物群系定位器</h2>
+ * {@link ModifiedChunkGenerator} 的生物群系定位引擎<br>
+ * 以原点为中心按方环由内向外搜索，找到第一个符合的列后立即停止；
+ * 每一列在各个检查高度上的生物群系源会被缓存，与谓词无关，因此可被之后的定位复用
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.0.6
+ */
+public final class BiomeLocator {
+	/**
+	 * 列缓存的最大列数
+	 */
+	public static final int COLUMN_CACHE_SIZE = 1 << 16;
+	private final ModifiedChunkGenerator generator;
+	private final Cache<Column, BiomeSource[]> columns = CacheBuilder.newBuilder().maximumSize(COLUMN_CACHE_SIZE).build();
+	
+	BiomeLocator(ModifiedChunkGenerator generator) {
+		this.generator = generator;
+	}
+	
+	/**
+	 * 定位生物群系
+	 *
+	 * @param origin                       原始块坐标
+	 * @param radius                       侦测半径
+	 * @param horizontalBlockCheckInterval 水平方块检查间隔
+	 * @param verticalBlockCheckInterval   垂直方块检查间隔
+	 * @param predicate                    生物群系谓词
+	 * @param noiseSampler                 多重噪声采样器
+	 * @param world                        服务端游戏世界
+	 * @return 块坐标与生物群系的配对
+	 */
+	public Optional<Pair<BlockPos, RegistryEntry<Biome>>> locate(BlockPos origin, int radius, int horizontalBlockCheckInterval, int verticalBlockCheckInterval, Predicate<RegistryEntry<Biome>> predicate, MultiNoiseUtil.MultiNoiseSampler noiseSampler, ServerWorld world) {
+		return search(origin, radius, horizontalBlockCheckInterval, verticalBlockCheckInterval, predicate, world, pos -> surface(pos, noiseSampler, world));
+	}
+	
+	/**
+	 * 异步定位生物群系，用于命令等不需要立即得到结果的场合<br>
+	 * 生物群系源的搜索在提供的执行器中进行，找到的列的地表高度会回到服务器线程中查找
+	 *
+	 * @param origin                       原始块坐标
+	 * @param radius                       侦测半径
+	 * @param horizontalBlockCheckInterval 水平方块检查间隔
+	 * @param verticalBlockCheckInterval   垂直方块检查间隔
+	 * @param predicate                    生物群系谓词
+	 * @param noiseSampler                 多重噪声采样器
+	 * @param world                        服务端游戏世界
+	 * @param executor                     执行搜索的执行器
+	 * @return 块坐标与生物群系的配对
+	 */
+	public CompletableFuture<Optional<Pair<BlockPos, RegistryEntry<Biome>>>> locateAsync(BlockPos origin, int radius, int horizontalBlockCheckInterval, int verticalBlockCheckInterval, Predicate<RegistryEntry<Biome>> predicate, MultiNoiseUtil.MultiNoiseSampler noiseSampler, ServerWorld world, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> search(origin, radius, horizontalBlockCheckInterval, verticalBlockCheckInterval, predicate, world, Optional::of), executor)
+				.thenApplyAsync(column -> column.flatMap(pos -> surface(pos, noiseSampler, world)), world.getServer());
+	}
+	
+	/**
+	 * 清除列缓存
+	 */
+	public void invalidate() {
+		columns.invalidateAll();
+	}
+	
+	/**
+	 * 获取已缓存的列数
+	 *
+	 * @return 列数
+	 */
+	public long cachedColumns() {
+		return columns.size();
+	}
+	
+	private <T> Optional<T> search(BlockPos origin, int radius, int horizontalInterval, int verticalInterval, Predicate<RegistryEntry<Biome>> predicate, ServerWorld world, Function<BlockPos, Optional<T>> resolver) {
+		int step = Math.max(1, horizontalInterval);
+		int rings = radius / step;
+		int topY = world.getTopY();
+		int bottomY = world.getBottomY();
+		int interval = Math.max(1, verticalInterval);
+		Reference2BooleanMap<BiomeSource> matches = new Reference2BooleanOpenHashMap<>();
+		for (int ring = 0; ring <= rings; ring++) {
+			for (int dx = -ring; dx <= ring; dx++) {
+				boolean edgeX = Math.abs(dx) == ring;
+				// 非边缘的行只有上下两个点位于当前方环上
+				for (int dz = -ring; dz <= ring; dz += edgeX ? 1 : Math.max(1, 2 * ring)) {
+					int x = origin.getX() + dx * step;
+					int z = origin.getZ() + dz * step;
+					BiomeSource[] samples = samples(x, z, topY, bottomY, interval);
+					for (int index = 0; index < samples.length; index++) {
+						if (!matches(samples[index], predicate, matches)) continue;
+						Optional<T> result = resolver.apply(new BlockPos(x, topY - index * interval, z));
+						if (result.isPresent()) return result;
+					}
+				}
+			}
+		}
+		return Optional.empty();
+	}
+	
+	private boolean matches(BiomeSource source, Predicate<RegistryEntry<Biome>> predicate, Reference2BooleanMap<BiomeSource> matches) {
+		if (source == null || source == generator.getBiomeSource()) return false;
+		if (matches.containsKey(source)) return matches.getBoolean(source);
+		boolean match = source.getBiomes().stream().anyMatch(predicate);
+		matches.put(source, match);
+		return match;
+	}
+	
+	private BiomeSource[] samples(int x, int z, int topY, int bottomY, int interval) {
+		Column column = new Column(x, z, topY, bottomY, interval);
+		BiomeSource[] samples = columns.getIfPresent(column);
+		if (samples != null) return samples;
+		samples = new BiomeSource[(topY - bottomY + interval - 1) / interval];
+		BlockPos.Mutable pos = new BlockPos.Mutable(x, topY, z);
+		for (int index = 0; index < samples.length; index++) samples[index] = generator.getBiomeSource(pos.setY(topY - index * interval));
+		columns.put(column, samples);
+		return samples;
+	}
+	
+	private Optional<Pair<BlockPos, RegistryEntry<Biome>>> surface(BlockPos column, MultiNoiseUtil.MultiNoiseSampler noiseSampler, ServerWorld world) {
+		BlockPos.Mutable pos = column.mutableCopy();
+		for (int y = column.getY(); y > world.getBottomY(); y--) {
+			if (world.getBlockState(pos.setY(y)).isAir()) continue;
+			BlockPos surface = pos.setY(y + 1).toImmutable();
+			BiomeSource source = generator.getBiomeSource(surface);
+			return Optional.of(Pair.of(surface, source.getBiome(BiomeCoords.fromBlock(surface.getX()), BiomeCoords.fromBlock(surface.getY()), BiomeCoords.fromBlock(surface.getZ()), noiseSampler)));
+		}
+		return Optional.empty();
+	}
+	
+	private record Column(int x, int z, int topY, int bottomY, int interval) {
+	}
+}
@@ -11,7 +11,7 @@
 
 package pers.saikel0rado1iu.silk.api.landform.gen.chunk;
 
-import com.google.common.collect.Maps;
+import com.google.common.collect.MapMaker;
 import com.mojang.datafixers.util.Pair;
 import net.minecraft.block.BlockState;
 import net.minecraft.registry.entry.RegistryEntry;
@@ -34,9 +34,22 @@ import java.util.function.Predicate;
  */
 public interface ChunkGeneratorCustom {
 	/**
-	 * 用于储存所有的区块生成器与其种子
+	 * 用于储存所有的区块生成器与其种子<br>
+	 * 世界初始化与区块生成线程会并发写入，世界生成工作线程会并发读取；
+	 * 区块生成器以弱引用作为键，世界卸载后不会因此无法被回收
 	 */
-	Map<ChunkGeneratorCustom, Long> SEED_MAP = Maps.newHashMapWithExpectedSize(4);
+	Map<ChunkGeneratorCustom, Long> SEED_MAP = new MapMaker().weakKeys().makeMap();
+	
+	/**
+	 * 储存区块生成器的种子，种子未改变时只进行无锁的读取
+	 *
+	 * @param generator 区块生成器
+	 * @param seed      生成世界的种子
+	 */
+	static void putSeed(ChunkGeneratorCustom generator, long seed) {
+		Long saved = SEED_MAP.get(generator);
+		if (saved == null || saved != seed) SEED_MAP.put(generator, seed);
+	}
 	
 	/**
 	 * @return 生成世界的种子
@@ -11,6 +11,8 @@
 
 package pers.saikel0rado1iu.silk.api.landform.gen.chunk;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.registry.RegistryKey;
@@ -18,6 +20,7 @@ import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.BiomeCoords;
 import net.minecraft.world.biome.source.BiomeSource;
 import net.minecraft.world.biome.source.FixedBiomeSource;
 import net.minecraft.world.biome.source.util.MultiNoiseUtil;
@@ -25,11 +28,10 @@ import net.minecraft.world.gen.chunk.ChunkGenerator;
 import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
 import net.minecraft.world.gen.chunk.NoiseChunkGenerator;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * <h2 style="color:FFC800">被修改的区块生成器</h2>
@@ -41,12 +43,25 @@ import java.util.stream.Collectors;
  */
 public abstract class ModifiedChunkGenerator extends DefaultChunkGenerator implements ChunkGeneratorCustom, ChunkGeneratorUpgradable {
 	private final List<FixedBiomeSource> additionalBiomeSources;
+	private final Set<RegistryEntry<Biome>> additionalBiomes;
+	private final Map<RegistryKey<Biome>, FixedBiomeSource> additionalBiomeSourceMap;
+	private final BiomeLocator biomeLocator = new BiomeLocator(this);
 	private final String version;
 	
 	protected ModifiedChunkGenerator(BiomeSource biomeSource, List<FixedBiomeSource> additionalBiomeSources, RegistryEntry<ChunkGeneratorSettings> settings, String version) {
 		super(biomeSource, settings);
 		this.additionalBiomeSources = additionalBiomeSources;
 		this.version = version;
+		ImmutableSet.Builder<RegistryEntry<Biome>> biomes = ImmutableSet.builder();
+		Map<RegistryKey<Biome>, FixedBiomeSource> sources = new LinkedHashMap<>();
+		for (FixedBiomeSource source : additionalBiomeSources) {
+			for (RegistryEntry<Biome> entry : source.getBiomes()) {
+				biomes.add(entry);
+				entry.getKey().ifPresent(key -> sources.putIfAbsent(key, source));
+			}
+		}
+		this.additionalBiomes = biomes.build();
+		this.additionalBiomeSourceMap = ImmutableMap.copyOf(sources);
 	}
 	
 	protected static boolean isAdditionalBiomeSources(Predicate<RegistryEntry<Biome>> predicate, List<FixedBiomeSource> additionalBiomeSources) {
@@ -59,41 +74,72 @@ public abstract class ModifiedChunkGenerator extends DefaultChunkGenerator imple
 	}
 	
 	protected static Optional<Pair<BlockPos, RegistryEntry<Biome>>> getLocateBiomePair(ModifiedChunkGenerator generator, BlockPos pos, int verticalBlockCheckInterval, Predicate<RegistryEntry<Biome>> predicate, MultiNoiseUtil.MultiNoiseSampler noiseSampler, ServerWorld world) {
-		for (int baseY = world.getHeight(); baseY > world.getDimension().minY(); baseY -= verticalBlockCheckInterval) {
-			BlockPos basePos = new BlockPos(pos.getX(), baseY, pos.getZ());
-			if (generator.getBiomeSource(basePos).equals(generator.biomeSource) || generator.getBiomeSource(basePos).getBiomes().stream().filter(predicate).collect(Collectors.toUnmodifiableSet()).isEmpty()) {
-				continue;
-			}
-			for (int y = baseY; y > world.getDimension().minY(); y--) {
-				if (world.getBlockState(new BlockPos(pos.getX(), y, pos.getZ())).isAir()) continue;
-				return Optional.of(Pair.of(new BlockPos(pos.getX(), y + 1, pos.getZ()), generator.getBiomeSource(pos).getBiome(pos.getX(), y + 1, pos.getZ(), noiseSampler)));
+		BlockPos.Mutable basePos = pos.mutableCopy();
+		for (int baseY = world.getTopY(); baseY > world.getBottomY(); baseY -= verticalBlockCheckInterval) {
+			BiomeSource source = generator.getBiomeSource(basePos.setY(baseY));
+			if (source.equals(generator.biomeSource) || source.getBiomes().stream().noneMatch(predicate)) continue;
+			for (int y = baseY; y > world.getBottomY(); y--) {
+				if (world.getBlockState(basePos.setY(y)).isAir()) continue;
+				BlockPos surface = basePos.setY(y + 1).toImmutable();
+				return Optional.of(Pair.of(surface, generator.getBiomeSource(surface).getBiome(BiomeCoords.fromBlock(surface.getX()), BiomeCoords.fromBlock(surface.getY()), BiomeCoords.fromBlock(surface.getZ()), noiseSampler)));
 			}
 		}
 		return Optional.empty();
 	}
 	
+	/**
+	 * locate 命令的新定位生物群系方法，如果谓词不匹配任何附加生物群系则使用原版方法定位<br>
+	 * 否则使用 {@link BiomeLocator} 由内向外按方环搜索
+	 */
 	@Override
 	public Optional<Pair<BlockPos, RegistryEntry<Biome>>> locateBiome(BlockPos origin, int radius, int horizontalBlockCheckInterval, int verticalBlockCheckInterval, Predicate<RegistryEntry<Biome>> predicate, MultiNoiseUtil.MultiNoiseSampler noiseSampler, ServerWorld world) {
-		if (!isAdditionalBiomeSources(predicate, additionalBiomeSources)) {
+		if (!isAdditionalBiome(predicate)) {
 			return ChunkGeneratorCustom.super.locateBiome(origin, radius, horizontalBlockCheckInterval, verticalBlockCheckInterval, predicate, noiseSampler, world);
 		}
-		List<Integer> xs = new ArrayList<>();
-		List<Integer> zs = new ArrayList<>();
-		for (int count = 0; count < radius; count += horizontalBlockCheckInterval) {
-			xs.add(origin.getX() + count);
-			xs.add(origin.getX() - count);
-			zs.add(origin.getZ() + count);
-			zs.add(origin.getZ() - count);
+		return biomeLocator.locate(origin, radius, horizontalBlockCheckInterval, verticalBlockCheckInterval, predicate, noiseSampler, world);
+	}
+	
+	/**
+	 * {@link ModifiedChunkGenerator#locateBiome(BlockPos, int, int, int, Predicate, MultiNoiseUtil.MultiNoiseSampler, ServerWorld)} 的异步版本<br>
+	 * 附加生物群系的搜索在提供的执行器中进行，原版定位与地表查找在服务器线程中进行
+	 *
+	 * @param origin                       原始块坐标
+	 * @param radius                       侦测半径
+	 * @param horizontalBlockCheckInterval 水平方块检查间隔
+	 * @param verticalBlockCheckInterval   垂直方块检查间隔
+	 * @param predicate                    生物群系谓词
+	 * @param noiseSampler                 多重噪声采样器
+	 * @param world                        服务端游戏世界
+	 * @param executor                     执行搜索的执行器
+	 * @return 块坐标与生物群系的配对
+	 */
+	public CompletableFuture<Optional<Pair<BlockPos, RegistryEntry<Biome>>>> locateBiomeAsync(BlockPos origin, int radius, int horizontalBlockCheckInterval, int verticalBlockCheckInterval, Predicate<RegistryEntry<Biome>> predicate, MultiNoiseUtil.MultiNoiseSampler noiseSampler, ServerWorld world, Executor executor) {
+		if (!isAdditionalBiome(predicate)) {
+			return CompletableFuture.supplyAsync(() -> locateBiome(origin, radius, horizontalBlockCheckInterval, verticalBlockCheckInterval, predicate, noiseSampler, world), world.getServer());
 		}
-		Optional<Pair<BlockPos, RegistryEntry<Biome>>> pair;
-		for (int x : xs) {
-			for (int z : zs) {
-				if ((pair = getLocateBiomePair(this, new BlockPos(x, 0, z), verticalBlockCheckInterval, predicate, noiseSampler, world)).isPresent()) {
-					return pair;
-				}
-			}
+		return biomeLocator.locateAsync(origin, radius, horizontalBlockCheckInterval, verticalBlockCheckInterval, predicate, noiseSampler, world, executor);
+	}
+	
+	/**
+	 * 谓词是否匹配任何附加生物群系
+	 *
+	 * @param predicate 生物群系谓词
+	 * @return 是否匹配
+	 */
+	public boolean isAdditionalBiome(Predicate<RegistryEntry<Biome>> predicate) {
+		for (RegistryEntry<Biome> entry : additionalBiomes) {
+			if (predicate.test(entry)) return true;
 		}
-		return Optional.empty();
+		return false;
+	}
+	
+	/**
+	 * 获取生物群系定位器
+	 *
+	 * @return 生物群系定位器
+	 */
+	public BiomeLocator biomeLocator() {
+		return biomeLocator;
 	}
 	
 	/**
@@ -112,15 +158,9 @@ public abstract class ModifiedChunkGenerator extends DefaultChunkGenerator imple
 	 * @return 附加生物群系源
 	 */
 	public Optional<FixedBiomeSource> getAdditionalBiomeSource(RegistryKey<Biome> biome) {
-		FixedBiomeSource fixedBiomeSource = null;
-		for (FixedBiomeSource biomeSource : additionalBiomeSources) {
-			fixedBiomeSource = biomeSource;
-			for (RegistryEntry<Biome> entry : biomeSource.getBiomes()) {
-				if (!biome.equals(entry.getKey().orElseThrow())) continue;
-				return Optional.of(biomeSource);
-			}
-		}
-		return Optional.ofNullable(fixedBiomeSource);
+		FixedBiomeSource fixedBiomeSource = additionalBiomeSourceMap.get(biome);
+		if (fixedBiomeSource != null || additionalBiomeSources.isEmpty()) return Optional.ofNullable(fixedBiomeSource);
+		return Optional.of(additionalBiomeSources.getLast());
 	}
 	
 	@Override
@@ -72,7 +72,7 @@ interface ChunkGeneratorCustomMixin {
 			private static ChunkGenerationContext generateStructures(ChunkGenerationContext context) {
 				if (context.generator() instanceof ChunkGeneratorCustom chunkGeneratorCustom) {
 					//noinspection resource
-					ChunkGeneratorCustom.SEED_MAP.put(chunkGeneratorCustom, context.world().getSeed());
+					ChunkGeneratorCustom.putSeed(chunkGeneratorCustom, context.world().getSeed());
 				}
 				return context;
 			}
@@ -81,7 +81,7 @@ interface ChunkGeneratorCustomMixin {
 			private static ChunkGenerationContext loadStructures(ChunkGenerationContext context) {
 				if (context.generator() instanceof ChunkGeneratorCustom chunkGeneratorCustom) {
 					//noinspection resource
-					ChunkGeneratorCustom.SEED_MAP.put(chunkGeneratorCustom, context.world().getSeed());
+					ChunkGeneratorCustom.putSeed(chunkGeneratorCustom, context.world().getSeed());
 				}
 				return context;
 			}
@@ -97,7 +97,7 @@ interface ChunkGeneratorCustomMixin {
 			private void init(MinecraftServer server, Executor workerExecutor, LevelStorage.Session session, ServerWorldProperties properties, RegistryKey<?> worldKey, DimensionOptions dimensionOptions, WorldGenerationProgressListener worldGenerationProgressListener, boolean debugWorld, long seed, List<?> spawners, boolean shouldTickTime, RandomSequencesState randomSequencesState, CallbackInfo ci) {
 				ChunkGenerator generator = ((ServerWorld) (Object) this).getChunkManager().getChunkGenerator();
 				if (generator instanceof ChunkGeneratorCustom chunkGeneratorCustom) {
-					ChunkGeneratorCustom.SEED_MAP.put(chunkGeneratorCustom, seed);
+					ChunkGeneratorCustom.putSeed(chunkGeneratorCustom, seed);
 				}
 			}
 		}
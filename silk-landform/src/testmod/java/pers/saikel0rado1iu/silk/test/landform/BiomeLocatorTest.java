@@ -0,0 +1,78 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.landform;
+
+import com.mojang.datafixers.util.Pair;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
+import net.minecraft.world.biome.source.util.MultiNoiseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.landform.gen.chunk.BiomeLocator;
+import pers.saikel0rado1iu.silk.api.landform.gen.chunk.ModifiedChunkGenerator;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test {@link BiomeLocator}
+ */
+public interface BiomeLocatorTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkLandform/TestingBiomeLocator");
+	/**
+	 * 测试半径
+	 */
+	int RADIUS = 256;
+	
+	/**
+	 * 测试
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		ServerWorld world = server.getOverworld();
+		if (!(world.getChunkManager().getChunkGenerator() instanceof ModifiedChunkGenerator generator)) {
+			LOGGER.info("overworld is not generated by a modified chunk generator, skipped");
+			return;
+		}
+		MultiNoiseUtil.MultiNoiseSampler sampler = world.getChunkManager().getNoiseConfig().getMultiNoiseSampler();
+		// 缓存的列与重新采样的结果一致
+		BlockPos origin = new BlockPos(512, 0, 512);
+		generator.biomeLocator().invalidate();
+		Optional<Pair<BlockPos, RegistryEntry<Biome>>> cold = locate(generator, origin, sampler, world);
+		int cachedColumns = generator.biomeLocator().cachedColumns();
+		Optional<Pair<BlockPos, RegistryEntry<Biome>>> warm = locate(generator, origin, sampler, world);
+		LOGGER.info("nearby desert = {}, cached result equal = {} (expected true), cached columns = {}", cold, cold.equals(warm), cachedColumns);
+		generator.locateBiomeAsync(origin, RADIUS, 32, 64, entry -> entry.matchesKey(BiomeKeys.DESERT), sampler, world, ForkJoinPool.commonPool())
+				.thenAccept(pair -> LOGGER.info("async nearby desert equal = {} (expected true)", pair.equals(cold)));
+	}
+	
+	/**
+	 * 在测试半径内定位沙漠
+	 *
+	 * @param generator 区块生成器
+	 * @param origin    原点
+	 * @param sampler   多重噪声采样器
+	 * @param world     世界
+	 * @return 定位结果
+	 */
+	static Optional<Pair<BlockPos, RegistryEntry<Biome>>> locate(ModifiedChunkGenerator generator, BlockPos origin, MultiNoiseUtil.MultiNoiseSampler sampler, ServerWorld world) {
+		return generator.locateBiome(origin, RADIUS, 32, 64, entry -> entry.matchesKey(BiomeKeys.DESERT), sampler, world);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.landform;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.landform.gen.chunk.ChunkGeneratorCustom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link ChunkGeneratorCustom#SEED_MAP}
+ */
+public interface ChunkGeneratorSeedTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkLandform/TestingChunkGeneratorSeed");
+	/**
+	 * 每轮模拟的维度数
+	 */
+	int DIMENSIONS = 3;
+	/**
+	 * 模拟的世界重载轮数
+	 */
+	int RELOADS = 4;
+	/**
+	 * 每个线程对每个区块生成器执行 {@code putSeed} 与 {@code seed} 的循环次数
+	 */
+	int PUTS = 1000;
+	
+	/**
+	 * 测试
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		for (ServerWorld world : server.getWorlds()) {
+			if (!(world.getChunkManager().getChunkGenerator() instanceof ChunkGeneratorCustom generator)) continue;
+			LOGGER.info("{} seed = {} (expected {})", world.getRegistryKey().getValue(), generator.seed(), world.getSeed());
+		}
+		AtomicInteger mismatches = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try {
+			for (int reload = 0; reload < RELOADS; reload++) {
+				// 每次重载都会创建新的区块生成器，旧的区块生成器只被种子表引用
+				List<Future<?>> tasks = new ArrayList<>();
+				for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+					TestChunkGenerator generator = TestChunkGenerator.getInstance(server.getRegistryManager());
+					long seed = (long) reload * DIMENSIONS + dimension;
+					// 多个线程在循环中同时写入与读取同一个区块生成器的种子
+					for (int worker = 0; worker < 4; worker++) {
+						tasks.add(executor.submit(() -> {
+							for (int put = 0; put < PUTS; put++) {
+								ChunkGeneratorCustom.putSeed(generator, seed);
+								Long saved = generator.seed();
+								if (saved == null || saved != seed) mismatches.incrementAndGet();
+							}
+						}));
+					}
+				}
+				for (Future<?> task : tasks) task.get();
+			}
+		} catch (Exception e) {
+			LOGGER.error("concurrent seed test failed", e);
+		} finally {
+			executor.shutdown();
+		}
+		LOGGER.info("{} putSeed/seed loops, {} mismatches (expected 0)", RELOADS * DIMENSIONS * 4 * PUTS, mismatches.get());
+	}
+}
@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.test.landform;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.world.dimension.DimensionOptions;
 import pers.saikel0rado1iu.silk.api.codex.SettingData;
 import pers.saikel0rado1iu.silk.api.landform.UpgradableWorldData;
@@ -45,6 +46,8 @@ public final class Test implements ModMain {
 	 */
 	@Override
 	public void main(ModPass mod) {
+		ServerLifecycleEvents.SERVER_STARTED.register(BiomeLocatorTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(ChunkGeneratorSeedTest::test);
 	}
 	
 	/**
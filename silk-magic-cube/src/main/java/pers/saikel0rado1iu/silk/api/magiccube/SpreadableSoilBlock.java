@@ -14,23 +14,34 @@ package pers.saikel0rado1iu.silk.api.magiccube;
 import net.minecraft.block.*;
 import net.minecraft.registry.tag.FluidTags;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.StateManager;
+import net.minecraft.state.property.BooleanProperty;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.util.math.random.Random;
+import net.minecraft.world.WorldAccess;
 import net.minecraft.world.WorldView;
 import net.minecraft.world.chunk.light.ChunkLightProvider;
 
 /**
  * <h2 style="color:FFC800">可传播土块</h2>
- * 可以传播的泥土类变种方块，具有覆雪的方块状态
+ * 可以传播的泥土类变种方块，具有覆雪的方块状态<br>
+ * 传播结果与原版一样逐个写入并触发完整的邻居更新与形状更新。
+ * 启用休眠后，范围内没有可传播位置的土块会进入休眠，直到相邻方块更新或被随机唤醒
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 0.1.0
  */
 public abstract class SpreadableSoilBlock extends SpreadableBlock {
+	/**
+	 * 休眠属性，仅在 {@link SpreadableSoilBlock#canBeDormant()} 为 {@code true} 时存在
+	 */
+	public static final BooleanProperty DORMANT = BooleanProperty.of("dormant");
+	
 	protected SpreadableSoilBlock(Settings settings) {
 		super(settings);
+		if (canBeDormant()) setDefaultState(getDefaultState().with(DORMANT, false));
 	}
 	
 	protected boolean canSurvive(BlockState state, WorldView world, BlockPos pos) {
@@ -69,20 +80,88 @@ public abstract class SpreadableSoilBlock extends SpreadableBlock {
 		return original;
 	}
 	
+	/**
+	 * 是否可以休眠，启用后方块会拥有 {@link SpreadableSoilBlock#DORMANT} 属性<br>
+	 * 此方法会在父类构造方法创建方块状态时被调用，此时子类的字段尚未初始化，
+	 * 因此必须返回不依赖实例字段的常量，并且在方块的整个生命周期内保持不变
+	 *
+	 * @return 是否可以休眠
+	 */
+	protected boolean canBeDormant() {
+		return false;
+	}
+	
+	/**
+	 * 休眠的方块每次随机刻被唤醒的几率为 {@code 1 / chance}，用于发现相邻方块以外的变化
+	 *
+	 * @return 唤醒几率的倒数
+	 */
+	protected int getDormantWakeChance() {
+		return 8;
+	}
+	
+	/**
+	 * 未休眠的方块在随机刻未能传播时，以 {@code 1 / chance} 的几率完整扫描传播范围以判断能否进入休眠，
+	 * 避免正在传播的边缘方块在每次未命中时都扫描整个传播范围
+	 *
+	 * @return 休眠扫描几率的倒数
+	 */
+	protected int getDormantScanChance() {
+		return 8;
+	}
+	
+	@Override
+	protected void appendProperties(StateManager.Builder<Block, BlockState> builder) {
+		super.appendProperties(builder);
+		if (canBeDormant()) builder.add(DORMANT);
+	}
+	
+	@Override
+	protected BlockState getStateForNeighborUpdate(BlockState state, Direction direction, BlockState neighborState, WorldAccess world, BlockPos pos, BlockPos neighborPos) {
+		BlockState blockState = super.getStateForNeighborUpdate(state, direction, neighborState, world, pos, neighborPos);
+		return canBeDormant() && blockState.isOf(this) ? blockState.with(DORMANT, false) : blockState;
+	}
+	
 	@Override
 	public void randomTick(BlockState state, ServerWorld world, BlockPos pos, Random random) {
 		if (!canSurvive(state, world, pos)) {
 			world.setBlockState(pos, getDegeneratedBlockState());
 			return;
 		}
-		if (world.getLightLevel(pos.up()) > Block.REDRAW_ON_MAIN_THREAD) {
-			Vec3i range = getSpreadableRange();
-			Vec3i halfRange = new Vec3i(Math.round(range.getX() / 2F), Math.round(range.getY() / 2F), Math.round(range.getZ() / 2F));
-			for (int i = 0; i < getSpreadableOdds(); i++) {
-				BlockPos blockPos = pos.add(random.nextInt(range.getX()) - halfRange.getX(), random.nextInt(range.getY()) - halfRange.getY(), random.nextInt(range.getZ()) - halfRange.getZ());
-				if (!canSpread(getSpreadableBlockState(world, blockPos), world, blockPos)) continue;
-				world.setBlockState(getSpreadableOffset(blockPos), getSpreadableBlockState(world, blockPos));
+		boolean dormant = canBeDormant() && state.get(DORMANT);
+		if (dormant && random.nextInt(getDormantWakeChance()) != 0) return;
+		if (world.getLightLevel(pos.up()) <= Block.REDRAW_ON_MAIN_THREAD) return;
+		Vec3i range = getSpreadableRange();
+		int halfX = Math.round(range.getX() / 2F);
+		int halfY = Math.round(range.getY() / 2F);
+		int halfZ = Math.round(range.getZ() / 2F);
+		BlockPos.Mutable candidate = new BlockPos.Mutable();
+		boolean spread = false;
+		for (int i = 0; i < getSpreadableOdds(); i++) {
+			candidate.set(pos.getX() + random.nextInt(range.getX()) - halfX, pos.getY() + random.nextInt(range.getY()) - halfY, pos.getZ() + random.nextInt(range.getZ()) - halfZ);
+			BlockState spreadState = getSpreadableBlockState(world, candidate);
+			if (!canSpread(spreadState, world, candidate)) continue;
+			world.setBlockState(getSpreadableOffset(candidate.toImmutable()), spreadState);
+			spread = true;
+		}
+		if (spread) {
+			if (dormant) world.setBlockState(pos, state.with(DORMANT, false), Block.NOTIFY_LISTENERS);
+		} else if (canBeDormant() && !dormant && random.nextInt(getDormantScanChance()) == 0 && !hasSpreadableTarget(world, pos, range, halfX, halfY, halfZ, candidate)) {
+			world.setBlockState(pos, state.with(DORMANT, true), Block.NOTIFY_LISTENERS);
+		} else if (dormant && hasSpreadableTarget(world, pos, range, halfX, halfY, halfZ, candidate)) {
+			world.setBlockState(pos, state.with(DORMANT, false), Block.NOTIFY_LISTENERS);
+		}
+	}
+	
+	private boolean hasSpreadableTarget(ServerWorld world, BlockPos pos, Vec3i range, int halfX, int halfY, int halfZ, BlockPos.Mutable candidate) {
+		for (int x = 0; x < range.getX(); x++) {
+			for (int y = 0; y < range.getY(); y++) {
+				for (int z = 0; z < range.getZ(); z++) {
+					candidate.set(pos.getX() + x - halfX, pos.getY() + y - halfY, pos.getZ() + z - halfZ);
+					if (canSpread(getSpreadableBlockState(world, candidate), world, candidate)) return true;
+				}
 			}
 		}
+		return false;
 	}
 }
@@ -12,7 +12,7 @@
 package pers.saikel0rado1iu.silk.api.magiccube.cauldron;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.tag.convention.v2.ConventionalItemTags;
 import net.minecraft.block.*;
 import net.minecraft.block.cauldron.CauldronBehavior;
 import net.minecraft.component.DataComponentTypes;
@@ -39,13 +39,16 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import net.minecraft.world.event.GameEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 import java.util.function.Predicate;
 
 /**
  * <h2 style="color:FFC800">坩埚类行为</h2>
- * 用于专门创建一个与原版坩埚有相同功能的方块必要的行为
+ * 用于专门创建一个与原版坩埚有相同功能的方块必要的行为<br>
+ * 行为图表可以继承父坩埚类行为，继承的行为与方块相关的部分（目标方块、液位属性、同种坩埚标签）
+ * 会根据交互的方块所属的坩埚类行为解析，因此子行为的方块不会被转换为父行为的方块
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 1.0.0
@@ -55,22 +58,26 @@ public abstract class CauldronLikeBehavior {
 	 * 坩埚行为图表
 	 */
 	public Map<String, CauldronBehavior.CauldronBehaviorMap> behaviorMaps = new Object2ObjectArrayMap<>();
+	/**
+	 * 父坩埚类行为，所有行为图表都会继承父行为中的同名图表，继承的行为会根据交互的方块解析所需的方块
+	 */
+	protected final @Nullable CauldronLikeBehavior parent;
 	/**
 	 * 空坩埚行为图表
 	 */
-	public CauldronBehavior.CauldronBehaviorMap emptyBehavior = createMap("empty");
+	public CauldronBehavior.CauldronBehaviorMap emptyBehavior;
 	/**
 	 * 含水坩埚行为图表
 	 */
-	public CauldronBehavior.CauldronBehaviorMap waterBehavior = createMap("water");
+	public CauldronBehavior.CauldronBehaviorMap waterBehavior;
 	/**
 	 * 含熔岩坩埚行为图表
 	 */
-	public CauldronBehavior.CauldronBehaviorMap lavaBehavior = createMap("lava");
+	public CauldronBehavior.CauldronBehaviorMap lavaBehavior;
 	/**
 	 * 含细雪坩埚行为图表
 	 */
-	public CauldronBehavior.CauldronBehaviorMap powderSnowBehavior = createMap("powder_snow");
+	public CauldronBehavior.CauldronBehaviorMap powderSnowBehavior;
 	/**
 	 * 装满水行为
 	 */
@@ -96,6 +103,23 @@ public abstract class CauldronLikeBehavior {
 	 */
 	public CauldronBehavior cleanShulkerBox = cleanShulkerBox();
 	
+	protected CauldronLikeBehavior() {
+		this(null);
+	}
+	
+	/**
+	 * 继承父坩埚类行为的所有行为，只需在 {@link CauldronLikeBehavior#registerBehavior()} 中注册不同的行为
+	 *
+	 * @param parent 父坩埚类行为
+	 */
+	protected CauldronLikeBehavior(@Nullable CauldronLikeBehavior parent) {
+		this.parent = parent;
+		this.emptyBehavior = createMap("empty");
+		this.waterBehavior = createMap("water");
+		this.lavaBehavior = createMap("lava");
+		this.powderSnowBehavior = createMap("powder_snow");
+	}
+	
 	/**
 	 * 测试药水
 	 *
@@ -122,7 +146,7 @@ public abstract class CauldronLikeBehavior {
 					player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, new ItemStack(Items.GLASS_BOTTLE)));
 					player.incrementStat(Stats.USE_CAULDRON);
 					player.incrementStat(Stats.USED.getOrCreateStat(item));
-					world.setBlockState(pos, waterCauldronLikeBlock().getDefaultState());
+					world.setBlockState(pos, owner(state).waterCauldronLikeBlock().getDefaultState());
 					world.playSound(null, pos, SoundEvents.ITEM_BOTTLE_EMPTY, SoundCategory.BLOCKS, 1.0F, 1.0F);
 					world.emitGameEvent(null, GameEvent.FLUID_PLACE, pos);
 				}
@@ -131,14 +155,14 @@ public abstract class CauldronLikeBehavior {
 			}
 		});
 		registerBucketBehavior(waterBehavior.map());
-		waterBehavior.map().put(Items.BUCKET, (state, world, pos, player, hand, stack) -> emptyCauldron(state, world, pos, player, hand, stack, new ItemStack(Items.WATER_BUCKET), (blockState) -> blockState.get(leveledCauldronLikeBlock().level()) == leveledCauldronLikeBlock().maxLevel(), SoundEvents.ITEM_BUCKET_FILL));
+		waterBehavior.map().put(Items.BUCKET, (state, world, pos, player, hand, stack) -> emptyCauldron(state, world, pos, player, hand, stack, new ItemStack(Items.WATER_BUCKET), this::isFull, SoundEvents.ITEM_BUCKET_FILL));
 		waterBehavior.map().put(Items.GLASS_BOTTLE, (state, world, pos, player, hand, stack) -> {
 			if (!world.isClient) {
 				Item item = stack.getItem();
 				player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, PotionContentsComponent.createStack(Items.POTION, Potions.WATER)));
 				player.incrementStat(Stats.USE_CAULDRON);
 				player.incrementStat(Stats.USED.getOrCreateStat(item));
-				leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
+				owner(state).leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
 				world.playSound(null, pos, SoundEvents.ITEM_BOTTLE_FILL, SoundCategory.BLOCKS, 1.0F, 1.0F);
 				world.emitGameEvent(null, GameEvent.FLUID_PICKUP, pos);
 			}
@@ -146,12 +170,13 @@ public abstract class CauldronLikeBehavior {
 			return ItemActionResult.success(world.isClient);
 		});
 		waterBehavior.map().put(Items.POTION, (state, world, pos, player, hand, stack) -> {
-			if (state.get(leveledCauldronLikeBlock().level()) != leveledCauldronLikeBlock().maxLevel() && potionTest(stack, Potions.WATER)) {
+			LeveledCauldronLikeBlock leveled = owner(state).leveledCauldronLikeBlock();
+			if (state.get(leveled.level()) != leveled.maxLevel() && potionTest(stack, Potions.WATER)) {
 				if (!world.isClient) {
 					player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, new ItemStack(Items.GLASS_BOTTLE)));
 					player.incrementStat(Stats.USE_CAULDRON);
 					player.incrementStat(Stats.USED.getOrCreateStat(stack.getItem()));
-					world.setBlockState(pos, state.cycle(leveledCauldronLikeBlock().level()));
+					world.setBlockState(pos, state.cycle(leveled.level()));
 					world.playSound(null, pos, SoundEvents.ITEM_BOTTLE_EMPTY, SoundCategory.BLOCKS, 1.0F, 1.0F);
 					world.emitGameEvent(null, GameEvent.FLUID_PLACE, pos);
 				}
@@ -161,68 +186,55 @@ public abstract class CauldronLikeBehavior {
 				return ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
 			}
 		});
-		waterBehavior.map().put(Items.LEATHER_BOOTS, cleanDyeableItem);
-		waterBehavior.map().put(Items.LEATHER_LEGGINGS, cleanDyeableItem);
-		waterBehavior.map().put(Items.LEATHER_CHESTPLATE, cleanDyeableItem);
-		waterBehavior.map().put(Items.LEATHER_HELMET, cleanDyeableItem);
-		waterBehavior.map().put(Items.LEATHER_HORSE_ARMOR, cleanDyeableItem);
-		waterBehavior.map().put(Items.WHITE_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.GRAY_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.BLACK_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.BLUE_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.BROWN_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.CYAN_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.GREEN_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.LIGHT_BLUE_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.LIGHT_GRAY_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.LIME_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.MAGENTA_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.ORANGE_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.PINK_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.PURPLE_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.RED_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.YELLOW_BANNER, cleanBanner);
-		waterBehavior.map().put(Items.WHITE_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.GRAY_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.BLACK_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.BLUE_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.BROWN_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.CYAN_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.GREEN_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.LIGHT_BLUE_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.LIGHT_GRAY_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.LIME_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.MAGENTA_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.ORANGE_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.PINK_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.PURPLE_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.RED_SHULKER_BOX, cleanShulkerBox);
-		waterBehavior.map().put(Items.YELLOW_SHULKER_BOX, cleanShulkerBox);
+		LayeredCauldronBehaviorMap water = LayeredCauldronBehaviorMap.of(waterBehavior);
+		water.putTag(ItemTags.DYEABLE, cleanDyeableItem);
+		water.putTag(ItemTags.BANNERS, cleanBanner);
+		water.putTag(ConventionalItemTags.SHULKER_BOXES, cleanShulkerBox);
 		lavaBehavior.map().put(Items.BUCKET, (state, world, pos, player, hand, stack) -> emptyCauldron(state, world, pos, player, hand, stack, new ItemStack(Items.LAVA_BUCKET), (blockState) -> true, SoundEvents.ITEM_BUCKET_FILL_LAVA));
 		registerBucketBehavior(lavaBehavior.map());
-		powderSnowBehavior.map().put(Items.BUCKET, (state, world, pos, player, hand, stack) -> emptyCauldron(state, world, pos, player, hand, stack, new ItemStack(Items.POWDER_SNOW_BUCKET), (blockState) -> blockState.get(leveledCauldronLikeBlock().level()) == leveledCauldronLikeBlock().maxLevel(), SoundEvents.ITEM_BUCKET_FILL_POWDER_SNOW));
+		powderSnowBehavior.map().put(Items.BUCKET, (state, world, pos, player, hand, stack) -> emptyCauldron(state, world, pos, player, hand, stack, new ItemStack(Items.POWDER_SNOW_BUCKET), this::isFull, SoundEvents.ITEM_BUCKET_FILL_POWDER_SNOW));
 		registerBucketBehavior(powderSnowBehavior.map());
 	}
 	
 	protected CauldronBehavior.CauldronBehaviorMap createMap(String name) {
-		Object2ObjectOpenHashMap<Item, CauldronBehavior> object2ObjectOpenHashMap = new Object2ObjectOpenHashMap<>();
-		object2ObjectOpenHashMap.defaultReturnValue((state, world, pos, player, hand, stack) -> ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION);
-		CauldronBehavior.CauldronBehaviorMap cauldronBehaviorMap = new CauldronBehavior.CauldronBehaviorMap(name, object2ObjectOpenHashMap);
+		CauldronBehavior.CauldronBehaviorMap cauldronBehaviorMap = LayeredCauldronBehaviorMap.create(name, parent == null ? null : parent.behaviorMaps.get(name));
 		behaviorMaps.put(name, cauldronBehaviorMap);
+		LayeredCauldronBehaviorMap.of(cauldronBehaviorMap).owner = this;
 		return cauldronBehaviorMap;
 	}
 	
+	/**
+	 * 获取交互的方块所属的坩埚类行为<br>
+	 * 继承的行为由父行为创建，与方块相关的部分必须通过此方法解析，而不是直接使用创建行为的实例
+	 *
+	 * @param state 交互的方块状态
+	 * @return 方块的行为图表所属的坩埚类行为，如果方块不是由坩埚类行为的图表创建的则为此行为
+	 */
+	protected CauldronLikeBehavior owner(BlockState state) {
+		if (state.getBlock() instanceof AbstractCauldronBlock block
+				&& block.behaviorMap.map() instanceof LayeredCauldronBehaviorMap layered
+				&& layered.owner != null) {
+			return layered.owner;
+		}
+		return this;
+	}
+	
+	private boolean isFull(BlockState state) {
+		LeveledCauldronLikeBlock leveled = owner(state).leveledCauldronLikeBlock();
+		return state.get(leveled.level()) == leveled.maxLevel();
+	}
+	
 	protected ItemActionResult emptyCauldron(BlockState state, World world, BlockPos pos, PlayerEntity player, Hand hand, ItemStack stack, ItemStack output, Predicate<BlockState> fullPredicate, SoundEvent soundEvent) {
 		if (!fullPredicate.test(state)) {
 			return ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
 		} else {
 			if (!world.isClient) {
-				if (cantUse(world, pos)) return ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
+				if (owner(state).cantUse(world, pos)) return ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
 				Item item = stack.getItem();
 				player.setStackInHand(hand, ItemUsage.exchangeStack(stack, player, output));
 				player.incrementStat(Stats.USE_CAULDRON);
 				player.incrementStat(Stats.USED.getOrCreateStat(item));
-				world.setBlockState(pos, emptyCauldronLikeBlock().getDefaultState());
+				world.setBlockState(pos, owner(state).emptyCauldronLikeBlock().getDefaultState());
 				world.playSound(null, pos, soundEvent, SoundCategory.BLOCKS, 1.0F, 1.0F);
 				world.emitGameEvent(null, GameEvent.FLUID_PICKUP, pos);
 			}
@@ -246,11 +258,12 @@ public abstract class CauldronLikeBehavior {
 	}
 	
 	protected boolean cantUse(World world, BlockPos pos) {
-		return !((world.getBlockState(pos.down()).isSideSolidFullSquare(world, pos.down(), Direction.UP)
-				|| world.getBlockState(pos.down()).isIn(BlockTags.CAULDRONS)
-				|| world.getBlockState(pos.down()).isIn(sameCauldronBlockTag()))
-				&& (!world.getBlockState(pos.up()).isSideSolidFullSquare(world, pos.up(), Direction.DOWN)
-				&& !world.getBlockState(pos.up()).isIn(sameCauldronBlockTag())));
+		BlockPos downPos = pos.down();
+		BlockState down = world.getBlockState(downPos);
+		if (!down.isIn(BlockTags.CAULDRONS) && !down.isIn(sameCauldronBlockTag()) && !down.isSideSolidFullSquare(world, downPos, Direction.UP)) return true;
+		BlockPos upPos = pos.up();
+		BlockState up = world.getBlockState(upPos);
+		return up.isIn(sameCauldronBlockTag()) || up.isSideSolidFullSquare(world, upPos, Direction.DOWN);
 	}
 	
 	protected void registerBucketBehavior(Map<Item, CauldronBehavior> behavior) {
@@ -269,7 +282,7 @@ public abstract class CauldronLikeBehavior {
 				if (!world.isClient) {
 					stack.remove(DataComponentTypes.DYED_COLOR);
 					player.incrementStat(Stats.CLEAN_ARMOR);
-					leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
+					owner(state).leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
 				}
 				
 				return ItemActionResult.success(world.isClient);
@@ -297,7 +310,7 @@ public abstract class CauldronLikeBehavior {
 					}
 					
 					player.incrementStat(Stats.CLEAN_BANNER);
-					leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
+					owner(state).leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
 				}
 				
 				return ItemActionResult.success(world.isClient);
@@ -308,13 +321,13 @@ public abstract class CauldronLikeBehavior {
 	protected CauldronBehavior cleanShulkerBox() {
 		return (state, world, pos, player, hand, stack) -> {
 			Block block = Block.getBlockFromItem(stack.getItem());
-			if (!(block instanceof ShulkerBoxBlock)) {
+			if (!(block instanceof ShulkerBoxBlock) || stack.isOf(Items.SHULKER_BOX)) {
 				return ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
 			} else {
 				if (!world.isClient) {
 					player.setStackInHand(hand, stack.copyComponentsToNewStack(Blocks.SHULKER_BOX, 1));
 					player.incrementStat(Stats.CLEAN_SHULKER_BOX);
-					leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
+					owner(state).leveledCauldronLikeBlock().decrementFluidLevel(world, state, pos);
 				}
 				
 				return ItemActionResult.success(world.isClient);
@@ -323,15 +336,21 @@ public abstract class CauldronLikeBehavior {
 	}
 	
 	protected CauldronBehavior fillWithPowderSnow() {
-		return (state, world, pos, player, hand, stack) -> fillCauldron(world, pos, player, hand, stack, powderSnowCauldronLikeBlock().getDefaultState().with(leveledCauldronLikeBlock().level(), leveledCauldronLikeBlock().maxLevel()), SoundEvents.ITEM_BUCKET_EMPTY_POWDER_SNOW);
+		return (state, world, pos, player, hand, stack) -> {
+			CauldronLikeBehavior owner = owner(state);
+			return fillCauldron(world, pos, player, hand, stack, owner.powderSnowCauldronLikeBlock().getDefaultState().with(owner.leveledCauldronLikeBlock().level(), owner.leveledCauldronLikeBlock().maxLevel()), SoundEvents.ITEM_BUCKET_EMPTY_POWDER_SNOW);
+		};
 	}
 	
 	protected CauldronBehavior fillWithLava() {
-		return (state, world, pos, player, hand, stack) -> fillCauldron(world, pos, player, hand, stack, lavaCauldronLikeBlock().getDefaultState(), SoundEvents.ITEM_BUCKET_EMPTY_LAVA);
+		return (state, world, pos, player, hand, stack) -> fillCauldron(world, pos, player, hand, stack, owner(state).lavaCauldronLikeBlock().getDefaultState(), SoundEvents.ITEM_BUCKET_EMPTY_LAVA);
 	}
 	
 	protected CauldronBehavior fillWithWater() {
-		return (state, world, pos, player, hand, stack) -> fillCauldron(world, pos, player, hand, stack, waterCauldronLikeBlock().getDefaultState().with(leveledCauldronLikeBlock().level(), leveledCauldronLikeBlock().maxLevel()), SoundEvents.ITEM_BUCKET_EMPTY);
+		return (state, world, pos, player, hand, stack) -> {
+			CauldronLikeBehavior owner = owner(state);
+			return fillCauldron(world, pos, player, hand, stack, owner.waterCauldronLikeBlock().getDefaultState().with(owner.leveledCauldronLikeBlock().level(), owner.leveledCauldronLikeBlock().maxLevel()), SoundEvents.ITEM_BUCKET_EMPTY);
+		};
 	}
 	
 	/**
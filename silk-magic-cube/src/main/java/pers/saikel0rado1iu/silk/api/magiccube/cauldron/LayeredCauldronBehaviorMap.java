@@ -0,0 +1,187 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.magiccube.cauldron;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.ItemActionResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2 style="color:FFC800">分层坩埚行为图表</h2>
+ * 每一层中精确物品优先于物品标签规则，所有层都没有匹配时使用回退行为<br>
+ * 图表可以继承父图表的所有行为，写入只影响自身所在的层，因此多种坩埚类型可以共用同一组行为。
+ * 子图表的层整体覆盖父图表的层，即子图表的标签规则也优先于父图表的精确物品。
+ * 所有层在标签重载或任意图表被修改后合并为一张扁平的查找表，交互时只需一次查找
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.1.2
+ */
+public final class LayeredCauldronBehaviorMap extends AbstractMap<Item, CauldronBehavior> {
+	/**
+	 * 默认回退行为
+	 */
+	public static final CauldronBehavior PASS = (state, world, pos, player, hand, stack) -> ItemActionResult.PASS_TO_DEFAULT_BLOCK_INTERACTION;
+	private static final AtomicInteger VERSION = new AtomicInteger();
+	private final @Nullable LayeredCauldronBehaviorMap parent;
+	private final Reference2ObjectMap<Item, CauldronBehavior> exact = new Reference2ObjectOpenHashMap<>(4);
+	private final Map<TagKey<Item>, CauldronBehavior> tagRules = new LinkedHashMap<>(4);
+	private CauldronBehavior fallback = PASS;
+	/**
+	 * 创建此图表的坩埚类行为，用于根据交互的方块解析继承的行为
+	 */
+	@Nullable CauldronLikeBehavior owner;
+	private volatile Reference2ObjectMap<Item, CauldronBehavior> resolved = Reference2ObjectMaps.emptyMap();
+	private volatile int resolvedVersion = -1;
+	
+	/**
+	 * @param parent 父图表，如果为 {@code null} 则不继承任何行为
+	 */
+	public LayeredCauldronBehaviorMap(@Nullable LayeredCauldronBehaviorMap parent) {
+		this.parent = parent;
+	}
+	
+	/**
+	 * 创建坩埚行为图表
+	 *
+	 * @param name   图表名称
+	 * @param parent 父图表，如果为 {@code null} 则不继承任何行为
+	 * @return 坩埚行为图表
+	 */
+	public static CauldronBehavior.CauldronBehaviorMap create(String name, @Nullable CauldronBehavior.CauldronBehaviorMap parent) {
+		return new CauldronBehavior.CauldronBehaviorMap(name, new LayeredCauldronBehaviorMap(parent == null ? null : of(parent)));
+	}
+	
+	/**
+	 * 获取坩埚行为图表中的分层图表
+	 *
+	 * @param map 坩埚行为图表
+	 * @return 分层坩埚行为图表
+	 * @throws IllegalArgumentException 如果图表不是由分层图表创建的
+	 */
+	public static LayeredCauldronBehaviorMap of(CauldronBehavior.CauldronBehaviorMap map) {
+		if (map.map() instanceof LayeredCauldronBehaviorMap layered) return layered;
+		throw new IllegalArgumentException("Cauldron behavior map '" + map.name() + "' is not a layered behavior map");
+	}
+	
+	/**
+	 * 使所有图表的查找表失效，应在标签重载后调用
+	 */
+	public static void invalidateAll() {
+		VERSION.incrementAndGet();
+	}
+	
+	/**
+	 * 为物品标签添加行为规则，先添加的规则优先
+	 *
+	 * @param tag      物品标签
+	 * @param behavior 坩埚行为
+	 * @return 之前的行为
+	 */
+	public synchronized @Nullable CauldronBehavior putTag(TagKey<Item> tag, CauldronBehavior behavior) {
+		CauldronBehavior previous = tagRules.put(tag, behavior);
+		invalidateAll();
+		return previous;
+	}
+	
+	/**
+	 * 设置回退行为，在精确物品与标签规则都没有匹配时使用
+	 *
+	 * @param fallback 回退行为
+	 */
+	public synchronized void setFallback(CauldronBehavior fallback) {
+		this.fallback = fallback;
+		invalidateAll();
+	}
+	
+	/**
+	 * 获取回退行为，未设置时继承父图表的回退行为
+	 *
+	 * @return 回退行为
+	 */
+	public CauldronBehavior fallback() {
+		return fallback == PASS && parent != null ? parent.fallback() : fallback;
+	}
+	
+	@Override
+	public CauldronBehavior get(Object key) {
+		return lookup().getOrDefault(key, fallback());
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		return lookup().containsKey(key);
+	}
+	
+	@Override
+	public synchronized CauldronBehavior put(Item key, CauldronBehavior value) {
+		CauldronBehavior previous = exact.put(key, value);
+		invalidateAll();
+		return previous;
+	}
+	
+	@Override
+	public synchronized CauldronBehavior remove(Object key) {
+		CauldronBehavior previous = exact.remove(key);
+		if (previous != null) invalidateAll();
+		return previous;
+	}
+	
+	/**
+	 * 获取合并后所有物品的行为，不包括回退行为
+	 *
+	 * @return 不可修改的条目集合
+	 */
+	@Override
+	public Set<Entry<Item, CauldronBehavior>> entrySet() {
+		return Collections.unmodifiableMap(lookup()).entrySet();
+	}
+	
+	private Reference2ObjectMap<Item, CauldronBehavior> lookup() {
+		int version = VERSION.get();
+		if (resolvedVersion == version) return resolved;
+		synchronized (this) {
+			if (resolvedVersion != VERSION.get()) {
+				version = VERSION.get();
+				Reference2ObjectOpenHashMap<Item, CauldronBehavior> flat = new Reference2ObjectOpenHashMap<>();
+				resolve(flat);
+				flat.trim();
+				resolved = flat;
+				resolvedVersion = version;
+			}
+			return resolved;
+		}
+	}
+	
+	/**
+	 * 逐层解析，先解析父图表的层（标签规则后精确物品），再以自身的层覆盖<br>
+	 * 同一图表中精确物品覆盖标签规则，先添加的标签规则优先
+	 */
+	private synchronized void resolve(Map<Item, CauldronBehavior> flat) {
+		if (parent != null) parent.resolve(flat);
+		List<Map.Entry<TagKey<Item>, CauldronBehavior>> rules = new ArrayList<>(tagRules.entrySet());
+		for (int i = rules.size() - 1; i >= 0; i--) {
+			CauldronBehavior behavior = rules.get(i).getValue();
+			for (RegistryEntry<Item> entry : Registries.ITEM.iterateEntries(rules.get(i).getKey())) flat.put(entry.value(), behavior);
+		}
+		flat.putAll(exact);
+	}
+}
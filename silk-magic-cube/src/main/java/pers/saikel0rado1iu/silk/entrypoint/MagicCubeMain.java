@@ -0,0 +1,62 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.entrypoint;
+
+import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import pers.saikel0rado1iu.silk.api.magiccube.cauldron.LayeredCauldronBehaviorMap;
+import pers.saikel0rado1iu.silk.api.modpass.ModData;
+import pers.saikel0rado1iu.silk.api.modpass.ModMain;
+import pers.saikel0rado1iu.silk.api.modpass.ModPass;
+import pers.saikel0rado1iu.silk.api.modpass.registry.MainRegistrationProvider;
+import pers.saikel0rado1iu.silk.impl.SilkMagicCube;
+
+import java.util.Set;
+
+/**
+ * <h2 style="color:FFC800">主类</h2>
+ * Silk API: Magic Cube 的主类
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.1.2
+ */
+public final class MagicCubeMain implements ModMain {
+	/**
+	 * 模组主函数
+	 *
+	 * @param mod 提供的模组通
+	 */
+	@Override
+	public void main(ModPass mod) {
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> LayeredCauldronBehaviorMap.invalidateAll());
+	}
+	
+	/**
+	 * 注册表方法，提供注册表以供注册
+	 *
+	 * @return 注册表的类型集合
+	 */
+	@Override
+	public Set<Class<? extends MainRegistrationProvider<?>>> registry() {
+		return ImmutableSet.of();
+	}
+	
+	/**
+	 * 用于提供模组数据以基于模组数据实现功能
+	 *
+	 * @return 模组数据
+	 */
+	@Override
+	public ModData modData() {
+		return SilkMagicCube.getInstance();
+	}
+}
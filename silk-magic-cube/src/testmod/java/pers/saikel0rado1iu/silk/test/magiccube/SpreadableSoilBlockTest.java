@@ -35,4 +35,9 @@ public final class SpreadableSoilBlockTest extends SpreadableSoilBlock {
 	protected MapCodec<? extends SpreadableBlock> getCodec() {
 		return CODEC;
 	}
+	
+	@Override
+	protected boolean canBeDormant() {
+		return true;
+	}
 }
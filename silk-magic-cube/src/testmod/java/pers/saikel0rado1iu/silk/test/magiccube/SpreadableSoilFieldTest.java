@@ -0,0 +1,94 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.magiccube;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.magiccube.SpreadableSoilBlock;
+
+/**
+ * Test {@link SpreadableSoilBlock} 在大片土地上的随机刻耗时
+ */
+public interface SpreadableSoilFieldTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkMagicCube/TestingSpreadableSoilField");
+	/**
+	 * 土地边长
+	 */
+	int SIZE = 96;
+	
+	/**
+	 * 测试
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		ServerWorld world = server.getOverworld();
+		BlockPos origin = new BlockPos(world.getSpawnPos().getX() - SIZE / 2, world.getTopY() - 16, world.getSpawnPos().getZ() - SIZE / 2);
+		SpreadableSoilBlockTest soil = Blocks.TEST_SPREADABLE_SOIL_BLOCK;
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		// 中心为土块，其余为泥土，使传播前沿与已覆盖区域同时存在
+		for (int x = 0; x < SIZE; x++) {
+			for (int z = 0; z < SIZE; z++) {
+				boolean center = Math.abs(x - SIZE / 2) < SIZE / 4 && Math.abs(z - SIZE / 2) < SIZE / 4;
+				BlockState state = center ? soil.getDefaultState() : net.minecraft.block.Blocks.DIRT.getDefaultState();
+				world.setBlockState(pos.set(origin, x, 0, z), state, Block.NOTIFY_LISTENERS);
+			}
+		}
+		Random random = Random.create(42);
+		for (int round = 0; round < 20; round++) {
+			int ticked = 0;
+			long start = System.nanoTime();
+			for (int x = 0; x < SIZE; x++) {
+				for (int z = 0; z < SIZE; z++) {
+					BlockState state = world.getBlockState(pos.set(origin, x, 0, z));
+					if (!state.isOf(soil)) continue;
+					state.randomTick(world, pos.toImmutable(), random);
+					ticked++;
+				}
+			}
+			long nanos = System.nanoTime() - start;
+			LOGGER.info("round {}: {} soil blocks ticked in {} ms, {} dormant", round, ticked, nanos / 1_000_000, countDormant(world, origin, soil));
+		}
+		for (int x = 0; x < SIZE; x++) {
+			for (int z = 0; z < SIZE; z++) world.setBlockState(pos.set(origin, x, 0, z), net.minecraft.block.Blocks.AIR.getDefaultState(), Block.NOTIFY_LISTENERS);
+		}
+	}
+	
+	/**
+	 * 统计休眠的土块数量
+	 *
+	 * @param world  世界
+	 * @param origin 土地原点
+	 * @param soil   土块
+	 * @return 休眠数量
+	 */
+	static int countDormant(ServerWorld world, BlockPos origin, SpreadableSoilBlock soil) {
+		int dormant = 0;
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		for (int x = 0; x < SIZE; x++) {
+			for (int z = 0; z < SIZE; z++) {
+				BlockState state = world.getBlockState(pos.set(origin, x, 0, z));
+				if (state.isOf(soil) && state.get(SpreadableSoilBlock.DORMANT)) dormant++;
+			}
+		}
+		return dormant;
+	}
+}
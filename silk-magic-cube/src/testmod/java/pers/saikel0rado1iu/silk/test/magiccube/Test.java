@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.test.magiccube;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.BlockView;
@@ -24,7 +25,9 @@ import pers.saikel0rado1iu.silk.api.modpass.ModPass;
 import pers.saikel0rado1iu.silk.api.modpass.registry.MainRegistrationProvider;
 import pers.saikel0rado1iu.silk.impl.SilkMagicCube;
 import pers.saikel0rado1iu.silk.test.magiccube.cauldron.CauldronLikeBehaviorTest;
+import pers.saikel0rado1iu.silk.test.magiccube.cauldron.LayeredCauldronBehaviorMapTest;
 import pers.saikel0rado1iu.silk.test.magiccube.entity.EntityTypes;
+import pers.saikel0rado1iu.silk.test.magiccube.entity.TntLikeEntityChainTest;
 
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -41,6 +44,9 @@ public final class Test implements ModMain {
 	@Override
 	public void main(ModPass mod) {
 		CauldronLikeBehaviorTest.INSTANCE.registerBehavior();
+		ServerLifecycleEvents.SERVER_STARTED.register(LayeredCauldronBehaviorMapTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(SpreadableSoilFieldTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(TntLikeEntityChainTest::test);
 		FireIgniteBlockCallback.EVENT.register((state, world, pos, spreadFactor, random, currentAge) -> {
 			if (!state.isOf(Blocks.TNT_LIKE_BLOCK)) return false;
 			Blocks.TNT_LIKE_BLOCK.primeTnt(world, pos);
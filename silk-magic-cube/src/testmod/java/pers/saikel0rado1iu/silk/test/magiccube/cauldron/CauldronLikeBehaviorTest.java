@@ -14,6 +14,7 @@ package pers.saikel0rado1iu.silk.test.magiccube.cauldron;
 import net.minecraft.block.AbstractCauldronBlock;
 import net.minecraft.block.Block;
 import net.minecraft.registry.tag.TagKey;
+import org.jetbrains.annotations.Nullable;
 import pers.saikel0rado1iu.silk.api.magiccube.cauldron.CauldronLikeBehavior;
 import pers.saikel0rado1iu.silk.api.magiccube.cauldron.LeveledCauldronLikeBlock;
 import pers.saikel0rado1iu.silk.test.magiccube.Blocks;
@@ -25,7 +26,14 @@ public final class CauldronLikeBehaviorTest extends CauldronLikeBehavior {
 	/**
 	 * 实例
 	 */
-	public static final CauldronLikeBehaviorTest INSTANCE = new CauldronLikeBehaviorTest();
+	public static final CauldronLikeBehaviorTest INSTANCE = new CauldronLikeBehaviorTest(null);
+	
+	/**
+	 * @param parent 父坩埚类行为
+	 */
+	CauldronLikeBehaviorTest(@Nullable CauldronLikeBehavior parent) {
+		super(parent);
+	}
 	
 	/**
 	 * 水平面坩埚类方块
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.magiccube.cauldron;
+
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.block.AbstractCauldronBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.cauldron.CauldronBehavior;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.registry.tag.ItemTags;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Hand;
+import net.minecraft.util.ItemActionResult;
+import net.minecraft.util.math.BlockPos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.magiccube.cauldron.CauldronLikeBehavior;
+import pers.saikel0rado1iu.silk.api.magiccube.cauldron.LayeredCauldronBehaviorMap;
+import pers.saikel0rado1iu.silk.api.magiccube.cauldron.LeveledCauldronLikeBlock;
+import pers.saikel0rado1iu.silk.test.magiccube.Blocks;
+
+import java.util.Map;
+
+/**
+ * Test {@link LayeredCauldronBehaviorMap}
+ */
+public interface LayeredCauldronBehaviorMapTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkMagicCube/TestingLayeredCauldronBehaviorMap");
+	
+	/**
+	 * 测试
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		CauldronLikeBehaviorTest behavior = CauldronLikeBehaviorTest.INSTANCE;
+		Map<Item, ?> water = behavior.waterBehavior.map();
+		LOGGER.info("banner = {} (expected true)", water.get(Items.RED_BANNER) == behavior.cleanBanner);
+		LOGGER.info("shulker box = {} (expected true)", water.get(Items.BLUE_SHULKER_BOX) == behavior.cleanShulkerBox);
+		LOGGER.info("dyeable = {} (expected true)", water.get(Items.LEATHER_HELMET) == behavior.cleanDyeableItem);
+		LOGGER.info("stone = {} (expected true)", water.get(Items.STONE) == LayeredCauldronBehaviorMap.PASS);
+		CauldronLikeBehaviorTest child = new CauldronLikeBehaviorTest(behavior);
+		LOGGER.info("inherited banner = {} (expected true)", child.waterBehavior.map().get(Items.RED_BANNER) == behavior.cleanBanner);
+		// 子图表的写入不会影响父图表
+		child.waterBehavior.map().put(Items.RED_BANNER, child.cleanBanner);
+		LOGGER.info("overridden banner = {}, parent banner = {} (expected true, true)",
+				child.waterBehavior.map().get(Items.RED_BANNER) == child.cleanBanner, water.get(Items.RED_BANNER) == behavior.cleanBanner);
+		testLayerOrder();
+		testBlockResolution(server.getOverworld());
+	}
+	
+	/**
+	 * 测试逐层解析：每一层中精确物品优先于标签规则，子图表的层整体覆盖父图表的层
+	 */
+	static void testLayerOrder() {
+		CauldronBehavior parentExact = (state, world, pos, player, hand, stack) -> ItemActionResult.SUCCESS;
+		CauldronBehavior parentTag = (state, world, pos, player, hand, stack) -> ItemActionResult.CONSUME;
+		CauldronBehavior childTag = (state, world, pos, player, hand, stack) -> ItemActionResult.FAIL;
+		CauldronBehavior childExact = (state, world, pos, player, hand, stack) -> ItemActionResult.SKIP_DEFAULT_BLOCK_INTERACTION;
+		CauldronLikeBehaviorTest parent = new CauldronLikeBehaviorTest(null);
+		LayeredCauldronBehaviorMap parentWater = LayeredCauldronBehaviorMap.of(parent.waterBehavior);
+		parentWater.put(Items.RED_BANNER, parentExact);
+		parentWater.putTag(ItemTags.BANNERS, parentTag);
+		LOGGER.info("parent exact over parent tag = {}, parent tag = {} (expected true, true)",
+				parentWater.get(Items.RED_BANNER) == parentExact, parentWater.get(Items.BLUE_BANNER) == parentTag);
+		CauldronLikeBehaviorTest child = new CauldronLikeBehaviorTest(parent);
+		LayeredCauldronBehaviorMap childWater = LayeredCauldronBehaviorMap.of(child.waterBehavior);
+		childWater.putTag(ItemTags.BANNERS, childTag);
+		LOGGER.info("child tag over parent exact = {}, parent unchanged = {} (expected true, true)",
+				childWater.get(Items.RED_BANNER) == childTag, parentWater.get(Items.RED_BANNER) == parentExact);
+		childWater.put(Items.RED_BANNER, childExact);
+		LOGGER.info("child exact over child tag = {}, child tag = {} (expected true, true)",
+				childWater.get(Items.RED_BANNER) == childExact, childWater.get(Items.BLUE_BANNER) == childTag);
+	}
+	
+	/**
+	 * 测试继承的行为根据交互的方块解析目标方块<br>
+	 * 父行为以原版坩埚为目标方块，其行为作用于测试坩埚时应转换为测试坩埚的方块，而不是原版坩埚
+	 *
+	 * @param world 服务端世界
+	 */
+	static void testBlockResolution(ServerWorld world) {
+		CauldronLikeBehavior vanilla = new CauldronLikeBehavior() {
+			@Override
+			public LeveledCauldronLikeBlock leveledCauldronLikeBlock() {
+				return Blocks.WATER_POT_BLOCK;
+			}
+			
+			@Override
+			public AbstractCauldronBlock emptyCauldronLikeBlock() {
+				return (AbstractCauldronBlock) net.minecraft.block.Blocks.CAULDRON;
+			}
+			
+			@Override
+			public AbstractCauldronBlock waterCauldronLikeBlock() {
+				return (AbstractCauldronBlock) net.minecraft.block.Blocks.WATER_CAULDRON;
+			}
+			
+			@Override
+			public AbstractCauldronBlock lavaCauldronLikeBlock() {
+				return (AbstractCauldronBlock) net.minecraft.block.Blocks.LAVA_CAULDRON;
+			}
+			
+			@Override
+			public AbstractCauldronBlock powderSnowCauldronLikeBlock() {
+				return (AbstractCauldronBlock) net.minecraft.block.Blocks.POWDER_SNOW_CAULDRON;
+			}
+			
+			@Override
+			public TagKey<Block> sameCauldronBlockTag() {
+				return BlockTags.CAULDRONS;
+			}
+		};
+		vanilla.registerBehavior();
+		CauldronLikeBehaviorTest child = new CauldronLikeBehaviorTest(vanilla);
+		CauldronBehavior takeWater = child.waterBehavior.map().get(Items.BUCKET);
+		CauldronBehavior fillWater = child.emptyBehavior.map().get(Items.WATER_BUCKET);
+		LOGGER.info("inherited bucket behaviors = {} (expected true)",
+				takeWater == vanilla.waterBehavior.map().get(Items.BUCKET) && fillWater == vanilla.emptyBehavior.map().get(Items.WATER_BUCKET));
+		BlockPos pos = world.getSpawnPos().up(96);
+		world.setBlockState(pos.down(), net.minecraft.block.Blocks.STONE.getDefaultState());
+		FakePlayer player = FakePlayer.get(world);
+		LeveledCauldronLikeBlock waterPot = Blocks.WATER_POT_BLOCK;
+		BlockState full = waterPot.getDefaultState().with(waterPot.level(), waterPot.maxLevel());
+		world.setBlockState(pos, full);
+		player.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.BUCKET));
+		takeWater.interact(full, world, pos, player, Hand.MAIN_HAND, player.getMainHandStack());
+		LOGGER.info("emptied into {} (expected {})", world.getBlockState(pos).getBlock(), Blocks.EMPTY_POT_BLOCK);
+		BlockState empty = world.getBlockState(pos);
+		player.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.WATER_BUCKET));
+		fillWater.interact(empty, world, pos, player, Hand.MAIN_HAND, player.getMainHandStack());
+		LOGGER.info("filled into {} (expected {})", world.getBlockState(pos).getBlock(), Blocks.WATER_POT_BLOCK);
+		player.setStackInHand(Hand.MAIN_HAND, ItemStack.EMPTY);
+		world.setBlockState(pos, net.minecraft.block.Blocks.AIR.getDefaultState());
+		world.setBlockState(pos.down(), net.minecraft.block.Blocks.AIR.getDefaultState());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.magiccube.entity;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.spore.TntLikeEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Test {@link TntLikeEntity} 的近似爆炸与物理休眠
+ */
+public interface TntLikeEntityChainTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkMagicCube/TestingTntLikeEntityChain");
+	/**
+	 * 集群边长
+	 */
+	int COUNT = 2;
+	/**
+	 * 近似模式下使用的近似半径
+	 */
+	double APPROXIMATION_RADIUS = 4;
+	/**
+	 * 集群外实体与集群的距离
+	 */
+	int DISTANCE = 16;
+	
+	/**
+	 * 测试
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		ServerWorld world = server.getOverworld();
+		BlockPos origin = new BlockPos(world.getSpawnPos().getX(), world.getTopY() - 16, world.getSpawnPos().getZ());
+		testApproximation(world, origin);
+		testResting(world, origin);
+	}
+	
+	/**
+	 * 测试半径内同一刻引爆的实体被一次近似爆炸代替，半径外的实体仍然逐个爆炸
+	 *
+	 * @param world  世界
+	 * @param origin 原点
+	 */
+	static void testApproximation(ServerWorld world, BlockPos origin) {
+		List<TntLikeEntityTest> entities = new ArrayList<>(COUNT * COUNT * COUNT + 1);
+		for (int x = 0; x < COUNT; x++) {
+			for (int y = 0; y < COUNT; y++) {
+				for (int z = 0; z < COUNT; z++) {
+					entities.add(new TntLikeEntityTest(world, origin.getX() + x + 0.5, origin.getY() + y, origin.getZ() + z + 0.5, Optional.empty()));
+				}
+			}
+		}
+		entities.add(new TntLikeEntityTest(world, origin.getX() + DISTANCE + 0.5, origin.getY(), origin.getZ() + 0.5, Optional.empty()));
+		// 近似爆炸是有损的，仅在此测试中启用
+		TntLikeEntityTest.approximationRadius = APPROXIMATION_RADIUS;
+		TntLikeEntityTest.approximatedExplosions = 0;
+		try {
+			for (TntLikeEntityTest entity : entities) {
+				entity.setNoGravity(true);
+				entity.setFuse(1);
+				entity.tick();
+			}
+			TntLikeEntity.detonatePending(world);
+		} finally {
+			TntLikeEntityTest.approximationRadius = 0;
+		}
+		LOGGER.info("approximated explosions = {}, power = {} (expected 1, 8.0)", TntLikeEntityTest.approximatedExplosions, TntLikeEntityTest.approximatedPower);
+	}
+	
+	/**
+	 * 测试静止在地面上的实体会休眠，支撑方块被破坏后会被唤醒
+	 *
+	 * @param world  世界
+	 * @param origin 原点
+	 */
+	static void testResting(ServerWorld world, BlockPos origin) {
+		world.setBlockState(origin, Blocks.SMOOTH_STONE.getDefaultState(), Block.NOTIFY_LISTENERS);
+		TntLikeEntityTest resting = new TntLikeEntityTest(world, origin.getX() + 0.5, origin.getY() + 1, origin.getZ() + 0.5, Optional.empty());
+		resting.setFuse(1000);
+		for (int tick = 0; tick < 40; tick++) resting.tick();
+		boolean asleep = resting.isSleeping();
+		world.setBlockState(resting.getLandingPos(), Blocks.AIR.getDefaultState(), Block.NOTIFY_LISTENERS);
+		resting.tick();
+		LOGGER.info("resting = {}, after support removed = {} (expected true, false)", asleep, resting.isSleeping());
+		resting.discard();
+		world.setBlockState(origin, Blocks.AIR.getDefaultState(), Block.NOTIFY_LISTENERS);
+	}
+}
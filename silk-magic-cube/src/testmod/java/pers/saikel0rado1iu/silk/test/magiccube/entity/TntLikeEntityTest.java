@@ -14,16 +14,22 @@ package pers.saikel0rado1iu.silk.test.magiccube.entity;
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import pers.saikel0rado1iu.silk.api.spore.TntLikeEntity;
 import pers.saikel0rado1iu.silk.test.magiccube.Blocks;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Test {@link TntLikeEntity}
  */
 public final class TntLikeEntityTest extends TntLikeEntity {
+	static double approximationRadius = 0;
+	static int approximatedExplosions = 0;
+	static float approximatedPower = 0;
+	
 	TntLikeEntityTest(EntityType<?> type, World world) {
 		super(type, world, Optional.empty());
 	}
@@ -49,6 +55,30 @@ public final class TntLikeEntityTest extends TntLikeEntity {
 		return 80;
 	}
 	
+	/**
+	 * 近似爆炸半径
+	 *
+	 * @return 近似半径
+	 */
+	@Override
+	protected double explosionApproximationRadius() {
+		return approximationRadius;
+	}
+	
+	/**
+	 * 近似爆炸方法
+	 *
+	 * @param cluster 被近似的实体
+	 * @param center  爆炸中心
+	 * @param power   爆炸威力
+	 */
+	@Override
+	protected void explodeApproximated(List<? extends TntLikeEntity> cluster, Vec3d center, float power) {
+		approximatedExplosions++;
+		approximatedPower = power;
+		super.explodeApproximated(cluster, center, power);
+	}
+	
 	/**
 	 * TNT 方块
 	 *
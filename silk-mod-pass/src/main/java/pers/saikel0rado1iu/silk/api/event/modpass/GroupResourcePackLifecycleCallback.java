@@ -0,0 +1,57 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.event.modpass;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import pers.saikel0rado1iu.silk.api.modpass.pack.GroupResourcePack;
+
+/**
+ * <h2>组资源包生命周期回调</h2>
+ * 在组资源包打开或关闭其子资源包时触发，用于统计子资源包的打开与关闭次数及耗时
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.2.4
+ */
+@FunctionalInterface
+public interface GroupResourcePackLifecycleCallback {
+    /** 事件 */
+    Event<GroupResourcePackLifecycleCallback> EVENT = EventFactory.createArrayBacked(
+            GroupResourcePackLifecycleCallback.class,
+            listeners -> (pack, phase, count, nanos) -> {
+                for (GroupResourcePackLifecycleCallback event : listeners) {
+                    event.onLifecycle(pack, phase, count, nanos);
+                }
+            });
+
+    /**
+     * 生命周期回调
+     *
+     * @param pack  组资源包
+     * @param phase 生命周期阶段
+     * @param count 此次打开或关闭的子资源包数
+     * @param nanos 此次打开或关闭的耗时，单位为纳秒
+     */
+    void onLifecycle(GroupResourcePack pack, Phase phase, int count, long nanos);
+
+    /**
+     * 生命周期阶段
+     */
+    enum Phase {
+        /** 打开子资源包 */
+        OPEN,
+        /** 关闭组资源包及其所有子资源包 */
+        CLOSE
+    }
+}
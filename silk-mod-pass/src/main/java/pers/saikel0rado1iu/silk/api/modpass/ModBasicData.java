@@ -11,26 +11,23 @@
 
 package pers.saikel0rado1iu.silk.api.modpass;
 
-import net.fabricmc.loader.api.FabricLoader;
 import net.fabricmc.loader.api.ModContainer;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.ApiStatus;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import pers.saikel0rado1iu.silk.impl.SilkModPass;
 
 import java.net.MalformedURLException;
-import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.Optional;
 
 /**
  * <h2>模组基础数据</h2>
- * 使用此接口参考 {@link pers.saikel0rado1iu.silk.impl.SilkApi}
+ * 使用此接口参考 {@link pers.saikel0rado1iu.silk.impl.SilkApi}<br>
+ * 模组容器、记录器、名称、版本、作者与链接等元数据会在首次访问时解析为不可变快照并按模组 ID 缓存，
+ * 覆写了 {@link ModBasicData#mod()} 时按实例缓存并从覆写的模组容器解析
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu">
  *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
@@ -61,15 +58,7 @@ public interface ModBasicData extends ModPass {
      * @throws RuntimeException 如果未找到指定的模组信息
      */
     default ModContainer mod() {
-        var modContainerOptional = FabricLoader.getInstance().getModContainer(id());
-        if (modContainerOptional.isEmpty()) {
-            String msg = String.format(
-                    "The mod was not found: The mod with path '%s' does not exist!",
-                    id());
-            SilkModPass.INSTANCE.logger().error(msg);
-            throw new RuntimeException(msg);
-        }
-        return modContainerOptional.get();
+        return ModMetadataSnapshot.of(this).mod();
     }
 
     /**
@@ -79,7 +68,7 @@ public interface ModBasicData extends ModPass {
      * @return 记录器对象
      */
     default Logger logger() {
-        return LoggerFactory.getLogger(name());
+        return ModMetadataSnapshot.of(this).logger(name());
     }
 
     /**
@@ -97,7 +86,7 @@ public interface ModBasicData extends ModPass {
      * @return 模组的名称
      */
     default String name() {
-        return mod().getMetadata().getName();
+        return ModMetadataSnapshot.of(this).name();
     }
 
     /**
@@ -106,7 +95,7 @@ public interface ModBasicData extends ModPass {
      * @return 模组的描述信息
      */
     default String description() {
-        return mod().getMetadata().getDescription();
+        return ModMetadataSnapshot.of(this).description();
     }
 
     /**
@@ -115,7 +104,7 @@ public interface ModBasicData extends ModPass {
      * @return 模组的版本号
      */
     default String version() {
-        return mod().getMetadata().getVersion().getFriendlyString();
+        return ModMetadataSnapshot.of(this).version();
     }
 
     /**
@@ -133,18 +122,7 @@ public interface ModBasicData extends ModPass {
      * @return 模组的作者列表
      */
     default Collection<String> authors() {
-        List<String> authors = new ArrayList<>(2);
-        mod().getMetadata().getAuthors().stream().toList().forEach(person -> {
-            String name = person.getName();
-            String magic = "§";
-            if (name.contains(magic)) {
-                List<String> strings = new ArrayList<>(List.of(name.split("§")));
-                strings.replaceAll(s -> !s.isEmpty() ? s.substring(1) : s);
-                name = String.join("", strings);
-            }
-            authors.add(name);
-        });
-        return authors;
+        return ModMetadataSnapshot.of(this).authors();
     }
 
     /**
@@ -153,7 +131,7 @@ public interface ModBasicData extends ModPass {
      * @return 模组的许可证列表
      */
     default Collection<String> licenses() {
-        return mod().getMetadata().getLicense();
+        return ModMetadataSnapshot.of(this).licenses();
     }
 
     /**
@@ -162,8 +140,7 @@ public interface ModBasicData extends ModPass {
      * @return 包含模组图标的 {@link Optional} 对象
      */
     default Optional<Identifier> icon() {
-        Optional<String> path = mod().getMetadata().getIconPath(4);
-        return path.map(id -> Identifier.of(id(), "icon.png"));
+        return ModMetadataSnapshot.of(this).icon();
     }
 
     /**
@@ -201,11 +178,7 @@ public interface ModBasicData extends ModPass {
      */
     @ApiStatus.OverrideOnly
     default Optional<URL> homepage() throws MalformedURLException, URISyntaxException {
-        Optional<String> url = mod().getMetadata().getContact().get("homepage");
-        if (url.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(new URI(url.get()).toURL());
+        return ModMetadataSnapshot.of(this).contact("homepage");
     }
 
     /**
@@ -219,11 +192,7 @@ public interface ModBasicData extends ModPass {
      */
     @ApiStatus.OverrideOnly
     default Optional<URL> sources() throws MalformedURLException, URISyntaxException {
-        Optional<String> url = mod().getMetadata().getContact().get("sources");
-        if (url.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(new URI(url.get()).toURL());
+        return ModMetadataSnapshot.of(this).contact("sources");
     }
 
     /**
@@ -237,11 +206,7 @@ public interface ModBasicData extends ModPass {
      */
     @ApiStatus.OverrideOnly
     default Optional<URL> issues() throws MalformedURLException, URISyntaxException {
-        Optional<String> url = mod().getMetadata().getContact().get("issues");
-        if (url.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(new URI(url.get()).toURL());
+        return ModMetadataSnapshot.of(this).contact("issues");
     }
 
     /**
@@ -0,0 +1,188 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.modpass;
+
+import com.google.common.collect.MapMaker;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.fabricmc.loader.api.metadata.ModMetadata;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.impl.SilkModPass;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>模组元数据快照</h2>
+ * 以模组 ID 为键缓存的不可变模组元数据，每个模组只会在首次访问时从 {@link FabricLoader} 解析一次<br>
+ * 覆写了 {@link ModBasicData#mod()} 的模组数据以实例为键缓存，并从覆写的模组容器解析元数据；
+ * 覆写的 {@link ModBasicData#name()} 不会被快照替代，记录器会以覆写的名称命名
+ *
+ * @param mod         模组容器
+ * @param name        模组名称
+ * @param description 模组描述
+ * @param version     模组版本
+ * @param authors     去除格式代码后的作者列表
+ * @param licenses    许可证列表
+ * @param icon        模组图标
+ * @param logger      以模组名称命名的记录器
+ * @param contacts    已解析的联系链接
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.2.4
+ */
+record ModMetadataSnapshot(ModContainer mod, String name, String description, String version,
+                           List<String> authors, List<String> licenses,
+                           Optional<Identifier> icon, Logger logger,
+                           Map<String, Link> contacts) {
+    private static final Map<String, ModMetadataSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+    private static final Map<ModBasicData, ModMetadataSnapshot> INSTANCE_SNAPSHOTS = new MapMaker().weakKeys().makeMap();
+    private static final ClassValue<Boolean> OVERRIDES_MOD = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("mod").getDeclaringClass() != ModBasicData.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+    private static final List<String> CONTACT_KEYS = List.of("homepage", "sources", "issues");
+
+    /**
+     * 获取模组的元数据快照
+     *
+     * @param modData 模组基础数据
+     * @return 元数据快照
+     * @throws RuntimeException 如果未找到指定的模组信息
+     */
+    static ModMetadataSnapshot of(ModBasicData modData) {
+        if (OVERRIDES_MOD.get(modData.getClass())) {
+            ModMetadataSnapshot snapshot = INSTANCE_SNAPSHOTS.get(modData);
+            if (snapshot != null) {
+                return snapshot;
+            }
+            snapshot = create(modData.id(), modData.mod());
+            ModMetadataSnapshot previous = INSTANCE_SNAPSHOTS.putIfAbsent(modData, snapshot);
+            return previous != null ? previous : snapshot;
+        }
+        String id = modData.id();
+        ModMetadataSnapshot snapshot = SNAPSHOTS.get(id);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // 未找到模组时会写入 Silk Mod Pass 的日志，因此不能在 computeIfAbsent 中解析
+        snapshot = create(id, find(id));
+        ModMetadataSnapshot previous = SNAPSHOTS.putIfAbsent(id, snapshot);
+        return previous != null ? previous : snapshot;
+    }
+
+    private static ModContainer find(String id) {
+        Optional<ModContainer> modContainerOptional = FabricLoader.getInstance().getModContainer(id);
+        if (modContainerOptional.isEmpty()) {
+            String msg = String.format(
+                    "The mod was not found: The mod with path '%s' does not exist!",
+                    id);
+            SilkModPass.INSTANCE.logger().error(msg);
+            throw new RuntimeException(msg);
+        }
+        return modContainerOptional.get();
+    }
+
+    private static ModMetadataSnapshot create(String id, ModContainer mod) {
+        ModMetadata metadata = mod.getMetadata();
+        List<String> authors = new ArrayList<>(2);
+        metadata.getAuthors().forEach(person -> {
+            String name = person.getName();
+            String magic = "§";
+            if (name.contains(magic)) {
+                List<String> strings = new ArrayList<>(List.of(name.split("§")));
+                strings.replaceAll(s -> !s.isEmpty() ? s.substring(1) : s);
+                name = String.join("", strings);
+            }
+            authors.add(name);
+        });
+        Map<String, Link> contacts = new HashMap<>(CONTACT_KEYS.size());
+        for (String key : CONTACT_KEYS) {
+            contacts.put(key, Link.parse(metadata.getContact().get(key)));
+        }
+        String name = metadata.getName();
+        return new ModMetadataSnapshot(mod, name, metadata.getDescription(),
+                metadata.getVersion().getFriendlyString(), List.copyOf(authors),
+                List.copyOf(metadata.getLicense()),
+                metadata.getIconPath(4).map(path -> Identifier.of(id, "icon.png")),
+                LoggerFactory.getLogger(name), Map.copyOf(contacts));
+    }
+
+    /**
+     * 获取记录器，名称与模组名称不同时创建新的记录器
+     *
+     * @param name 记录器名称
+     * @return 记录器
+     */
+    Logger logger(String name) {
+        return this.name.equals(name) ? logger : LoggerFactory.getLogger(name);
+    }
+
+    /**
+     * 获取已解析的联系链接
+     *
+     * @param key 联系方式键
+     * @return 链接
+     * @throws MalformedURLException 如果链接格式不正确
+     * @throws URISyntaxException    如果链接语法不正常
+     */
+    Optional<URL> contact(String key) throws MalformedURLException, URISyntaxException {
+        Link link = contacts.get(key);
+        return link == null ? Optional.empty() : link.get();
+    }
+
+    /**
+     * 已解析的链接，解析失败时保存异常以在每次获取时抛出
+     *
+     * @param url   链接
+     * @param error 解析异常
+     */
+    record Link(Optional<URL> url, @Nullable Exception error) {
+        private static Link parse(Optional<String> url) {
+            if (url.isEmpty()) {
+                return new Link(Optional.empty(), null);
+            }
+            try {
+                return new Link(Optional.of(new URI(url.get()).toURL()), null);
+            } catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+                return new Link(Optional.empty(), e);
+            }
+        }
+
+        private Optional<URL> get() throws MalformedURLException, URISyntaxException {
+            if (error instanceof MalformedURLException e) {
+                throw e;
+            }
+            if (error instanceof URISyntaxException e) {
+                throw e;
+            }
+            if (error instanceof RuntimeException e) {
+                throw e;
+            }
+            return url;
+        }
+    }
+}
@@ -14,6 +14,8 @@ package pers.saikel0rado1iu.silk.api.modpass.pack;
 import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.resource.ModResourcePack;
 import net.fabricmc.fabric.impl.resource.loader.ModNioResourcePack;
@@ -25,15 +27,21 @@ import net.minecraft.resource.metadata.ResourceMetadataReader;
 import net.minecraft.util.Identifier;
 import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.Nullable;
+import pers.saikel0rado1iu.silk.api.event.modpass.GroupResourcePackLifecycleCallback;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.FileSystems;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * <h2>组资源包</h2>
- * 表示一个组资源包，将多个资源包作为一个资源包保存。
+ * 表示一个组资源包，将多个资源包作为一个资源包保存。<br>
+ * 构建时保存资源包与排序列表的不可变快照，资源包顺序只在构建时解析一次，每个 (资源类型, 命名空间) 的路径索引在首次查找时建立，
+ * 之后打开资源只需一次哈希查找。组资源包根目录的资源包在每次重载中只打开一次，并随组资源包一同关闭。
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu">
  *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
@@ -46,37 +54,68 @@ public class GroupResourcePack implements ResourcePack {
     protected final List<? extends ResourcePack> packs;
     protected final List<String> orderList;
     protected final Map<String, List<ResourcePack>> namespacedPacks = new Object2ObjectOpenHashMap<>();
+    private final Resolved resolved;
+    private ModNioResourcePack rootPack = null;
+    private boolean rootPackOpened = false;
+    private boolean closed = false;
 
     /**
      * @param type      资源类型
-     * @param packs     所有资源包
-     * @param orderList 排序列表
+     * @param packs     所有资源包，构建后对列表的修改不会生效
+     * @param orderList 排序列表，构建后对列表的修改不会生效
      * @param group     组模组包
      */
     public GroupResourcePack(ResourceType type, List<? extends ResourcePack> packs,
                              List<String> orderList, ModPack.Group group) {
         this.type = type;
-        this.packs = packs;
+        this.packs = List.copyOf(packs);
         this.group = group;
-        this.orderList = orderList;
-        this.packs.forEach(pack -> pack.getNamespaces(this.type).forEach(
-                namespace -> this.namespacedPacks
+        this.orderList = List.copyOf(orderList);
+        this.resolved = resolve();
+    }
+
+    /**
+     * 是否可以通过 {@link ResourcePack#findResources} 以空前缀枚举资源包中的所有文件来建立路径索引<br>
+     * 不可索引的资源包会在查找时按顺序逐一打开
+     *
+     * @param pack 资源包
+     * @return 是否可索引
+     * @since 1.2.4
+     */
+    protected boolean isIndexable(ResourcePack pack) {
+        return pack instanceof ModNioResourcePack;
+    }
+
+    private Resolved resolve() {
+        namespacedPacks.clear();
+        packs.forEach(pack -> pack.getNamespaces(this.type).forEach(
+                namespace -> namespacedPacks
                         .computeIfAbsent(namespace, value -> new ArrayList<>())
                         .add(pack)));
+        // 排序列表中的资源包按列表顺序排在最前，其余资源包按原顺序倒序排在其后，越靠后的资源包优先级越高
+        List<ResourcePack> ordered = Lists.newArrayList(packs);
+        Map<String, Integer> orderMap = Maps.newHashMapWithExpectedSize(orderList.size());
+        for (int count = 0; count < orderList.size(); count++) {
+            orderMap.put(orderList.get(count), Integer.MAX_VALUE - count);
+        }
+        ordered.sort(Comparator.comparingInt(pack -> orderMap.getOrDefault(pack.getId(), 0)));
+        Collections.reverse(ordered);
+        Map<String, List<ResourcePack>> orderedNamespaces = new Object2ObjectOpenHashMap<>(namespacedPacks.size());
+        for (ResourcePack pack : ordered) {
+            for (String namespace : pack.getNamespaces(this.type)) {
+                orderedNamespaces.computeIfAbsent(namespace, value -> new ArrayList<>()).add(pack);
+            }
+        }
+        return new Resolved(orderedNamespaces, Set.copyOf(namespacedPacks.keySet()), new ConcurrentHashMap<>());
     }
 
-    private List<? extends ResourcePack> orderList(List<? extends ResourcePack> packList) {
-        if (packList == null) {
+    @Nullable
+    private PathIndex index(ResourceType type, String namespace) {
+        List<ResourcePack> packs = resolved.namespacedPacks.get(namespace);
+        if (packs == null) {
             return null;
         }
-        List<? extends ResourcePack> packs = Lists.newArrayList(packList);
-        Map<String, Integer> orderMap = Maps.newHashMapWithExpectedSize(packs.size());
-        for (int count = 0; count < orderList.size(); count++) {
-            orderMap.put(orderList.get(count), Integer.MAX_VALUE - count);
-        }
-        packs.sort(Comparator.comparingInt(pack -> orderMap.getOrDefault(pack.getId(), 0)));
-        Collections.reverse(packs);
-        return packs;
+        return resolved.indexes.computeIfAbsent(new IndexKey(type, namespace), key -> PathIndex.build(key, packs, this::isIndexable));
     }
 
     @SuppressWarnings("UnstableApiUsage")
@@ -91,34 +130,40 @@ public class GroupResourcePack implements ResourcePack {
                     group.descKey);
             return () -> IOUtils.toInputStream(pack, Charsets.UTF_8);
         }
+        ModNioResourcePack rootPack = rootPack();
+        return rootPack == null ? null : rootPack.openRoot(segments);
+    }
+
+    /**
+     * 获取组资源包根目录对应的资源包，只在首次使用时打开，并随组资源包一同关闭
+     */
+    @Nullable
+    private synchronized ModNioResourcePack rootPack() {
+        if (rootPackOpened || closed) {
+            return rootPack;
+        }
+        long start = System.nanoTime();
         String subPath = ("resourcepacks/" + group.id().getPath())
                 .replace("/", FileSystems.getDefault().getSeparator());
-        try (ModNioResourcePack modPack = ModNioResourcePack.create(group.id().toString(),
-                group.modData().mod(), subPath, type, group.type(), false)) {
-            return modPack.openRoot(segments);
-        }
+        rootPack = ModNioResourcePack.create(group.id().toString(),
+                group.modData().mod(), subPath, type, group.type(), false);
+        rootPackOpened = true;
+        GroupResourcePackLifecycleCallback.EVENT.invoker().onLifecycle(this,
+                GroupResourcePackLifecycleCallback.Phase.OPEN, rootPack == null ? 0 : 1,
+                System.nanoTime() - start);
+        return rootPack;
     }
 
     @Override
     public InputSupplier<InputStream> open(ResourceType type, Identifier id) {
-        List<? extends ResourcePack> packs = orderList(namespacedPacks.get(id.getNamespace()));
-        if (packs == null) {
-            return null;
-        }
-        InputSupplier<InputStream> inputSupplier = null;
-        for (ResourcePack pack : packs) {
-            InputSupplier<InputStream> supplier = pack.open(type, id);
-            if (supplier != null) {
-                inputSupplier = supplier;
-            }
-        }
-        return inputSupplier;
+        PathIndex index = index(type, id.getNamespace());
+        return index == null ? null : index.open(type, id);
     }
 
     @Override
     public void findResources(ResourceType type, String namespace, String prefix,
                               ResultConsumer consumer) {
-        List<? extends ResourcePack> packs = orderList(namespacedPacks.get(namespace));
+        List<ResourcePack> packs = resolved.namespacedPacks.get(namespace);
         if (packs == null) {
             return;
         }
@@ -129,7 +174,8 @@ public class GroupResourcePack implements ResourcePack {
 
     @Override
     public Set<String> getNamespaces(ResourceType type) {
-        return namespacedPacks.keySet();
+        // 返回构建时创建的不可变快照
+        return resolved.namespaces;
     }
 
     @Nullable
@@ -151,7 +197,22 @@ public class GroupResourcePack implements ResourcePack {
 
     @Override
     public void close() {
-        packs.forEach(ResourcePack::close);
+        long start = System.nanoTime();
+        int count = packs.size();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            packs.forEach(ResourcePack::close);
+            if (rootPack != null) {
+                rootPack.close();
+                rootPack = null;
+                count++;
+            }
+        }
+        GroupResourcePackLifecycleCallback.EVENT.invoker().onLifecycle(this,
+                GroupResourcePackLifecycleCallback.Phase.CLOSE, count, System.nanoTime() - start);
     }
 
     /**
@@ -162,21 +223,84 @@ public class GroupResourcePack implements ResourcePack {
      * @param resources 资源列表
      */
     public void appendResources(ResourceType type, Identifier id, List<Resource> resources) {
-        List<? extends ResourcePack> packs = orderList(namespacedPacks.get(id.getNamespace()));
-        if (packs == null) {
+        PathIndex index = index(type, id.getNamespace());
+        if (index == null) {
             return;
         }
         Identifier metadataId = NamespaceResourceManager.getMetadataPath(id);
-        for (ResourcePack pack : packs) {
-            InputSupplier<InputStream> supplier = pack.open(type, id);
-            if (supplier == null) {
-                continue;
-            }
+        index.forEach(type, id, (pack, supplier) -> {
             InputSupplier<ResourceMetadata> metadataSupplier = () -> {
                 InputSupplier<InputStream> rawMetadataSupplier = pack.open(type, metadataId);
                 return rawMetadataSupplier != null ? NamespaceResourceManager.loadMetadata(rawMetadataSupplier) : ResourceMetadata.NONE;
             };
             resources.add(new Resource(pack, supplier, metadataSupplier));
+        });
+    }
+
+    private record Resolved(Map<String, List<ResourcePack>> namespacedPacks, Set<String> namespaces,
+                            Map<IndexKey, PathIndex> indexes) {
+    }
+
+    private record IndexKey(ResourceType type, String namespace) {
+    }
+
+    /**
+     * 路径索引，记录每个路径存在于命名空间内哪些可索引的资源包中
+     *
+     * @param packs     按优先级从低到高排列的资源包
+     * @param paths     路径到包含此路径的资源包位置的映射，位置升序排列
+     * @param unindexed 不可索引的资源包位置，升序排列
+     */
+    private record PathIndex(List<ResourcePack> packs, Map<Identifier, int[]> paths, int[] unindexed) {
+        private static final int[] EMPTY = new int[0];
+
+        private static PathIndex build(IndexKey key, List<ResourcePack> packs, Predicate<ResourcePack> indexable) {
+            Map<Identifier, int[]> paths = new Object2ObjectOpenHashMap<>();
+            IntList unindexed = new IntArrayList();
+            for (int count = 0; count < packs.size(); count++) {
+                ResourcePack pack = packs.get(count);
+                if (!indexable.test(pack)) {
+                    unindexed.add(count);
+                    continue;
+                }
+                final int position = count;
+                pack.findResources(key.type, key.namespace, "", (id, supplier) -> paths.merge(id, new int[]{position}, (positions, value) -> {
+                    // 同一资源包可能有多个根路径包含同一文件
+                    if (positions[positions.length - 1] == position) {
+                        return positions;
+                    }
+                    int[] merged = Arrays.copyOf(positions, positions.length + 1);
+                    merged[positions.length] = position;
+                    return merged;
+                }));
+            }
+            return new PathIndex(packs, paths, unindexed.toIntArray());
+        }
+
+        private InputSupplier<InputStream> open(ResourceType type, Identifier id) {
+            int[] positions = paths.getOrDefault(id, EMPTY);
+            int winner = positions.length == 0 ? -1 : positions[positions.length - 1];
+            for (int count = unindexed.length - 1; count >= 0 && unindexed[count] > winner; count--) {
+                InputSupplier<InputStream> supplier = packs.get(unindexed[count]).open(type, id);
+                if (supplier != null) {
+                    return supplier;
+                }
+            }
+            return winner < 0 ? null : packs.get(winner).open(type, id);
+        }
+
+        private void forEach(ResourceType type, Identifier id, BiConsumer<ResourcePack, InputSupplier<InputStream>> action) {
+            int[] positions = paths.getOrDefault(id, EMPTY);
+            int indexed = 0;
+            int other = 0;
+            while (indexed < positions.length || other < unindexed.length) {
+                boolean takeIndexed = other >= unindexed.length || (indexed < positions.length && positions[indexed] < unindexed[other]);
+                ResourcePack pack = packs.get(takeIndexed ? positions[indexed++] : unindexed[other++]);
+                InputSupplier<InputStream> supplier = pack.open(type, id);
+                if (supplier != null) {
+                    action.accept(pack, supplier);
+                }
+            }
         }
     }
 
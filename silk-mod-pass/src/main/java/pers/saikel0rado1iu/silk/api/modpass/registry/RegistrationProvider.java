@@ -20,6 +20,7 @@ import pers.saikel0rado1iu.silk.impl.SilkModPass;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * <h2>注册提供器</h2>
@@ -125,27 +126,38 @@ public sealed interface RegistrationProvider<T> extends ModPass
 
     /**
      * 获取注册项的命名空间
+     * <p>
+     * 调用方法索引与 {@link Thread#getStackTrace()} 的索引一致，但只会遍历到所需的栈帧，
+     * 调用者类的命名空间在首次解析后缓存
      *
      * @param callerMethodIndex 调用方法索引
      * @return 命名空间
      */
     static String getNamespace(int callerMethodIndex) {
-        // 获取调用当前方法的类名
-        final String callerClassName = Thread
-                .currentThread().getStackTrace()[callerMethodIndex].getClassName();
-
-        try {
-            Class<?> callerClass = Class.forName(callerClassName);
-            RegistryNamespace anno = callerClass.getAnnotation(RegistryNamespace.class);
-            return anno.value();
-        } catch (ClassNotFoundException e) {
+        // Thread#getStackTrace() 的第 0 帧为其自身，而栈遍历器的第 0 帧为当前方法
+        Optional<Class<?>> callerClass = RegistryNamespaces.STACK_WALKER.walk(frames -> frames
+                .skip(callerMethodIndex - 1)
+                .findFirst()
+                .map(StackWalker.StackFrame::getDeclaringClass));
+        if (callerClass.isEmpty()) {
             String msg = String.format(
-                    "Special Error: Unable to find class \"%s\" in the code environment.",
-                    callerClassName);
-            SilkModPass.INSTANCE.logger().error(msg, e);
+                    "Special Error: Unable to find the caller at stack index %d.",
+                    callerMethodIndex);
+            SilkModPass.INSTANCE.logger().error(msg);
+            return Minecraft.ID;
         }
+        return RegistryNamespaces.of(callerClass.get());
+    }
 
-        return Minecraft.ID;
+    /**
+     * 获取注册表类的命名空间，无需遍历调用栈
+     *
+     * @param registry 使用 {@link RegistryNamespace} 注解的注册表类
+     * @return 命名空间
+     * @since 1.2.4
+     */
+    static String getNamespace(Class<?> registry) {
+        return RegistryNamespaces.of(registry);
     }
 
     private static boolean processParameterizedType(ModPass modPass,
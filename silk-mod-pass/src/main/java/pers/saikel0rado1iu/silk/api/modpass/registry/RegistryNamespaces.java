@@ -0,0 +1,57 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.modpass.registry;
+
+import pers.saikel0rado1iu.silk.api.annotation.RegistryNamespace;
+import pers.saikel0rado1iu.silk.impl.SilkModPass;
+
+/**
+ * <h2>注册表命名空间</h2>
+ * 只遍历所需栈帧的调用者查找与按类缓存的 {@link RegistryNamespace} 解析
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.2.4
+ */
+final class RegistryNamespaces {
+    /** 保留类引用的栈遍历器，无需通过类名重新加载调用者 */
+    static final StackWalker STACK_WALKER = StackWalker.getInstance(
+            StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ClassValue<String> NAMESPACES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            RegistryNamespace anno = type.getAnnotation(RegistryNamespace.class);
+            if (anno == null) {
+                String msg = String.format(
+                        "Registry Error: The class \"%s\" is not annotated with @RegistryNamespace.",
+                        type.getName());
+                SilkModPass.INSTANCE.logger().error(msg);
+                throw new RuntimeException(msg);
+            }
+            return anno.value();
+        }
+    };
+
+    private RegistryNamespaces() {
+    }
+
+    /**
+     * 获取类的注册表命名空间
+     *
+     * @param type 使用 {@link RegistryNamespace} 注解的类
+     * @return 命名空间
+     */
+    static String of(Class<?> type) {
+        return NAMESPACES.get(type);
+    }
+}
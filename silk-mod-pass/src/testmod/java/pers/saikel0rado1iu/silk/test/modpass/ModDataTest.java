@@ -11,11 +11,21 @@
 
 package pers.saikel0rado1iu.silk.test.modpass;
 
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pers.saikel0rado1iu.silk.api.modpass.ModBasicData;
 import pers.saikel0rado1iu.silk.impl.SilkModPass;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+
 /**
  * Test {@link ModBasicData}
  */
@@ -24,6 +34,10 @@ public interface ModDataTest {
      * 日志
      */
     Logger LOGGER = LoggerFactory.getLogger("SilkModPass/TestingModBasicData");
+    /**
+     * 基准测试迭代次数
+     */
+    int ITERATIONS = 200_000;
 
     /**
      * 测试
@@ -55,5 +69,102 @@ public interface ModDataTest {
                 SilkModPass.INSTANCE.link(ModBasicData.LinkType.COMMUNITY));
         LOGGER.info("SilkModPass.INSTANCE.link(ModData.LinkType.SUPPORT) = {}",
                 SilkModPass.INSTANCE.link(ModBasicData.LinkType.SUPPORT));
+        testPublication();
+        testOverrides();
+        benchmarkAccessors();
+    }
+
+    private static void testPublication() {
+        Set<Collection<String>> authors = ConcurrentHashMap.newKeySet();
+        Set<ModContainer> containers = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int count = 0; count < 64; count++) {
+                executor.execute(() -> {
+                    authors.add(SilkModPass.INSTANCE.authors());
+                    containers.add(SilkModPass.INSTANCE.mod());
+                });
+            }
+        }
+        LOGGER.info("SilkModPass.INSTANCE metadata snapshots seen across threads: authors = {}, containers = {}",
+                authors.size(), containers.size());
+    }
+
+    private static void testOverrides() {
+        ModContainer minecraft = FabricLoader.getInstance().getModContainer("minecraft").orElseThrow();
+        // 与 Silk Mod Pass 使用相同的 ID，覆写的模组容器与名称不能被按 ID 缓存的快照替代
+        ModBasicData overridden = new ModBasicData() {
+            @Override
+            public String id() {
+                return SilkModPass.INSTANCE.id();
+            }
+
+            @Override
+            public ModContainer mod() {
+                return minecraft;
+            }
+
+            @Override
+            public String name() {
+                return "Overridden";
+            }
+        };
+        LOGGER.info("overridden.version() = {} (expected {})", overridden.version(),
+                minecraft.getMetadata().getVersion().getFriendlyString());
+        LOGGER.info("overridden.logger().getName() = {} (expected Overridden)", overridden.logger().getName());
+        LOGGER.info("SilkModPass.INSTANCE.version() after override = {} (expected {})", SilkModPass.INSTANCE.version(),
+                SilkModPass.INSTANCE.mod().getMetadata().getVersion().getFriendlyString());
+    }
+
+    private static void benchmarkAccessors() {
+        long sink = 0;
+        for (int warmup = 0; warmup < 3; warmup++) {
+            sink += cached() + uncached();
+        }
+        long start = System.nanoTime();
+        sink += cached();
+        long cached = System.nanoTime() - start;
+        start = System.nanoTime();
+        sink += uncached();
+        long uncached = System.nanoTime() - start;
+        LOGGER.info("ModBasicData accessors x {}: snapshot {} ms, per-call lookup {} ms (sink {})",
+                ITERATIONS, cached / 1_000_000.0, uncached / 1_000_000.0, sink);
+    }
+
+    private static long cached() {
+        long sink = 0;
+        for (int count = 0; count < ITERATIONS; count++) {
+            sink += SilkModPass.INSTANCE.mod().hashCode();
+            sink += SilkModPass.INSTANCE.logger().hashCode();
+            sink += SilkModPass.INSTANCE.version().length();
+            sink += SilkModPass.INSTANCE.authors().size();
+            sink += SilkModPass.INSTANCE.link(ModBasicData.LinkType.HOMEPAGE).map(url -> url.getHost().length()).orElse(0);
+        }
+        return sink;
+    }
+
+    /**
+     * 快照前的实现：每次调用都查询加载器、记录器工厂并重新解析链接
+     */
+    private static long uncached() {
+        long sink = 0;
+        String id = SilkModPass.INSTANCE.id();
+        for (int count = 0; count < ITERATIONS; count++) {
+            ModContainer mod = FabricLoader.getInstance().getModContainer(id).orElseThrow();
+            sink += mod.hashCode();
+            sink += LoggerFactory.getLogger(FabricLoader.getInstance().getModContainer(id).orElseThrow()
+                    .getMetadata().getName()).hashCode();
+            sink += FabricLoader.getInstance().getModContainer(id).orElseThrow()
+                    .getMetadata().getVersion().getFriendlyString().length();
+            sink += FabricLoader.getInstance().getModContainer(id).orElseThrow()
+                    .getMetadata().getAuthors().stream().toList().size();
+            Optional<String> url = FabricLoader.getInstance().getModContainer(id).orElseThrow()
+                    .getMetadata().getContact().get("homepage");
+            try {
+                sink += url.isEmpty() ? 0 : new URI(url.get()).toURL().getHost().length();
+            } catch (MalformedURLException | URISyntaxException e) {
+                sink--;
+            }
+        }
+        return sink;
     }
 }
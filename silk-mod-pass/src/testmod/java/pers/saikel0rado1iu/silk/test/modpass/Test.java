@@ -17,6 +17,7 @@ import pers.saikel0rado1iu.silk.api.modpass.ModPass;
 import pers.saikel0rado1iu.silk.api.modpass.registry.MainRegistrationProvider;
 import pers.saikel0rado1iu.silk.impl.SilkModPass;
 import pers.saikel0rado1iu.silk.test.modpass.log.ChangelogTest;
+import pers.saikel0rado1iu.silk.test.modpass.pack.GroupResourcePackTest;
 
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -39,6 +40,7 @@ public final class Test implements ModMain {
         ModDataTest.test();
         ModDataExpansionTest.test();
         ChangelogTest.test();
+        GroupResourcePackTest.test();
         // test mod() exception
         // SilkApi.DATA.mod();
         // test link exception
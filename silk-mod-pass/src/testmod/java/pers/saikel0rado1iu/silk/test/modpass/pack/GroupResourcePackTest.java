@@ -0,0 +1,297 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.modpass.pack;
+
+import net.fabricmc.fabric.api.resource.ResourcePackActivationType;
+import net.minecraft.resource.*;
+import net.minecraft.resource.metadata.ResourceMetadataReader;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.event.modpass.GroupResourcePackLifecycleCallback;
+import pers.saikel0rado1iu.silk.api.modpass.ModBasicData;
+import pers.saikel0rado1iu.silk.api.modpass.pack.GroupResourcePack;
+import pers.saikel0rado1iu.silk.api.modpass.pack.ModPack;
+import pers.saikel0rado1iu.silk.api.modpass.pack.ModResourcesPack;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Test {@link GroupResourcePack}
+ */
+public interface GroupResourcePackTest {
+    /**
+     * 日志
+     */
+    Logger LOGGER = LoggerFactory.getLogger("SilkModPass/TestingGroupResourcePack");
+    /**
+     * 合成资源包数
+     */
+    int PACKS = 8;
+    /**
+     * 每个合成资源包的文件数
+     */
+    int FILES = 4000;
+    /**
+     * 命名空间
+     */
+    String NAMESPACE = "silk-group-bench";
+    /**
+     * 生命周期测试的重载次数
+     */
+    int RELOADS = 200;
+
+    /**
+     * 测试
+     */
+    static void test() {
+        List<SyntheticPack> packs = new ArrayList<>(PACKS);
+        for (int count = 0; count < PACKS; count++) {
+            packs.add(SyntheticPack.create("pack_" + count, count * FILES / 2, FILES));
+        }
+        List<String> orderList = List.of("pack_5", "pack_2", "pack_7");
+        Set<Identifier> ids = new LinkedHashSet<>();
+        packs.forEach(pack -> ids.addAll(pack.files.keySet()));
+        ids.add(Identifier.of(NAMESPACE, "missing.json"));
+        int mismatches = 0;
+        GroupResourcePack group = create(packs, orderList);
+        for (Identifier id : ids) {
+            if (!Objects.equals(read(group.open(ResourceType.CLIENT_RESOURCES, id)),
+                    read(naiveOpen(packs, orderList, id)))) {
+                mismatches++;
+            }
+            List<Resource> resources = new ArrayList<>();
+            group.appendResources(ResourceType.CLIENT_RESOURCES, id, resources);
+            if (!resources.stream().map(Resource::getPack).toList()
+                    .equals(naiveContaining(packs, orderList, id))) {
+                mismatches++;
+            }
+        }
+        LOGGER.info("GroupResourcePack index mismatches = {} ({} ids)", mismatches, ids.size());
+        // 模拟一次资源重载：每次重载都会创建新的组资源包并查找所有路径
+        for (int warmup = 0; warmup < 3; warmup++) {
+            reload(packs, orderList, ids);
+            naiveReload(packs, orderList, ids);
+        }
+        long start = System.nanoTime();
+        reload(packs, orderList, ids);
+        long indexed = System.nanoTime() - start;
+        start = System.nanoTime();
+        naiveReload(packs, orderList, ids);
+        long naive = System.nanoTime() - start;
+        LOGGER.info("GroupResourcePack reload of {} packs x {} files: indexed {} ms, per-lookup sort {} ms",
+                PACKS, FILES, indexed / 1_000_000.0, naive / 1_000_000.0);
+        testLifecycle();
+    }
+
+    private static void testLifecycle() {
+        ModPack.Group group = ModResourcesPack.createGroup("group_lifecycle",
+                ResourcePackActivationType.NORMAL, (ModBasicData) () -> "silk-mod-pass-test");
+        Set<GroupResourcePack> tracked = ConcurrentHashMap.newKeySet();
+        AtomicInteger opened = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        AtomicLong nanos = new AtomicLong();
+        GroupResourcePackLifecycleCallback.EVENT.register((pack, phase, count, time) -> {
+            if (!tracked.contains(pack)) {
+                return;
+            }
+            (phase == GroupResourcePackLifecycleCallback.Phase.OPEN ? opened : closed).addAndGet(count);
+            nanos.addAndGet(time);
+        });
+        long descriptors = openDescriptors();
+        int childCloses = 0;
+        int children = 0;
+        for (int reload = 0; reload < RELOADS; reload++) {
+            List<SyntheticPack> packs = List.of(SyntheticPack.create("child_0", 0, 16),
+                    SyntheticPack.create("child_1", 8, 16));
+            GroupResourcePack pack = new GroupResourcePack(ResourceType.CLIENT_RESOURCES, packs,
+                    List.of(), group);
+            tracked.add(pack);
+            for (int count = 0; count < 10; count++) {
+                read(pack.openRoot("pack.mcmeta"));
+                read(pack.openRoot("pack.png"));
+                read(pack.open(ResourceType.CLIENT_RESOURCES, Identifier.of(NAMESPACE, "models/item/bench_" + count + ".json")));
+            }
+            pack.close();
+            // 重复关闭不应再次关闭子资源包
+            pack.close();
+            tracked.remove(pack);
+            children += packs.size();
+            childCloses += packs.stream().mapToInt(child -> child.closes.get()).sum();
+        }
+        // 每次重载只打开一次根目录资源包，关闭时除子资源包外还会关闭根目录资源包
+        int leaked = opened.get() - (closed.get() - children);
+        LOGGER.info("GroupResourcePack lifecycle over {} reloads: root packs opened = {}, leaked = {}, child packs closed {}/{}, lifecycle time {} ms",
+                RELOADS, opened.get(), leaked, childCloses, children, nanos.get() / 1_000_000.0);
+        if (descriptors >= 0) {
+            LOGGER.info("GroupResourcePack lifecycle open file descriptors: before = {}, after = {}",
+                    descriptors, openDescriptors());
+        }
+    }
+
+    private static long openDescriptors() {
+        Path fd = Path.of("/proc/self/fd");
+        if (!Files.isDirectory(fd)) {
+            return -1;
+        }
+        try (Stream<Path> stream = Files.list(fd)) {
+            return stream.count();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static GroupResourcePack create(List<SyntheticPack> packs, List<String> orderList) {
+        return new GroupResourcePack(ResourceType.CLIENT_RESOURCES, packs, orderList, null) {
+            @Override
+            protected boolean isIndexable(ResourcePack pack) {
+                return pack instanceof SyntheticPack;
+            }
+        };
+    }
+
+    private static void reload(List<SyntheticPack> packs, List<String> orderList, Set<Identifier> ids) {
+        GroupResourcePack group = create(packs, orderList);
+        List<Resource> resources = new ArrayList<>();
+        for (Identifier id : ids) {
+            group.open(ResourceType.CLIENT_RESOURCES, id);
+            group.appendResources(ResourceType.CLIENT_RESOURCES, id, resources);
+        }
+    }
+
+    private static void naiveReload(List<SyntheticPack> packs, List<String> orderList, Set<Identifier> ids) {
+        for (Identifier id : ids) {
+            naiveOpen(packs, orderList, id);
+            naiveContaining(packs, orderList, id);
+        }
+    }
+
+    /**
+     * 索引前的实现：每次查找都重新排序并逐一打开所有资源包
+     */
+    private static List<ResourcePack> naiveOrder(List<SyntheticPack> packs, List<String> orderList) {
+        List<ResourcePack> ordered = new ArrayList<>(packs);
+        Map<String, Integer> orderMap = new HashMap<>(packs.size());
+        for (int count = 0; count < orderList.size(); count++) {
+            orderMap.put(orderList.get(count), Integer.MAX_VALUE - count);
+        }
+        ordered.sort(Comparator.comparingInt(pack -> orderMap.getOrDefault(pack.getId(), 0)));
+        Collections.reverse(ordered);
+        return ordered;
+    }
+
+    private static InputSupplier<InputStream> naiveOpen(List<SyntheticPack> packs, List<String> orderList, Identifier id) {
+        InputSupplier<InputStream> inputSupplier = null;
+        for (ResourcePack pack : naiveOrder(packs, orderList)) {
+            InputSupplier<InputStream> supplier = pack.open(ResourceType.CLIENT_RESOURCES, id);
+            if (supplier != null) {
+                inputSupplier = supplier;
+            }
+        }
+        return inputSupplier;
+    }
+
+    private static List<ResourcePack> naiveContaining(List<SyntheticPack> packs, List<String> orderList, Identifier id) {
+        List<ResourcePack> containing = new ArrayList<>();
+        for (ResourcePack pack : naiveOrder(packs, orderList)) {
+            if (pack.open(ResourceType.CLIENT_RESOURCES, id) != null) {
+                containing.add(pack);
+            }
+        }
+        return containing;
+    }
+
+    private static String read(@Nullable InputSupplier<InputStream> supplier) {
+        if (supplier == null) {
+            return null;
+        }
+        try (InputStream input = supplier.get()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return e.toString();
+        }
+    }
+
+    /**
+     * 合成资源包，文件内容为资源包 ID 与路径
+     *
+     * @param info   资源包信息
+     * @param files  文件
+     * @param closes 关闭次数
+     */
+    record SyntheticPack(ResourcePackInfo info, Map<Identifier, byte[]> files,
+                         AtomicInteger closes) implements ResourcePack {
+        private static SyntheticPack create(String id, int first, int size) {
+            Map<Identifier, byte[]> files = new HashMap<>(size);
+            for (int count = first; count < first + size; count++) {
+                String path = "models/item/bench_" + count + ".json";
+                files.put(Identifier.of(NAMESPACE, path), (id + ':' + path).getBytes(StandardCharsets.UTF_8));
+            }
+            return new SyntheticPack(new ResourcePackInfo(id, Text.literal(id), ResourcePackSource.NONE, Optional.empty()), files, new AtomicInteger());
+        }
+
+        @Nullable
+        @Override
+        public InputSupplier<InputStream> openRoot(String... segments) {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public InputSupplier<InputStream> open(ResourceType type, Identifier id) {
+            byte[] bytes = files.get(id);
+            return bytes == null ? null : () -> new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public void findResources(ResourceType type, String namespace, String prefix, ResultConsumer consumer) {
+            files.forEach((id, bytes) -> {
+                if (id.getNamespace().equals(namespace) && id.getPath().startsWith(prefix)) {
+                    consumer.accept(id, () -> new ByteArrayInputStream(bytes));
+                }
+            });
+        }
+
+        @Override
+        public Set<String> getNamespaces(ResourceType type) {
+            return Set.of(NAMESPACE);
+        }
+
+        @Nullable
+        @Override
+        public <T> T parseMetadata(ResourceMetadataReader<T> metaReader) {
+            return null;
+        }
+
+        @Override
+        public ResourcePackInfo getInfo() {
+            return info;
+        }
+
+        @Override
+        public void close() {
+            closes.incrementAndGet();
+        }
+    }
+}
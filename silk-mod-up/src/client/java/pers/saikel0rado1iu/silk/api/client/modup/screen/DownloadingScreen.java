@@ -51,6 +51,10 @@ public class DownloadingScreen extends UpdateScreen {
 	@Override
 	public void tick() {
 		super.tick();
+		if (modUpdater.isFailed()) {
+			MinecraftClient.getInstance().setScreen(new UpdateFailWarningScreen(parent, updateData, updateManager, updateManager.linkTrusted()));
+			return;
+		}
 		if (Double.parseDouble(modUpdater.getProgress()) == 100) {
 			if (updateData.getValue(UpdateSettings.UPDATE_MODE) == UpdateMode.AUTO_DOWNLOAD) {
 				MinecraftClient.getInstance().setScreen(new DownloadedScreen(parent, updateData, updateManager, title));
@@ -0,0 +1,292 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.modup;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import pers.saikel0rado1iu.silk.api.base.common.util.FileDigest;
+import pers.saikel0rado1iu.silk.impl.SilkModUp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 style="color:FFC800">模组下载器</h2>
+ * 可断点续传并校验哈希的下载引擎<br>
+ * 数据先写入目标旁的 {@code .part} 文件，中断后再次下载时通过 HTTP Range 续传，
+ * 下载完成并通过 Modrinth 提供的哈希校验后才原子替换为目标文件
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.0.4
+ */
+public final class ModDownloader {
+	/**
+	 * 默认缓冲区大小
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+	/**
+	 * 默认最大尝试次数
+	 */
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	/**
+	 * 进度回调的最小间隔
+	 */
+	public static final long PROGRESS_INTERVAL_NANOS = Duration.ofMillis(100).toNanos();
+	/**
+	 * 默认停滞超时，超过此时间没有收到数据则中断连接并续传
+	 */
+	public static final Duration DEFAULT_STALL_TIMEOUT = Duration.ofSeconds(30);
+	private static final String PART_SUFFIX = ".part";
+	private static final ScheduledExecutorService WATCHDOG = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().namingPattern("silk-mod-up-download-watchdog").daemon(true).build());
+	private final HttpClient client;
+	private final int bufferSize;
+	private final int maxAttempts;
+	private final long stallTimeoutNanos;
+	
+	/**
+	 * @param client       HTTP 客户端
+	 * @param bufferSize   缓冲区大小
+	 * @param maxAttempts  最大尝试次数，每次重试都会从已下载的位置续传
+	 * @param stallTimeout 停滞超时
+	 */
+	public ModDownloader(HttpClient client, int bufferSize, int maxAttempts, Duration stallTimeout) {
+		this.client = client;
+		this.bufferSize = bufferSize;
+		this.maxAttempts = maxAttempts;
+		this.stallTimeoutNanos = stallTimeout.toNanos();
+	}
+	
+	/**
+	 * 使用共用的 HTTP 客户端与默认参数创建下载器
+	 *
+	 * @return 下载器
+	 */
+	public static ModDownloader create() {
+		return new ModDownloader(ModrinthApi.sharedClient(), DEFAULT_BUFFER_SIZE, DEFAULT_MAX_ATTEMPTS, DEFAULT_STALL_TIMEOUT);
+	}
+	
+	/**
+	 * 获取目标文件对应的临时文件
+	 *
+	 * @param target 目标文件
+	 * @return 临时文件
+	 */
+	public static Path partFile(Path target) {
+		return target.resolveSibling(target.getFileName() + PART_SUFFIX);
+	}
+	
+	/**
+	 * 下载文件
+	 *
+	 * @param uri            下载地址
+	 * @param target         目标文件
+	 * @param expectedHashes 以 Modrinth 算法名为键的期望哈希值，支持 {@code sha1} 与 {@code sha512}，至少需要其中一个，否则结果为 {@link Result#UNVERIFIED}
+	 * @param listener       进度监听器，两次回调至少间隔 {@link ModDownloader#PROGRESS_INTERVAL_NANOS}，完成时必定回调
+	 * @return 下载结果
+	 */
+	public Result download(URI uri, Path target, Map<String, String> expectedHashes, ProgressListener listener) {
+		Path part = partFile(target);
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			try {
+				if (!transfer(uri, part, listener)) return Result.FAILED;
+				return verifyAndMove(part, target, expectedHashes);
+			} catch (IOException e) {
+				String msg = "Download Error: Unable to connect to the file server or the connection was interrupted. Attempt " + attempt + " of " + maxAttempts + '.';
+				SilkModUp.getInstance().logger().warn(msg, e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Result.FAILED;
+			}
+		}
+		return Result.FAILED;
+	}
+	
+	private boolean transfer(URI uri, Path part, ProgressListener listener) throws IOException, InterruptedException {
+		long existing = Files.isRegularFile(part) ? Files.size(part) : 0;
+		HttpRequest.Builder request = HttpRequest.newBuilder(uri).GET();
+		if (existing > 0) request.header("Range", "bytes=" + existing + '-');
+		HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+		int status = response.statusCode();
+		// 临时文件已完整时服务器会拒绝范围请求，直接进入校验
+		if (status == 416 && existing > 0) {
+			response.body().close();
+			listener.onProgress(existing, existing);
+			return true;
+		}
+		boolean resumed = status == 206;
+		if (status != 200 && !resumed) {
+			response.body().close();
+			String msg = "Download Error: The file server responded with status " + status + '.';
+			SilkModUp.getInstance().logger().error(msg);
+			return false;
+		}
+		// 服务器返回的范围与临时文件长度不一致时从头重新下载
+		if (resumed && rangeStart(response.headers()) != existing) {
+			response.body().close();
+			if (existing == 0) {
+				String msg = "Download Error: The file server responded with a partial range that was not requested.";
+				SilkModUp.getInstance().logger().error(msg);
+				return false;
+			}
+			Files.deleteIfExists(part);
+			String msg = "Download Warning: The file server resumed from an unexpected offset, restarting the download.";
+			SilkModUp.getInstance().logger().warn(msg);
+			return transfer(uri, part, listener);
+		}
+		long offset = resumed ? existing : 0;
+		OptionalLong length = response.headers().firstValueAsLong("Content-Length");
+		long total = length.isPresent() ? offset + length.getAsLong() : -1;
+		StandardOpenOption mode = resumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+		AtomicLong lastRead = new AtomicLong(System.nanoTime());
+		AtomicBoolean stalled = new AtomicBoolean(false);
+		ScheduledFuture<?> watchdog = null;
+		try (InputStream in = response.body();
+		     FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+			// HttpClient 没有读取超时，停滞的连接只能通过关闭响应流来中断
+			long period = Math.max(1, TimeUnit.NANOSECONDS.toMillis(stallTimeoutNanos) / 4);
+			watchdog = WATCHDOG.scheduleWithFixedDelay(() -> {
+				if (System.nanoTime() - lastRead.get() < stallTimeoutNanos || !stalled.compareAndSet(false, true)) return;
+				try {
+					in.close();
+				} catch (IOException ignored) {
+				}
+			}, period, period, TimeUnit.MILLISECONDS);
+			byte[] bytes = new byte[bufferSize];
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			long done = offset;
+			long lastReport = 0;
+			int read;
+			while ((read = in.read(bytes)) != -1) {
+				lastRead.set(System.nanoTime());
+				buffer.clear().limit(read);
+				while (buffer.hasRemaining()) channel.write(buffer);
+				done += read;
+				long now = System.nanoTime();
+				if (now - lastReport >= PROGRESS_INTERVAL_NANOS) {
+					lastReport = now;
+					listener.onProgress(done, total);
+				}
+			}
+			if (stalled.get()) throw new IOException("Connection stalled after " + done + " bytes");
+			if (total >= 0 && done < total) throw new IOException("Connection closed after " + done + " of " + total + " bytes");
+			listener.onProgress(done, total < 0 ? done : total);
+		} finally {
+			if (watchdog != null) watchdog.cancel(false);
+		}
+		return true;
+	}
+	
+	/**
+	 * 解析 {@code Content-Range: bytes <start>-<end>/<total>} 的起始位置
+	 *
+	 * @return 起始位置，缺失或无法解析时为 -1
+	 */
+	private static long rangeStart(HttpHeaders headers) {
+		Optional<String> range = headers.firstValue("Content-Range");
+		if (range.isEmpty() || !range.get().startsWith("bytes ")) return -1;
+		String value = range.get().substring("bytes ".length()).trim();
+		int dash = value.indexOf('-');
+		if (dash <= 0) return -1;
+		try {
+			return Long.parseLong(value.substring(0, dash));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+	
+	private Result verifyAndMove(Path part, Path target, Map<String, String> expectedHashes) throws IOException {
+		boolean verified = false;
+		for (Map.Entry<String, String> expected : expectedHashes.entrySet()) {
+			FileDigest.Algorithm algorithm = switch (expected.getKey()) {
+				case "sha1" -> FileDigest.Algorithm.SHA_1;
+				case "sha512" -> FileDigest.Algorithm.SHA_512;
+				default -> null;
+			};
+			if (algorithm == null) continue;
+			// 临时文件只会校验一次，不写入摘要缓存
+			if (FileDigest.getUncached(part, algorithm).equalsIgnoreCase(expected.getValue())) {
+				verified = true;
+				continue;
+			}
+			// 校验失败时丢弃临时文件，下次下载将从头开始
+			Files.deleteIfExists(part);
+			String msg = "Download Error: The downloaded file does not match the " + algorithm + " hash provided by Modrinth and has been discarded.";
+			SilkModUp.getInstance().logger().error(msg);
+			return Result.CORRUPTED;
+		}
+		// 没有任何可识别的哈希时无法确认文件完整，不能替换模组文件
+		if (!verified) {
+			Files.deleteIfExists(part);
+			String msg = "Download Error: Modrinth did not provide a sha1 or sha512 hash for the downloaded file, so it could not be verified and has been discarded.";
+			SilkModUp.getInstance().logger().error(msg);
+			return Result.UNVERIFIED;
+		}
+		Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		return Result.SUCCESS;
+	}
+	
+	/**
+	 * 下载结果
+	 */
+	public enum Result {
+		/**
+		 * 下载并校验成功
+		 */
+		SUCCESS,
+		/**
+		 * 下载的文件未通过哈希校验
+		 */
+		CORRUPTED,
+		/**
+		 * 没有可用于校验的哈希，文件已被丢弃
+		 */
+		UNVERIFIED,
+		/**
+		 * 下载失败
+		 */
+		FAILED
+	}
+	
+	/**
+	 * 进度监听器
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+		/**
+		 * 下载进度回调
+		 *
+		 * @param downloaded 已下载字节数
+		 * @param total      总字节数，未知时为 -1
+		 */
+		void onProgress(long downloaded, long total);
+	}
+}
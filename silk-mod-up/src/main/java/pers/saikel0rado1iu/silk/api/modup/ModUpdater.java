@@ -11,13 +11,10 @@
 
 package pers.saikel0rado1iu.silk.api.modup;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import net.minecraft.util.Util;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import pers.saikel0rado1iu.silk.impl.SilkModUp;
 
-import javax.net.ssl.HttpsURLConnection;
 import java.io.*;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
@@ -36,6 +33,7 @@ public final class ModUpdater extends Thread {
 	private static final ScheduledExecutorService MOD_UPDATER_POOL = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().daemon(true).build());
 	private final UpdateData updateData;
 	private volatile float updateProgress = 0;
+	private volatile boolean failed = false;
 	
 	private ModUpdater(UpdateData updateData) {
 		this.updateData = updateData;
@@ -60,22 +58,32 @@ public final class ModUpdater extends Thread {
 	 * @return 下载 URL
 	 */
 	public static Future<URL> downloadUrl(UpdateData updateData) {
-		FutureTask<URL> futureTask = new FutureTask<>(() -> {
-			ModUpdater modUpdater = new ModUpdater(updateData);
-			UpdateMode mode = updateData.getValue(UpdateSettings.UPDATE_MODE);
-			Optional<URL> downloadLink = switch (mode) {
-				case MANUAL_DOWNLOAD -> modUpdater.getManualDownloadUpdateLink();
-				case AUTO_DOWNLOAD -> modUpdater.getAutoDownloadUpdateLink();
-				case AUTO_UPDATE -> modUpdater.getAutoUpdateLink();
-			};
-			return downloadLink.orElse(new URI(String.format("https://modrinth.com/mod/%s/version", updateData.modData().slug())).toURL());
-		});
+		FutureTask<URL> futureTask = new FutureTask<>(() -> resolveDownloadUrl(updateData));
 		MOD_UPDATER_POOL.schedule(() -> {
 			if (!futureTask.isDone()) futureTask.run();
 		}, 0, TimeUnit.SECONDS);
 		return futureTask;
 	}
 	
+	/**
+	 * 直接解析下载链接，链接已包含在更新数据中，因此不会发出网络请求
+	 *
+	 * @param updateData 更新数据
+	 * @return 下载 URL
+	 * @throws MalformedURLException 如果模组主页链接无效
+	 * @throws URISyntaxException    如果模组主页链接无效
+	 */
+	public static URL resolveDownloadUrl(UpdateData updateData) throws MalformedURLException, URISyntaxException {
+		ModUpdater modUpdater = new ModUpdater(updateData);
+		UpdateMode mode = updateData.getValue(UpdateSettings.UPDATE_MODE);
+		Optional<URL> downloadLink = switch (mode) {
+			case MANUAL_DOWNLOAD -> modUpdater.getManualDownloadUpdateLink();
+			case AUTO_DOWNLOAD -> modUpdater.getAutoDownloadUpdateLink();
+			case AUTO_UPDATE -> modUpdater.getAutoUpdateLink();
+		};
+		return downloadLink.orElse(new URI(String.format("https://modrinth.com/mod/%s/version", updateData.modData().slug())).toURL());
+	}
+	
 	/**
 	 * 获取批处理文件名称
 	 *
@@ -95,6 +103,15 @@ public final class ModUpdater extends Thread {
 		return String.format("%.2f", updateProgress);
 	}
 	
+	/**
+	 * 是否更新失败，没有下载链接、下载失败或下载的文件未通过哈希校验时为真
+	 *
+	 * @return 是否失败
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+	
 	private Path getBatPath() {
 		return Paths.get(updateData.modPass().jarPath().toString(), getBatName(updateData));
 	}
@@ -110,22 +127,8 @@ public final class ModUpdater extends Thread {
 	}
 	
 	private Optional<URL> getAutoDownloadUpdateLink() {
-		try {
-			URL updateLink = updateData.updateLink();
-			updateLink.openConnection().setConnectTimeout(200);
-			// 通过 URL 的 openStream 方法获取 URL 对象所表示的自愿字节输入流
-			InputStream is = updateLink.openStream();
-			InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-			JsonObject data = (JsonObject) JsonParser.parseReader(new BufferedReader(isr)).getAsJsonArray().get(0);
-			// 判断更新
-			JsonObject jsonObject = (JsonObject) data.getAsJsonArray("files").get(0);
-			String url = jsonObject.get("url").getAsString();
-			return Optional.of(new URI(url).toURL());
-		} catch (IOException | URISyntaxException e) {
-			String msg = "URL Error: The update link you attempted to connect to does not exist. Please check if the slug provided by ModPass is correct.";
-			SilkModUp.getInstance().logger().error(msg, e);
-			return Optional.empty();
-		}
+		// 更新检查时已解析出最新版本的文件链接，无需再次请求版本数据
+		return Optional.ofNullable(updateData.updateLink());
 	}
 	
 	private Optional<URL> getAutoUpdateLink() {
@@ -137,13 +140,13 @@ public final class ModUpdater extends Thread {
 		Util.getOperatingSystem().open(downloadLink.toString());
 	}
 	
-	private void autoDownload(URL downloadLink) {
-		download(downloadLink);
+	private boolean autoDownload(URL downloadLink) {
+		return download(downloadLink);
 	}
 	
 	private void autoUpdate(URL downloadLink) {
 		// 下载文件
-		autoDownload(downloadLink);
+		if (!autoDownload(downloadLink)) return;
 		// 创建自动删除旧文件的批处理文件
 		try (DirectoryStream<Path> children = Files.newDirectoryStream(updateData.modData().jarPath())) {
 			boolean hasFile = false;
@@ -202,38 +205,24 @@ public final class ModUpdater extends Thread {
 		}
 	}
 	
-	private void download(URL downloadLink) {
-		InputStream inputStream;
-		OutputStream outputStream;
+	private boolean download(URL downloadLink) {
 		try {
-			// 打开连接
-			HttpsURLConnection con = (HttpsURLConnection) downloadLink.openConnection();
-			// 请求超时:5s
-			con.setConnectTimeout(5 * 1000);
-			
-			con.setRequestMethod("GET");
-			long size = con.getContentLength();
-			
-			inputStream = con.getInputStream();
-			byte[] bytes = new byte[1024];
-			// 读取到的数据长度
-			int length;
-			String fileName = updateData.modData().jarPath() + FileSystems.getDefault().getSeparator() + downloadLink.getPath().substring(downloadLink.getPath().lastIndexOf('/'));
-			outputStream = Files.newOutputStream(Path.of(URLDecoder.decode(fileName, StandardCharsets.UTF_8)));
-			// 读取
-			int fileSize = 0;
-			while ((length = inputStream.read(bytes)) != -1) {
-				outputStream.write(bytes, 0, length);
-				updateProgress = (fileSize += 1024) / size < 1 ? (float) fileSize / size * 100 : 99.99F;
+			String fileName = URLDecoder.decode(downloadLink.getPath().substring(downloadLink.getPath().lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+			Path target = updateData.modData().jarPath().resolve(fileName);
+			ModDownloader.Result result = ModDownloader.create().download(downloadLink.toURI(), target, updateData.updateHashes(), (downloaded, total) -> {
+				// 文件校验并替换完成前进度不会达到 100
+				if (total > 0) updateProgress = Math.min((float) downloaded / total * 100, 99.99F);
+			});
+			if (result == ModDownloader.Result.SUCCESS) {
+				updateProgress = 100;
+				return true;
 			}
-			updateProgress = 100;
-			
-			inputStream.close();
-			outputStream.close();
-		} catch (IOException e) {
-			String msg = "Download Error: Unable to connect to the file server or the connection was interrupted. Please check your network or storage permissions.";
+		} catch (URISyntaxException e) {
+			String msg = "URL Error: The update link you attempted to connect to does not exist.";
 			SilkModUp.getInstance().logger().error(msg, e);
 		}
+		failed = true;
+		return false;
 	}
 	
 	@Override
@@ -245,7 +234,12 @@ public final class ModUpdater extends Thread {
 			case AUTO_DOWNLOAD -> getAutoDownloadUpdateLink();
 			case AUTO_UPDATE -> getAutoUpdateLink();
 		};
-		if (downloadLink.isEmpty()) return;
+		if (downloadLink.isEmpty()) {
+			String msg = "URL Error: No download link was resolved for the update.";
+			SilkModUp.getInstance().logger().error(msg);
+			failed = true;
+			return;
+		}
 		switch (mode) {
 			case MANUAL_DOWNLOAD -> manualDownload(downloadLink.get());
 			case AUTO_DOWNLOAD -> autoDownload(downloadLink.get());
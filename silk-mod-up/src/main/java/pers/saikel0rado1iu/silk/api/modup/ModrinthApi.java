@@ -0,0 +1,330 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.modup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import net.fabricmc.loader.api.FabricLoader;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import pers.saikel0rado1iu.silk.api.base.common.util.FileDigest;
+import pers.saikel0rado1iu.silk.impl.SilkModUp;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2 style="color:FFC800">Modrinth API</h2>
+ * 所有更新请求共用的 Modrinth API 客户端<br>
+ * 复用同一个 {@link HttpClient} 连接池，遵循 {@code ETag}/{@code If-None-Match} 与 {@code Cache-Control}，
+ * 并将最近一次的响应持久化到本地缓存文件中，以便在离线启动时继续使用<br>
+ * 缓存最多保留 {@link ModrinthApi#MAX_CACHE_ENTRIES} 条最近使用的响应，超过 {@link ModrinthApi#CACHE_RETENTION} 未使用的响应会被丢弃，
+ * 新的响应会在 {@link ModrinthApi#FLUSH_DELAY_MILLIS} 毫秒后批量写入缓存文件
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.0.4
+ */
+public final class ModrinthApi {
+	/**
+	 * 默认 Modrinth API 地址
+	 */
+	public static final URI DEFAULT_BASE_URI = URI.create("https://api.modrinth.com/v2/");
+	/**
+	 * 默认响应缓存文件路径
+	 */
+	public static final Path DEFAULT_CACHE_PATH = FabricLoader.getInstance().getGameDir().resolve(".cache").resolve("silk-mod-up").resolve("modrinth.json");
+	/**
+	 * 缓存的最大响应数
+	 */
+	public static final int MAX_CACHE_ENTRIES = 256;
+	/**
+	 * 缓存响应的保留时间
+	 */
+	public static final Duration CACHE_RETENTION = Duration.ofDays(7);
+	/**
+	 * 缓存文件的写入延迟
+	 */
+	public static final long FLUSH_DELAY_MILLIS = 2000;
+	private static final String USER_AGENT = "Silk-MC/Silk-API/silk-mod-up (https://github.com/Silk-MC/Silk-API)";
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	private static final HttpClient SHARED_CLIENT = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(5))
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.build();
+	private static final ScheduledExecutorService FLUSH_POOL = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().namingPattern("silk-mod-up-cache-flush").daemon(true).build());
+	private static volatile ModrinthApi instance = null;
+	private final HttpClient client;
+	private final URI baseUri;
+	private final Path cachePath;
+	private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final AtomicBoolean dirty = new AtomicBoolean(false);
+	private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+	
+	/**
+	 * @param baseUri   API 地址，必须以 {@code /} 结尾
+	 * @param cachePath 响应缓存文件路径
+	 */
+	public ModrinthApi(URI baseUri, Path cachePath) {
+		this(SHARED_CLIENT, baseUri, cachePath);
+	}
+	
+	private ModrinthApi(HttpClient client, URI baseUri, Path cachePath) {
+		this.client = client;
+		this.baseUri = baseUri;
+		this.cachePath = cachePath;
+		load();
+	}
+	
+	/**
+	 * 获取全局共用的实例
+	 *
+	 * @return Modrinth API 实例
+	 */
+	public static ModrinthApi getInstance() {
+		if (instance == null) {
+			synchronized (ModrinthApi.class) {
+				if (instance == null) {
+					instance = new ModrinthApi(DEFAULT_BASE_URI, DEFAULT_CACHE_PATH);
+					Runtime.getRuntime().addShutdownHook(new Thread(instance::flush, "silk-mod-up-cache-shutdown"));
+				}
+			}
+		}
+		return instance;
+	}
+	
+	/**
+	 * 获取所有更新请求共用的 HTTP 客户端
+	 *
+	 * @return HTTP 客户端
+	 */
+	static HttpClient sharedClient() {
+		return SHARED_CLIENT;
+	}
+	
+	/**
+	 * 发送 GET 请求
+	 *
+	 * @param path 相对于 API 地址的路径与查询参数
+	 * @return 响应，如果网络不可用且没有缓存则为空
+	 */
+	public Optional<Response> get(String path) {
+		return send("GET " + path, HttpRequest.newBuilder(baseUri.resolve(path)).GET());
+	}
+	
+	/**
+	 * 发送以 JSON 为请求体的 POST 请求
+	 *
+	 * @param path 相对于 API 地址的路径
+	 * @param body JSON 请求体
+	 * @return 响应，如果网络不可用且没有缓存则为空
+	 */
+	public Optional<Response> post(String path, JsonElement body) {
+		String json = body.toString();
+		return send("POST " + path + ' ' + digest(json), HttpRequest.newBuilder(baseUri.resolve(path))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(json)));
+	}
+	
+	/**
+	 * 获取已发出的网络请求数，命中未过期缓存的请求不计入
+	 *
+	 * @return 请求数
+	 */
+	public int requestCount() {
+		return requestCount.get();
+	}
+	
+	/**
+	 * 获取 API 地址
+	 *
+	 * @return API 地址
+	 */
+	public URI baseUri() {
+		return baseUri;
+	}
+	
+	/**
+	 * 立即将缓存写入缓存文件，没有新的响应时不进行写入
+	 */
+	public void flush() {
+		if (dirty.getAndSet(false)) save();
+	}
+	
+	private Optional<Response> send(String key, HttpRequest.Builder builder) {
+		CachedResponse cached = cache.get(key);
+		long now = System.currentTimeMillis();
+		// 只在内存中更新使用时间，随下一次写入一同保存
+		if (cached != null) cache.replace(key, cached, cached.used(now));
+		if (cached != null && cached.expires > now) return Optional.of(new Response(200, cached.body, true));
+		builder.timeout(TIMEOUT).header("User-Agent", USER_AGENT).header("Accept", "application/json");
+		if (cached != null && !cached.etag.isEmpty()) builder.header("If-None-Match", cached.etag);
+		try {
+			requestCount.incrementAndGet();
+			HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+			int status = response.statusCode();
+			if (status == 304 && cached != null) {
+				update(key, new CachedResponse(response.headers().firstValue("ETag").orElse(cached.etag), expires(response.headers(), now), cached.body, now));
+				return Optional.of(new Response(200, cached.body, true));
+			}
+			if (status == 200 && !isNoStore(response.headers())) {
+				update(key, new CachedResponse(response.headers().firstValue("ETag").orElse(""), expires(response.headers(), now), response.body(), now));
+			}
+			return Optional.of(new Response(status, response.body(), false));
+		} catch (IOException e) {
+			String msg = "Unable to connect to Modrinth, using the cached response if present.";
+			SilkModUp.getInstance().logger().debug(msg, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return Optional.ofNullable(cached).map(response -> new Response(200, response.body, true));
+	}
+	
+	private static long expires(HttpHeaders headers, long now) {
+		for (String value : headers.allValues("Cache-Control")) {
+			for (String directive : value.split(",")) {
+				directive = directive.trim().toLowerCase();
+				if ("no-cache".equals(directive)) return now;
+				if (!directive.startsWith("max-age=")) continue;
+				try {
+					return now + Long.parseLong(directive.substring("max-age=".length())) * 1000;
+				} catch (NumberFormatException ignored) {
+				}
+			}
+		}
+		return now;
+	}
+	
+	private static boolean isNoStore(HttpHeaders headers) {
+		return headers.allValues("Cache-Control").stream().anyMatch(value -> value.toLowerCase().contains("no-store"));
+	}
+	
+	private static String digest(String body) {
+		try {
+			return FileDigest.toHex(MessageDigest.getInstance("SHA-1").digest(body.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			return body;
+		}
+	}
+	
+	private void update(String key, CachedResponse response) {
+		cache.put(key, response);
+		dirty.set(true);
+		if (!flushScheduled.compareAndSet(false, true)) return;
+		FLUSH_POOL.schedule(() -> {
+			flushScheduled.set(false);
+			flush();
+		}, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * 丢弃超过保留时间未使用的响应，并在超出最大数量时丢弃最久未使用的响应
+	 */
+	private void evict() {
+		long oldest = System.currentTimeMillis() - CACHE_RETENTION.toMillis();
+		cache.values().removeIf(response -> response.lastUsed < oldest);
+		int excess = cache.size() - MAX_CACHE_ENTRIES;
+		if (excess <= 0) return;
+		cache.entrySet().stream()
+				.sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+				.limit(excess)
+				.map(Map.Entry::getKey)
+				.toList()
+				.forEach(cache::remove);
+	}
+	
+	private void load() {
+		if (!Files.isRegularFile(cachePath)) return;
+		long now = System.currentTimeMillis();
+		try (Reader reader = Files.newBufferedReader(cachePath, StandardCharsets.UTF_8)) {
+			JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+			json.entrySet().forEach(entry -> {
+				JsonObject object = entry.getValue().getAsJsonObject();
+				JsonElement lastUsed = object.get("last_used");
+				cache.put(entry.getKey(), new CachedResponse(object.get("etag").getAsString(), object.get("expires").getAsLong(),
+						object.get("body").getAsString(), lastUsed == null ? now : lastUsed.getAsLong()));
+			});
+			evict();
+		} catch (IOException | JsonParseException | IllegalStateException | NullPointerException e) {
+			String msg = "Unable to read the Modrinth response cache, it will be rebuilt.";
+			SilkModUp.getInstance().logger().warn(msg, e);
+		}
+	}
+	
+	private synchronized void save() {
+		evict();
+		JsonObject json = new JsonObject();
+		cache.forEach((key, response) -> {
+			JsonObject object = new JsonObject();
+			object.addProperty("etag", response.etag);
+			object.addProperty("expires", response.expires);
+			object.addProperty("body", response.body);
+			object.addProperty("last_used", response.lastUsed);
+			json.add(key, object);
+		});
+		try {
+			Files.createDirectories(cachePath.toAbsolutePath().getParent());
+			Path temp = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+			try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				writer.write(json.toString());
+			}
+			Files.move(temp, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			String msg = "Unable to write the Modrinth response cache. Please check your storage permissions.";
+			SilkModUp.getInstance().logger().warn(msg, e);
+		}
+	}
+	
+	/**
+	 * API 响应
+	 *
+	 * @param status    HTTP 状态码
+	 * @param body      响应体
+	 * @param fromCache 是否来自缓存
+	 */
+	public record Response(int status, String body, boolean fromCache) {
+		/**
+		 * 是否成功
+		 *
+		 * @return 状态码是否为 200
+		 */
+		public boolean isOk() {
+			return status == 200;
+		}
+	}
+	
+	private record CachedResponse(String etag, long expires, String body, long lastUsed) {
+		private CachedResponse used(long now) {
+			return new CachedResponse(etag, expires, body, now);
+		}
+	}
+}
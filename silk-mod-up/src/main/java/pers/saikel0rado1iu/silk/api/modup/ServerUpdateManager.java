@@ -19,28 +19,59 @@ import net.minecraft.text.ClickEvent;
 import net.minecraft.text.HoverEvent;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import pers.saikel0rado1iu.silk.api.modpass.log.Changelog;
 import pers.saikel0rado1iu.silk.api.pattern.widget.WidgetTexts;
 import pers.saikel0rado1iu.silk.impl.SilkModUp;
 
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.*;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 /**
  * <h2 style="color:FFC800">服务端更新管理器</h2>
- * 服务端更新管理器通过发送服务器消息通知用户需要进行模组更新
+ * 服务端更新管理器通过发送服务器消息通知用户需要进行模组更新<br>
+ * 所有模组共用 {@link UpdateScheduler#server()} 进行周期检查，玩家加入时直接使用缓存的检查结果通知，不会触发新的检查
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 1.0.0
  */
 public class ServerUpdateManager extends UpdateManager {
-	private static final ScheduledExecutorService SERVER_STARTED_UPDATE_POOL = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().daemon(true).build());
-	private static final ScheduledExecutorService PLAYER_JOIN_UPDATE_POOL = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().daemon(true).build());
+	private static final List<ServerUpdateManager> MANAGERS = new CopyOnWriteArrayList<>();
+	private static volatile MinecraftServer runningServer = null;
+	
+	static {
+		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+			runningServer = server;
+			UpdateScheduler.server().start();
+		});
+		ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+			UpdateScheduler.server().stop();
+			runningServer = null;
+			MANAGERS.forEach(manager -> manager.notified = "");
+		});
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> onJoin(handler));
+	}
+	
+	/**
+	 * 请改用 {@link UpdateManager#prevModVersion}
+	 */
+	@Deprecated
 	protected String prevModVersion2 = prevModVersion;
+	/**
+	 * 请改用 {@link UpdateManager#canShowUpdateNotify}
+	 */
+	@Deprecated
 	protected boolean canShowUpdateNotify2 = canShowUpdateNotify;
+	private volatile UpdateScheduler.Entry entry = null;
+	private volatile String notified = "";
 	
 	/**
 	 * @param updateDataBuilder 更新数据构建器
@@ -59,92 +90,71 @@ public class ServerUpdateManager extends UpdateManager {
 		return WidgetTexts.textKey(SilkModUp.getInstance(), "serverNotify." + updateState.toString().toLowerCase());
 	}
 	
-	private static void serverStartedUpdate(ServerUpdateManager manager, Supplier<Future<UpdateData>> updateDataSupplier, MinecraftServer server) {
-		SERVER_STARTED_UPDATE_POOL.scheduleAtFixedRate(() -> {
-			if (!manager.canShowUpdateNotify) return;
-			try {
-				Future<UpdateData> updateDataFuture = updateDataSupplier.get();
-				while (!updateDataFuture.isDone()) Thread.yield();
-				UpdateData updateData = updateDataFuture.get();
-				if (!manager.prevModVersion.equals(updateData.modVersion())) manager.canShowUpdateNotify = false;
-				manager.prevModVersion = updateData.modVersion();
-				Future<URL> urlFuture = ModUpdater.downloadUrl(updateData);
-				while (!urlFuture.isDone() && !urlFuture.isCancelled()) Thread.yield();
-				URL url = urlFuture.get();
-				Text modName = updateData.modData().i18nName().copy().styled(style -> style
-						.withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, String.format("https://modrinth.com/mod/%s", updateData.modData().slug())))
-						.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.modName.hover")))
-						.withColor(Formatting.GREEN));
-				Text updateText = WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.update").styled(style -> style
-						.withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, url.toString()))
-						.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.update.hover")))
-						.withColor(Formatting.GREEN));
-				switch (updateData.getUpdateState()) {
-					case NEW_MC_VER -> server.sendMessage(
-							Text.translatable(updateTextKey(UpdateState.NEW_MC_VER), modName, updateData.modVersion(), updateData.minecraftVersion(), updateText));
-					case THIS_MC_VER -> server.sendMessage(
-							Text.translatable(updateTextKey(UpdateState.THIS_MC_VER), modName, updateData.modVersion(), updateText));
-					case MOD_LOG -> server.sendMessage(
-							Text.translatable(updateTextKey(UpdateState.MOD_LOG), modName, Changelog.read(updateData, String.format("%s_%s", Locale.getDefault().getLanguage(), Locale.getDefault().getCountry().toLowerCase()))));
-					case STOP_UPDATE -> server.sendMessage(
-							Text.translatable(updateTextKey(UpdateState.STOP_UPDATE), modName));
-					case UPDATE_FAIL -> {
-						server.sendMessage(Text.translatable(updateTextKey(UpdateState.UPDATE_FAIL), modName));
-						manager.canShowUpdateNotify = false;
-					}
-					case DONE -> manager.canShowUpdateNotify = true;
-					case NONE -> {
-					}
-				}
-			} catch (InterruptedException | ExecutionException e) {
-				manager.canShowUpdateNotify = false;
-				String msg = "Computation Error: An unexpected issue occurred during the update check computation process. Please check the specific error details.";
-				SilkModUp.getInstance().logger().error(msg, e);
-			}
-		}, 0, 1, TimeUnit.MINUTES);
+	/**
+	 * 玩家加入时使用所有模组缓存的检查结果通知玩家，不会触发新的检查
+	 *
+	 * @param handler 加入玩家的网络处理器
+	 */
+	public static void onJoin(ServerPlayNetworkHandler handler) {
+		MANAGERS.forEach(manager -> manager.notifyPlayer(handler));
 	}
 	
-	private static void playerJoinUpdate(ServerUpdateManager manager, Supplier<Future<UpdateData>> updateDataSupplier, ServerPlayNetworkHandler handler) {
-		PLAYER_JOIN_UPDATE_POOL.scheduleAtFixedRate(() -> {
-			if (!manager.canShowUpdateNotify2) return;
+	private static CompletableFuture<UpdateData> toCompletableFuture(Future<UpdateData> future) {
+		if (future instanceof CompletableFuture<UpdateData> completableFuture) return completableFuture;
+		return CompletableFuture.supplyAsync(() -> {
 			try {
-				Future<UpdateData> updateDataFuture = updateDataSupplier.get();
-				while (!updateDataFuture.isDone() && !updateDataFuture.isCancelled()) Thread.yield();
-				UpdateData updateData = updateDataFuture.get();
-				if (!manager.prevModVersion2.equals(updateData.modVersion())) manager.canShowUpdateNotify2 = false;
-				manager.prevModVersion2 = updateData.modVersion();
-				Future<URL> urlFuture = ModUpdater.downloadUrl(updateData);
-				while (!urlFuture.isDone() && !urlFuture.isCancelled()) Thread.yield();
-				URL url = urlFuture.get();
-				Text modName = updateData.modData().i18nName().copy().styled(style -> style
-						.withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, String.format("https://modrinth.com/mod/%s", updateData.modData().slug())))
-						.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.modName.hover")))
-						.withColor(Formatting.GREEN));
-				Text updateText = WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.update").styled(style -> style
-						.withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, url.toString()))
-						.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.update.hover")))
-						.withColor(Formatting.GREEN));
-				switch (updateData.getUpdateState()) {
-					case NEW_MC_VER -> handler.player.sendMessageToClient(
-							Text.translatable(updateTextKey(UpdateState.NEW_MC_VER), modName, updateData.modVersion(), updateData.minecraftVersion(), updateText), false);
-					case THIS_MC_VER -> handler.player.sendMessageToClient(
-							Text.translatable(updateTextKey(UpdateState.THIS_MC_VER), modName, updateData.modVersion(), updateText), false);
-					case STOP_UPDATE -> handler.player.sendMessageToClient(
-							Text.translatable(updateTextKey(UpdateState.STOP_UPDATE), modName), false);
-					case UPDATE_FAIL -> {
-						handler.player.sendMessageToClient(Text.translatable(updateTextKey(UpdateState.UPDATE_FAIL), modName), false);
-						manager.canShowUpdateNotify2 = false;
-					}
-					case DONE -> manager.canShowUpdateNotify2 = true;
-					case MOD_LOG, NONE -> {
-					}
-				}
+				return future.get();
 			} catch (InterruptedException | ExecutionException e) {
-				manager.canShowUpdateNotify2 = false;
-				String msg = "Computation Error: An unexpected issue occurred during the update check computation process. Please check the specific error details.";
-				SilkModUp.getInstance().logger().error(msg, e);
+				throw new IllegalStateException(e);
 			}
-		}, 0, 1, TimeUnit.MINUTES);
+		});
+	}
+	
+	private static Optional<Text> message(UpdateData updateData, boolean isServer) {
+		URL url;
+		try {
+			url = ModUpdater.resolveDownloadUrl(updateData);
+		} catch (MalformedURLException | URISyntaxException e) {
+			String msg = "URL Error: The update link you attempted to connect to does not exist. Please check if the slug provided by ModPass is correct.";
+			SilkModUp.getInstance().logger().error(msg, e);
+			return Optional.empty();
+		}
+		Text modName = updateData.modData().i18nName().copy().styled(style -> style
+				.withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, String.format("https://modrinth.com/mod/%s", updateData.modData().slug())))
+				.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.modName.hover")))
+				.withColor(Formatting.GREEN));
+		Text updateText = WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.update").styled(style -> style
+				.withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_URL, url.toString()))
+				.withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, WidgetTexts.text(SilkModUp.getInstance(), "serverNotify.update.hover")))
+				.withColor(Formatting.GREEN));
+		return switch (updateData.getUpdateState()) {
+			case NEW_MC_VER -> Optional.of(Text.translatable(updateTextKey(UpdateState.NEW_MC_VER), modName, updateData.modVersion(), updateData.minecraftVersion(), updateText));
+			case THIS_MC_VER -> Optional.of(Text.translatable(updateTextKey(UpdateState.THIS_MC_VER), modName, updateData.modVersion(), updateText));
+			case MOD_LOG -> isServer
+					? Optional.of(Text.translatable(updateTextKey(UpdateState.MOD_LOG), modName, Changelog.read(updateData, String.format("%s_%s", Locale.getDefault().getLanguage(), Locale.getDefault().getCountry().toLowerCase()))))
+					: Optional.empty();
+			case STOP_UPDATE -> Optional.of(Text.translatable(updateTextKey(UpdateState.STOP_UPDATE), modName));
+			case UPDATE_FAIL -> Optional.of(Text.translatable(updateTextKey(UpdateState.UPDATE_FAIL), modName));
+			case DONE, NONE -> Optional.empty();
+		};
+	}
+	
+	private void notifyServer(UpdateData updateData) {
+		MinecraftServer server = runningServer;
+		if (server == null) return;
+		// 同一版本的同一状态只通知一次
+		String key = updateData.modVersion() + '@' + updateData.getUpdateState();
+		if (key.equals(notified)) return;
+		notified = key;
+		prevModVersion = updateData.modVersion();
+		prevModVersion2 = prevModVersion;
+		message(updateData, true).ifPresent(text -> server.execute(() -> server.sendMessage(text)));
+	}
+	
+	private void notifyPlayer(ServerPlayNetworkHandler handler) {
+		UpdateScheduler.Entry current = entry;
+		if (current == null) return;
+		current.latest().flatMap(updateData -> message(updateData, false)).ifPresent(text -> handler.player.sendMessageToClient(text, false));
 	}
 	
 	/**
@@ -154,7 +164,19 @@ public class ServerUpdateManager extends UpdateManager {
 	 */
 	@Override
 	public void operation(Supplier<Future<UpdateData>> updateDataSupplier) {
-		ServerLifecycleEvents.SERVER_STARTED.register(server -> serverStartedUpdate(this, updateDataSupplier, server));
-		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> playerJoinUpdate(this, updateDataSupplier, handler));
+		if (entry != null) return;
+		entry = UpdateScheduler.server().register(() -> toCompletableFuture(updateDataSupplier.get()), this::notifyServer);
+		MANAGERS.add(this);
+	}
+	
+	/**
+	 * 从服务端更新调度器中注销此管理器，之后不再进行检查也不再通知玩家
+	 */
+	public void unregister() {
+		UpdateScheduler.Entry current = entry;
+		if (current == null) return;
+		MANAGERS.remove(this);
+		UpdateScheduler.server().unregister(current);
+		entry = null;
 	}
 }
@@ -11,185 +11,216 @@
 
 package pers.saikel0rado1iu.silk.api.modup;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.*;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import pers.saikel0rado1iu.silk.api.base.common.util.JarUtil;
 import pers.saikel0rado1iu.silk.impl.Minecraft;
 import pers.saikel0rado1iu.silk.impl.SilkModUp;
 
-import javax.net.ssl.HttpsURLConnection;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.*;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * <h2 style="color:FFC800">更新检查器</h2>
- * 用于检查模组更新的线程
+ * 用于检查模组更新的线程<br>
+ * 短时间内提交的所有检查会合并为一个批次，通过 Modrinth 的多哈希版本接口以尽量少的请求完成检查
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 1.0.0
  */
-public final class UpdateChecker implements Callable<UpdateData> {
+public final class UpdateChecker {
+	/**
+	 * 合并检查请求的时间窗口
+	 */
+	public static final long BATCH_WINDOW_MILLIS = 500;
 	private static final ScheduledExecutorService UPDATE_CHECKER_POOL = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().daemon(true).build());
-	private final UpdateData.Builder updateDataBuilder;
-	private final String projectLink;
-	private final String basicLink;
-	private URL updateLink;
+	private static final Queue<Map.Entry<UpdateData.Builder, CompletableFuture<UpdateData>>> PENDING = new ConcurrentLinkedQueue<>();
+	private static final AtomicBoolean BATCH_SCHEDULED = new AtomicBoolean(false);
+	private static final String LOADERS = "[\"fabric\"]";
+	private final ModrinthApi api;
+	private final Map<UpdateData.Builder, String> hashes = new LinkedHashMap<>();
 	
-	private UpdateChecker(UpdateData.Builder updateDataBuilder) {
-		this.updateDataBuilder = updateDataBuilder;
-		this.projectLink = String.format("https://api.modrinth.com/v2/project/%s", updateDataBuilder.modData().slug());
-		this.basicLink = projectLink + "/version?loaders=%5B%22fabric%22%5D";
+	private UpdateChecker(ModrinthApi api) {
+		this.api = api;
 	}
 	
 	/**
-	 * 运行方法，检查是否需要更新
+	 * 运行方法，检查是否需要更新<br>
+	 * 检查会在 {@link UpdateChecker#BATCH_WINDOW_MILLIS} 内与其他模组的检查合并执行
 	 *
 	 * @param updateDataBuilder 更新数据构建器
 	 * @return 更新数据
 	 */
-	public static Future<UpdateData> check(UpdateData.Builder updateDataBuilder) {
-		FutureTask<UpdateData> futureTask = new FutureTask<>(new UpdateChecker(updateDataBuilder));
-		UPDATE_CHECKER_POOL.schedule(() -> {
-			if (!futureTask.isDone()) futureTask.run();
-		}, 0, TimeUnit.SECONDS);
-		return futureTask;
+	public static CompletableFuture<UpdateData> check(UpdateData.Builder updateDataBuilder) {
+		CompletableFuture<UpdateData> future = new CompletableFuture<>();
+		PENDING.add(Map.entry(updateDataBuilder, future));
+		if (BATCH_SCHEDULED.compareAndSet(false, true)) UPDATE_CHECKER_POOL.schedule(UpdateChecker::runBatch, BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+		return future;
 	}
 	
 	/**
-	 * 检查方法
+	 * 同步检查一批模组的更新
 	 *
-	 * @return 更新状态
+	 * @param builders 更新数据构建器
+	 * @param api      使用的 Modrinth API
+	 * @return 以构建器为键的更新数据
 	 */
-	public UpdateState check() {
-		// 检查是否已停止更新
-		if (updateDataBuilder.isArchived) return UpdateState.STOP_UPDATE;
-		return switch (updateDataBuilder.updateSettings.getValue(UpdateSettings.UPDATE_CHANNEL)) {
-			case ALPHA: {
-				UpdateState state = check(UpdateChannel.ALPHA);
-				if (state != UpdateState.UPDATE_FAIL && state != UpdateState.DONE) yield state;
-			}
-			case BETA: {
-				UpdateState state = check(UpdateChannel.BETA);
-				if (state != UpdateState.UPDATE_FAIL && state != UpdateState.DONE) yield state;
+	public static Map<UpdateData.Builder, UpdateData> checkAll(Collection<UpdateData.Builder> builders, ModrinthApi api) {
+		return new UpdateChecker(api).run(builders);
+	}
+	
+	private static void runBatch() {
+		BATCH_SCHEDULED.set(false);
+		Map<UpdateData.Builder, List<CompletableFuture<UpdateData>>> batch = new LinkedHashMap<>();
+		for (Map.Entry<UpdateData.Builder, CompletableFuture<UpdateData>> entry; (entry = PENDING.poll()) != null; ) {
+			batch.computeIfAbsent(entry.getKey(), builder -> new ArrayList<>(1)).add(entry.getValue());
+		}
+		if (batch.isEmpty()) return;
+		try {
+			Map<UpdateData.Builder, UpdateData> results = checkAll(batch.keySet(), ModrinthApi.getInstance());
+			batch.forEach((builder, futures) -> futures.forEach(future -> future.complete(results.get(builder))));
+		} catch (RuntimeException e) {
+			batch.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+		}
+	}
+	
+	private static boolean isAllowed(UpdateChannel channel, String versionType) {
+		return switch (channel) {
+			case ALPHA -> true;
+			case BETA -> !"alpha".equals(versionType);
+			case RELEASE -> "release".equals(versionType);
+		};
+	}
+	
+	private static Optional<JsonObject> primaryFile(JsonObject version) {
+		JsonArray files = version.getAsJsonArray("files");
+		if (files == null || files.isEmpty()) return Optional.empty();
+		for (JsonElement file : files) {
+			JsonElement primary = file.getAsJsonObject().get("primary");
+			if (primary != null && primary.getAsBoolean()) return Optional.of(file.getAsJsonObject());
+		}
+		return Optional.of(files.get(0).getAsJsonObject());
+	}
+	
+	private static String encode(String json) {
+		return URLEncoder.encode(json, StandardCharsets.UTF_8);
+	}
+	
+	private Map<UpdateData.Builder, UpdateData> run(Collection<UpdateData.Builder> builders) {
+		Map<UpdateData.Builder, UpdateData> results = new LinkedHashMap<>();
+		// 按是否检查新版本 MC 模组分组，每组只需一次多哈希请求
+		Map<Boolean, List<UpdateData.Builder>> groups = new LinkedHashMap<>();
+		for (UpdateData.Builder builder : builders) {
+			// 检查是否已停止更新
+			if (builder.isArchived) {
+				results.put(builder, builder.updateState(UpdateState.STOP_UPDATE).build());
+				continue;
 			}
-			case RELEASE: {
-				yield check(UpdateChannel.RELEASE);
+			hashes.put(builder, JarUtil.getFileSha1(builder.modData().jar()));
+			groups.computeIfAbsent(builder.updateSettings.getValue(UpdateSettings.CHECK_NEW_MC_VER_MOD), key -> new ArrayList<>()).add(builder);
+		}
+		groups.forEach((checkNewMcVer, group) -> {
+			Optional<JsonObject> latest = latestVersions(group, checkNewMcVer);
+			for (UpdateData.Builder builder : group) {
+				String hash = hashes.get(builder);
+				UpdateChannel channel = builder.updateSettings.getValue(UpdateSettings.UPDATE_CHANNEL);
+				Optional<JsonObject> version = latest.map(json -> json.get(hash))
+						.filter(JsonElement::isJsonObject)
+						.map(JsonElement::getAsJsonObject)
+						.filter(json -> isAllowed(channel, json.get("version_type").getAsString()));
+				results.put(builder, version.isPresent() ? build(builder, version.get()) : checkProject(builder, channel, checkNewMcVer));
 			}
-		};
+		});
+		return results;
 	}
 	
-	private UpdateState check(UpdateChannel channel) {
-		String value = channel.toString().toLowerCase();
-		// 检查是否联网，如未联网则不进行更新检查
+	private Optional<JsonObject> latestVersions(List<UpdateData.Builder> group, boolean checkNewMcVer) {
+		JsonObject body = new JsonObject();
+		JsonArray hashArray = new JsonArray();
+		group.stream().map(hashes::get).filter(hash -> !hash.isEmpty()).distinct().forEach(hashArray::add);
+		if (hashArray.isEmpty()) return Optional.empty();
+		body.add("hashes", hashArray);
+		body.addProperty("algorithm", "sha1");
+		body.add("loaders", JsonParser.parseString(LOADERS));
+		if (!checkNewMcVer) {
+			JsonArray gameVersions = new JsonArray();
+			gameVersions.add(Minecraft.getInstance().version());
+			body.add("game_versions", gameVersions);
+		}
 		try {
-			URL testOnline = new URI("https://www.minecraft.net").toURL();
-			HttpsURLConnection connection = (HttpsURLConnection) testOnline.openConnection();
-			connection.setConnectTimeout(1000);
-			connection.connect();
-		} catch (IOException | URISyntaxException unknownHostException) {
+			return api.post("version_files/update", body)
+					.filter(ModrinthApi.Response::isOk)
+					.map(response -> JsonParser.parseString(response.body()).getAsJsonObject());
+		} catch (JsonParseException | IllegalStateException e) {
+			String msg = "Response Error: Modrinth returned an unexpected response for the version files request.";
+			SilkModUp.getInstance().logger().error(msg, e);
+			return Optional.empty();
+		}
+	}
+	
+	/**
+	 * 模组文件不在 Modrinth 上或最新版本不在所选通道时，回退到按项目查询版本列表
+	 */
+	private UpdateData checkProject(UpdateData.Builder builder, UpdateChannel channel, boolean checkNewMcVer) {
+		String query = "project/" + builder.modData().slug() + "/version?loaders=" + encode(LOADERS);
+		if (!checkNewMcVer) query += "&game_versions=" + encode("[\"" + Minecraft.getInstance().version() + "\"]");
+		Optional<ModrinthApi.Response> response = api.get(query);
+		// 网络不可用且没有缓存时不进行更新检查
+		if (response.isEmpty()) {
 			String msg = "Unable to update: Unable to connect to the internet.";
 			SilkModUp.getInstance().logger().debug(msg);
-			return UpdateState.NONE;
+			return builder.updateState(UpdateState.NONE).build();
 		}
-		// 检查是否存在项目主页，如不存在项目主页则报错
-		try {
-			URL testOnline = new URI(projectLink).toURL();
-			HttpsURLConnection connection = (HttpsURLConnection) testOnline.openConnection();
-			connection.setConnectTimeout(1000);
-			connection.setReadTimeout(1000);
-			connection.connect();
-			if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) throw new IOException();
-		} catch (IOException | URISyntaxException unknownHostException) {
+		if (!response.get().isOk()) {
 			String msg = "URL Error: The update link you attempted to connect to does not exist. Please check if the slug provided by ModPass is correct.";
 			SilkModUp.getInstance().logger().error(msg);
-			return UpdateState.UPDATE_FAIL;
+			return builder.updateState(UpdateState.UPDATE_FAIL).build();
 		}
-		// 判断是否有更新
 		try {
-			String checkUpdateBasic = String.format("%s&version_type=%s", basicLink, value);
-			if (updateDataBuilder.updateSettings.getValue(UpdateSettings.CHECK_NEW_MC_VER_MOD)) {
-				updateLink = new URI(checkUpdateBasic).toURL();
-				updateLink.openConnection().setConnectTimeout(200);
-				// 通过 URL 的 openStream 方法获取 URL 对象所表示的自愿字节输入流
-				String s = new BufferedReader(new InputStreamReader(updateLink.openStream())).lines().collect(Collectors.joining(System.lineSeparator()));
-				if ("[]".equals(s)) return UpdateState.UPDATE_FAIL;
-				JsonObject webData = (JsonObject) JsonParser.parseString(s).getAsJsonArray().get(0);
-				// 判断更新
-				String updateVer = Minecraft.getLatestVersion(webData);
-				JsonObject jsonObject = (JsonObject) webData.getAsJsonArray("files").get(0);
-				String sha1Code = jsonObject.getAsJsonObject("hashes").get("sha1").getAsString();
-				if (!JarUtil.getFileSha1(updateDataBuilder.modData().jar()).equals(sha1Code)) {
-					if (updateVer.equals(Minecraft.getInstance().version())) return UpdateState.THIS_MC_VER;
-					else if (Minecraft.getInstance().compareVersion(updateVer) > 0) return UpdateState.NEW_MC_VER;
-				}
-			} else {
-				updateLink = new URI(String.format("%s&game_versions=%5B%22%s%22%5D", checkUpdateBasic, Minecraft.getInstance().version())).toURL();
-				updateLink.openConnection().setConnectTimeout(200);
-				// 通过 URL 的 openStream 方法获取 URL 对象所表示的自愿字节输入流
-				String s = new BufferedReader(new InputStreamReader(updateLink.openStream())).lines().collect(Collectors.joining(System.lineSeparator()));
-				if ("[]".equals(s)) return UpdateState.UPDATE_FAIL;
-				JsonObject webData = (JsonObject) JsonParser.parseString(s).getAsJsonArray().get(0);
-				// 判断更新
-				JsonObject jsonObject = (JsonObject) webData.getAsJsonArray("files").get(0);
-				String sha1Code = jsonObject.getAsJsonObject("hashes").get("sha1").getAsString();
-				if (!JarUtil.getFileSha1(updateDataBuilder.modData().jar()).equals(sha1Code)) return UpdateState.THIS_MC_VER;
+			// Modrinth 按发布时间倒序返回版本列表
+			for (JsonElement element : JsonParser.parseString(response.get().body()).getAsJsonArray()) {
+				JsonObject version = element.getAsJsonObject();
+				if (isAllowed(channel, version.get("version_type").getAsString())) return build(builder, version);
 			}
-			if (UpdateData.canShowChangelog(updateDataBuilder.updateSettings)) return UpdateState.MOD_LOG;
-			return UpdateState.DONE;
-		} catch (IOException | URISyntaxException e) {
-			String msg = "URL Error: The update link you attempted to connect to does not exist.";
+		} catch (JsonParseException | IllegalStateException e) {
+			String msg = "Response Error: Modrinth returned an unexpected response for the project versions request.";
 			SilkModUp.getInstance().logger().error(msg, e);
-			return UpdateState.UPDATE_FAIL;
 		}
+		return builder.updateState(UpdateState.UPDATE_FAIL).build();
 	}
 	
-	private String getUpdateModVersion() throws Exception {
-		if (updateLink == null) return "";
-		updateLink.openConnection().setConnectTimeout(200);
-		// 通过 URL 的 openStream 方法获取 URL 对象所表示的自愿字节输入流
-		InputStream is = updateLink.openStream();
-		InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-		JsonElement jsonElement = JsonParser.parseReader(new BufferedReader(isr));
-		JsonObject webData;
-		if (jsonElement instanceof JsonArray jsonArray) webData = (JsonObject) jsonArray.get(0);
-		else webData = (JsonObject) jsonElement.getAsJsonArray().get(0);
-		return webData.get("version_number").getAsString();
-	}
-	
-	private String getUpdateMinecraftVersion() throws Exception {
-		if (updateLink == null) return "";
-		updateLink.openConnection().setConnectTimeout(200);
-		// 通过 URL 的 openStream 方法获取 URL 对象所表示的自愿字节输入流
-		InputStream is = updateLink.openStream();
-		InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-		JsonObject webData = (JsonObject) JsonParser.parseReader(new BufferedReader(isr)).getAsJsonArray().get(0);
-		return Minecraft.getLatestVersion(webData);
-	}
-	
-	@Override
-	public UpdateData call() {
-		UpdateState state = check();
-		if (state == UpdateState.UPDATE_FAIL) return updateDataBuilder.updateState(UpdateState.UPDATE_FAIL).build();
+	private UpdateData build(UpdateData.Builder builder, JsonObject version) {
+		Optional<JsonObject> file = primaryFile(version);
+		if (file.isEmpty()) return builder.updateState(UpdateState.UPDATE_FAIL).build();
+		String updateVer = Minecraft.getLatestVersion(version);
+		String sha1Code = file.get().getAsJsonObject("hashes").get("sha1").getAsString();
+		UpdateState state;
+		if (hashes.get(builder).equals(sha1Code)) {
+			state = UpdateData.canShowChangelog(builder.updateSettings) ? UpdateState.MOD_LOG : UpdateState.DONE;
+		} else if (!builder.updateSettings.getValue(UpdateSettings.CHECK_NEW_MC_VER_MOD) || updateVer.equals(Minecraft.getInstance().version())) {
+			state = UpdateState.THIS_MC_VER;
+		} else if (Minecraft.getInstance().compareVersion(updateVer) > 0) {
+			state = UpdateState.NEW_MC_VER;
+		} else {
+			state = UpdateData.canShowChangelog(builder.updateSettings) ? UpdateState.MOD_LOG : UpdateState.DONE;
+		}
 		try {
-			String modVersion = getUpdateModVersion();
-			String minecraftVersion = getUpdateMinecraftVersion();
-			return updateDataBuilder.modVersion(modVersion).minecraftVersion(minecraftVersion).updateLink(updateLink).updateState(state).build();
-		} catch (Exception e) {
-			String msg = "URL Error: The update link you attempted to connect to does not exist. Please check if the slug provided by ModPass is correct.";
+			URL updateLink = new URI(file.get().get("url").getAsString()).toURL();
+			Map<String, String> updateHashes = new HashMap<>(2);
+			file.get().getAsJsonObject("hashes").entrySet().forEach(entry -> updateHashes.put(entry.getKey(), entry.getValue().getAsString()));
+			return builder.modVersion(version.get("version_number").getAsString()).minecraftVersion(updateVer)
+					.updateLink(updateLink).updateHashes(updateHashes).updateState(state).build();
+		} catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+			String msg = "URL Error: Modrinth returned an invalid file link.";
 			SilkModUp.getInstance().logger().error(msg, e);
-			return updateDataBuilder.updateState(UpdateState.UPDATE_FAIL).build();
+			return builder.updateState(UpdateState.UPDATE_FAIL).build();
 		}
 	}
 }
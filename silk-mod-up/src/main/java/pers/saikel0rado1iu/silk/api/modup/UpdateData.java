@@ -17,6 +17,7 @@ import pers.saikel0rado1iu.silk.api.modpass.ModDataExpansion;
 import pers.saikel0rado1iu.silk.api.modpass.ModPass;
 
 import java.net.URL;
+import java.util.Map;
 
 /**
  * <h2 style="color:FFC800">更新数据</h2>
@@ -26,7 +27,22 @@ import java.net.URL;
  * @since 1.0.0
  */
 public record UpdateData(ModDataExpansion modPass, SettingData updateSettings, UpdateState updateState, String minecraftVersion, String modVersion,
-                         URL updateLink, boolean isArchived) implements ModPass {
+                         URL updateLink, Map<String, String> updateHashes, boolean isArchived) implements ModPass {
+	/**
+	 * 不含更新文件哈希值的构造方法，与添加 {@code updateHashes} 前的构造方法兼容
+	 *
+	 * @param modPass          拓展模组通
+	 * @param updateSettings   更新设置
+	 * @param updateState      更新状态
+	 * @param minecraftVersion 更新的 Minecraft 版本
+	 * @param modVersion       更新的模组版本
+	 * @param updateLink       更新链接
+	 * @param isArchived       是否存档
+	 */
+	public UpdateData(ModDataExpansion modPass, SettingData updateSettings, UpdateState updateState, String minecraftVersion, String modVersion, URL updateLink, boolean isArchived) {
+		this(modPass, updateSettings, updateState, minecraftVersion, modVersion, updateLink, Map.of(), isArchived);
+	}
+	
 	/**
 	 * 构建方法
 	 *
@@ -129,6 +145,7 @@ public record UpdateData(ModDataExpansion modPass, SettingData updateSettings, U
 		private String minecraftVersion;
 		private String modVersion;
 		private URL updateLink;
+		private Map<String, String> updateHashes;
 		
 		private Builder(ModDataExpansion modPass, SettingData updateSettings, boolean isArchived) {
 			SettingData updateData = UpdateSettings.of(modPass, updateSettings);
@@ -140,6 +157,7 @@ public record UpdateData(ModDataExpansion modPass, SettingData updateSettings, U
 			this.minecraftVersion = "";
 			this.modVersion = "";
 			this.updateLink = null;
+			this.updateHashes = Map.of();
 		}
 		
 		@Override
@@ -191,13 +209,24 @@ public record UpdateData(ModDataExpansion modPass, SettingData updateSettings, U
 			return this;
 		}
 		
+		/**
+		 * 设置更新文件的哈希值
+		 *
+		 * @param updateHashes 以 Modrinth 算法名（如 {@code sha1}、{@code sha512}）为键的哈希值
+		 * @return 构建器
+		 */
+		public Builder updateHashes(Map<String, String> updateHashes) {
+			this.updateHashes = Map.copyOf(updateHashes);
+			return this;
+		}
+		
 		/**
 		 * 构建更新数据
 		 *
 		 * @return 更新数据
 		 */
 		public UpdateData build() {
-			return new UpdateData(modPass, updateSettings, updateState, minecraftVersion, modVersion, updateLink, isArchived);
+			return new UpdateData(modPass, updateSettings, updateState, minecraftVersion, modVersion, updateLink, updateHashes, isArchived);
 		}
 	}
 }
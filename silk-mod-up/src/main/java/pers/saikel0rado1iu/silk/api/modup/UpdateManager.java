@@ -11,10 +11,13 @@
 
 package pers.saikel0rado1iu.silk.api.modup;
 
+import net.fabricmc.loader.api.FabricLoader;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import pers.saikel0rado1iu.silk.api.base.common.util.FileDigest;
 import pers.saikel0rado1iu.silk.api.modpass.ModData;
 import pers.saikel0rado1iu.silk.api.modpass.ModPass;
 
+import java.nio.file.Path;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -32,6 +35,15 @@ import java.util.function.Supplier;
 public abstract class UpdateManager extends Thread implements ModPass {
 	private static final ScheduledExecutorService UPDATE_MANAGER_POOL = new ScheduledThreadPoolExecutor(1,
 			new BasicThreadFactory.Builder().daemon(true).build());
+	/**
+	 * 模组文件摘要磁盘缓存路径
+	 */
+	public static final Path DIGEST_CACHE_PATH = FabricLoader.getInstance().getGameDir().resolve(".cache").resolve("silk-mod-up").resolve("digests.properties");
+	
+	static {
+		FileDigest.enableDiskCache(DIGEST_CACHE_PATH);
+	}
+	
 	private final UpdateData.Builder updateDataBuilder;
 	protected String prevModVersion = "";
 	protected boolean canShowUpdateNotify = true;
@@ -47,6 +59,8 @@ public abstract class UpdateManager extends Thread implements ModPass {
 	 * @param updateManager 更新管理器
 	 */
 	public static void run(UpdateManager updateManager) {
+		// 各模组的管理器注册时即并行预计算模组文件摘要，更新检查时直接命中缓存
+		FileDigest.getAsync(updateManager.updateDataBuilder.modData().jar(), FileDigest.Algorithm.SHA_1);
 		UPDATE_MANAGER_POOL.schedule(updateManager, 0, TimeUnit.SECONDS);
 	}
 	
@@ -0,0 +1,200 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.modup;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import pers.saikel0rado1iu.silk.impl.SilkModUp;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <h2 style="color:FFC800">更新调度器</h2>
+ * 所有模组共用的更新检查调度器<br>
+ * 每个模组只会有一个带随机抖动间隔的周期任务，同一时间只会有一次正在进行的检查，
+ * 检查结果会被缓存以供玩家加入时直接使用
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.0.4
+ */
+public final class UpdateScheduler {
+	/**
+	 * 默认检查间隔
+	 */
+	public static final long DEFAULT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+	/**
+	 * 默认检查间隔抖动
+	 */
+	public static final long DEFAULT_JITTER_MILLIS = TimeUnit.SECONDS.toMillis(10);
+	private static final UpdateScheduler SERVER = new UpdateScheduler(DEFAULT_INTERVAL_MILLIS, DEFAULT_JITTER_MILLIS);
+	private final List<Entry> entries = new CopyOnWriteArrayList<>();
+	private final long intervalMillis;
+	private final long jitterMillis;
+	private ScheduledThreadPoolExecutor executor = null;
+	
+	/**
+	 * @param intervalMillis 检查间隔
+	 * @param jitterMillis   检查间隔抖动，实际间隔在 {@code intervalMillis ± jitterMillis} 内随机
+	 */
+	public UpdateScheduler(long intervalMillis, long jitterMillis) {
+		this.intervalMillis = intervalMillis;
+		this.jitterMillis = Math.min(jitterMillis, intervalMillis);
+	}
+	
+	/**
+	 * 获取服务端共用的调度器
+	 *
+	 * @return 服务端更新调度器
+	 */
+	public static UpdateScheduler server() {
+		return SERVER;
+	}
+	
+	/**
+	 * 注册一个模组的更新检查
+	 *
+	 * @param checker  更新检查提供器
+	 * @param onResult 每次检查完成后的回调
+	 * @return 调度条目
+	 */
+	public Entry register(Supplier<CompletableFuture<UpdateData>> checker, Consumer<UpdateData> onResult) {
+		Entry entry = new Entry(checker, onResult);
+		synchronized (this) {
+			entries.add(entry);
+			if (executor != null) schedule(entry, 0);
+		}
+		return entry;
+	}
+	
+	/**
+	 * 注销一个模组的更新检查，取消其周期任务与正在进行的检查
+	 *
+	 * @param entry 调度条目
+	 */
+	public synchronized void unregister(Entry entry) {
+		if (!entries.remove(entry)) return;
+		entry.reset();
+	}
+	
+	/**
+	 * 启动调度器，为每个已注册的模组安排一个周期任务，重复启动不会产生额外任务
+	 */
+	public synchronized void start() {
+		if (executor != null) return;
+		executor = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().namingPattern("silk-mod-up-scheduler").daemon(true).build());
+		executor.setRemoveOnCancelPolicy(true);
+		for (Entry entry : entries) schedule(entry, 0);
+	}
+	
+	/**
+	 * 停止调度器，取消所有周期任务与正在进行的检查，并清除缓存的结果
+	 */
+	public synchronized void stop() {
+		if (executor == null) return;
+		executor.shutdownNow();
+		executor = null;
+		entries.forEach(Entry::reset);
+	}
+	
+	/**
+	 * 获取当前已安排的任务数
+	 *
+	 * @return 任务数
+	 */
+	public synchronized int taskCount() {
+		return executor == null ? 0 : executor.getQueue().size() + executor.getActiveCount();
+	}
+	
+	/**
+	 * 获取所有调度条目
+	 *
+	 * @return 调度条目
+	 */
+	public List<Entry> entries() {
+		return List.copyOf(entries);
+	}
+	
+	private synchronized void schedule(Entry entry, long delayMillis) {
+		if (executor == null) return;
+		executor.schedule(() -> {
+			// 已注销的条目不再检查也不再重新安排
+			if (!entries.contains(entry)) return;
+			entry.refresh();
+			schedule(entry, nextDelay());
+		}, delayMillis, TimeUnit.MILLISECONDS);
+	}
+	
+	private long nextDelay() {
+		if (jitterMillis <= 0) return intervalMillis;
+		return intervalMillis + ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+	}
+	
+	/**
+	 * 调度条目，对应一个模组的更新检查
+	 */
+	public static final class Entry {
+		private final Supplier<CompletableFuture<UpdateData>> checker;
+		private final Consumer<UpdateData> onResult;
+		private final AtomicReference<CompletableFuture<UpdateData>> inFlight = new AtomicReference<>();
+		private volatile UpdateData latest = null;
+		
+		private Entry(Supplier<CompletableFuture<UpdateData>> checker, Consumer<UpdateData> onResult) {
+			this.checker = checker;
+			this.onResult = onResult;
+		}
+		
+		/**
+		 * 进行一次检查，如果已有正在进行的检查则直接返回该检查
+		 *
+		 * @return 检查结果
+		 */
+		public CompletableFuture<UpdateData> refresh() {
+			CompletableFuture<UpdateData> current = inFlight.get();
+			if (current != null && !current.isDone()) return current;
+			CompletableFuture<UpdateData> next = new CompletableFuture<>();
+			if (!inFlight.compareAndSet(current, next)) return inFlight.get();
+			checker.get().whenComplete((updateData, throwable) -> {
+				// 调度器已停止时丢弃结果
+				if (next.isCancelled()) return;
+				if (throwable != null) {
+					String msg = "Computation Error: An unexpected issue occurred during the update check computation process. Please check the specific error details.";
+					SilkModUp.getInstance().logger().error(msg, throwable);
+					next.completeExceptionally(throwable);
+					return;
+				}
+				latest = updateData;
+				next.complete(updateData);
+				onResult.accept(updateData);
+			});
+			return next;
+		}
+		
+		/**
+		 * 获取最近一次的检查结果
+		 *
+		 * @return 检查结果，如果尚未完成过检查则为空
+		 */
+		public Optional<UpdateData> latest() {
+			return Optional.ofNullable(latest);
+		}
+		
+		private void reset() {
+			CompletableFuture<UpdateData> current = inFlight.getAndSet(null);
+			if (current != null) current.cancel(false);
+			latest = null;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.modup;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.base.common.util.FileDigest;
+import pers.saikel0rado1iu.silk.api.modup.ModDownloader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link ModDownloader}
+ */
+public interface ModDownloaderTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkModUp/TestingModDownloader");
+	/**
+	 * 测试文件大小
+	 */
+	int SIZE = 4 * 1024 * 1024;
+	
+	/**
+	 * 测试
+	 */
+	static void test() {
+		byte[] payload = new byte[SIZE];
+		new Random(0).nextBytes(payload);
+		AtomicInteger requests = new AtomicInteger();
+		try {
+			Path directory = Files.createTempDirectory("silk-mod-downloader");
+			Map<String, String> hashes = Map.of(
+					"sha1", FileDigest.toHex(MessageDigest.getInstance("SHA-1").digest(payload)),
+					"sha512", FileDigest.toHex(MessageDigest.getInstance("SHA-512").digest(payload)));
+			HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+			// 第一次请求在传输到一半时中断
+			server.createContext("/interrupted.jar", exchange -> serve(exchange, payload, requests.incrementAndGet() == 1));
+			server.createContext("/corrupted.jar", exchange -> {
+				byte[] corrupted = Arrays.copyOf(payload, payload.length);
+				corrupted[corrupted.length / 2] ^= 1;
+				serve(exchange, corrupted, false);
+			});
+			server.start();
+			String base = "http://127.0.0.1:" + server.getAddress().getPort();
+			ModDownloader downloader = new ModDownloader(HttpClient.newHttpClient(), ModDownloader.DEFAULT_BUFFER_SIZE, ModDownloader.DEFAULT_MAX_ATTEMPTS, Duration.ofSeconds(2));
+			AtomicInteger progressCalls = new AtomicInteger();
+			Path interrupted = directory.resolve("interrupted.jar");
+			ModDownloader.Result result = downloader.download(URI.create(base + "/interrupted.jar"), interrupted, hashes, (downloaded, total) -> progressCalls.incrementAndGet());
+			LOGGER.info("Interrupted download: result = {}, requests = {}, progress callbacks = {}, content equal = {}, part left = {}",
+					result, requests.get(), progressCalls.get(), Arrays.equals(payload, Files.readAllBytes(interrupted)), Files.exists(ModDownloader.partFile(interrupted)));
+			Path corrupted = directory.resolve("corrupted.jar");
+			result = downloader.download(URI.create(base + "/corrupted.jar"), corrupted, hashes, (downloaded, total) -> {
+			});
+			LOGGER.info("Corrupted download: result = {}, target exists = {}, part left = {}", result, Files.exists(corrupted), Files.exists(ModDownloader.partFile(corrupted)));
+			Path unverified = directory.resolve("unverified.jar");
+			result = downloader.download(URI.create(base + "/corrupted.jar"), unverified, Map.of("sha256", hashes.get("sha1")), (downloaded, total) -> {
+			});
+			LOGGER.info("Unverified download: result = {} (expected UNVERIFIED), target exists = {} (expected false), part left = {} (expected false)",
+					result, Files.exists(unverified), Files.exists(ModDownloader.partFile(unverified)));
+			server.stop(0);
+			Files.deleteIfExists(interrupted);
+			Files.deleteIfExists(directory);
+		} catch (IOException | NoSuchAlgorithmException e) {
+			LOGGER.error("Unable to run the download test", e);
+		}
+	}
+	
+	private static void serve(HttpExchange exchange, byte[] payload, boolean interrupt) throws IOException {
+		int start = 0;
+		String range = exchange.getRequestHeaders().getFirst("Range");
+		if (range != null && range.startsWith("bytes=")) {
+			start = Integer.parseInt(range.substring("bytes=".length(), range.indexOf('-')));
+			exchange.getResponseHeaders().add("Content-Range", "bytes " + start + '-' + (payload.length - 1) + '/' + payload.length);
+		}
+		int length = payload.length - start;
+		exchange.sendResponseHeaders(range != null ? 206 : 200, length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(payload, start, interrupt ? length / 2 : length);
+		} catch (IOException ignored) {
+			// 模拟中断时服务器端会因数据不足而报错
+		}
+		exchange.close();
+	}
+}
@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.test.modup;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.text.Text;
 import pers.saikel0rado1iu.silk.api.codex.SettingData;
 import pers.saikel0rado1iu.silk.api.modpass.ModData;
@@ -87,6 +88,9 @@ public final class Test implements ModMain {
 	 */
 	@Override
 	public void main(ModPass mod) {
+		UpdateCheckerTest.test();
+		ServerLifecycleEvents.SERVER_STARTED.register(UpdateSchedulerTest::test);
+		ModDownloaderTest.test();
 	}
 	
 	/**
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.modup;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.modup.ModrinthApi;
+import pers.saikel0rado1iu.silk.api.modup.UpdateChecker;
+import pers.saikel0rado1iu.silk.api.modup.UpdateData;
+import pers.saikel0rado1iu.silk.impl.Minecraft;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link UpdateChecker}
+ */
+public interface UpdateCheckerTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkModUp/TestingUpdateChecker");
+	/**
+	 * 桩服务器返回的 ETag
+	 */
+	String ETAG = "\"silk-stub\"";
+	
+	/**
+	 * 测试
+	 */
+	static void test() {
+		AtomicInteger serverRequests = new AtomicInteger();
+		try {
+			Path cache = Files.createTempFile("silk-modrinth-cache", ".json");
+			Files.delete(cache);
+			HttpServer server = startStubServer(serverRequests);
+			URI baseUri = baseUri(server);
+			ModrinthApi api = new ModrinthApi(baseUri, cache);
+			List<UpdateData.Builder> builders = List.of(Test.UPDATE_DATA_BUILDER);
+			Map<UpdateData.Builder, UpdateData> first = UpdateChecker.checkAll(builders, api);
+			LOGGER.info("First check: state = {}, server requests = {}", first.get(Test.UPDATE_DATA_BUILDER).updateState(), serverRequests.get());
+			UpdateChecker.checkAll(builders, api);
+			LOGGER.info("Second check (If-None-Match → 304): client requests = {}, server requests = {}", api.requestCount(), serverRequests.get());
+			server.stop(0);
+			// 缓存文件批量写入，离线实例读取前需先写入
+			api.flush();
+			ModrinthApi offline = new ModrinthApi(baseUri, cache);
+			Map<UpdateData.Builder, UpdateData> offlineResult = UpdateChecker.checkAll(builders, offline);
+			LOGGER.info("Offline check from cache: state = {}, mod version = {}", offlineResult.get(Test.UPDATE_DATA_BUILDER).updateState(), offlineResult.get(Test.UPDATE_DATA_BUILDER).modVersion());
+			Files.deleteIfExists(cache);
+		} catch (IOException e) {
+			LOGGER.error("Unable to start the stub Modrinth server", e);
+		}
+	}
+	
+	/**
+	 * 启动模拟 Modrinth API 的桩服务器
+	 *
+	 * @param serverRequests 服务器收到的请求计数
+	 * @return 已启动的服务器
+	 * @throws IOException 如果无法绑定端口
+	 */
+	static HttpServer startStubServer(AtomicInteger serverRequests) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/v2/version_files/update", exchange -> {
+			serverRequests.incrementAndGet();
+			JsonObject request = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonObject();
+			JsonObject response = new JsonObject();
+			for (JsonElement hash : request.getAsJsonArray("hashes")) response.add(hash.getAsString(), version("0.0.0-stub"));
+			respond(exchange, response.toString());
+		});
+		server.createContext("/v2/project/", exchange -> {
+			serverRequests.incrementAndGet();
+			JsonArray response = new JsonArray();
+			response.add(version("0.0.0-stub"));
+			respond(exchange, response.toString());
+		});
+		server.start();
+		return server;
+	}
+	
+	/**
+	 * 获取桩服务器的 API 地址
+	 *
+	 * @param server 桩服务器
+	 * @return API 地址
+	 */
+	static URI baseUri(HttpServer server) {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/v2/");
+	}
+	
+	private static JsonObject version(String versionNumber) {
+		JsonObject version = new JsonObject();
+		version.addProperty("version_number", versionNumber);
+		version.addProperty("version_type", "release");
+		JsonArray gameVersions = new JsonArray();
+		gameVersions.add(Minecraft.getInstance().version());
+		version.add("game_versions", gameVersions);
+		JsonObject hashes = new JsonObject();
+		hashes.addProperty("sha1", "0000000000000000000000000000000000000000");
+		JsonObject file = new JsonObject();
+		file.add("hashes", hashes);
+		file.addProperty("url", "https://cdn.modrinth.com/data/stub/versions/stub/stub.jar");
+		file.addProperty("primary", true);
+		JsonArray files = new JsonArray();
+		files.add(file);
+		version.add("files", files);
+		return version;
+	}
+	
+	private static void respond(HttpExchange exchange, String body) throws IOException {
+		exchange.getResponseHeaders().add("ETag", ETAG);
+		exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+		if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+			exchange.sendResponseHeaders(304, -1);
+			exchange.close();
+			return;
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.modup;
+
+import com.sun.net.httpserver.HttpServer;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.server.MinecraftServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.modup.ModrinthApi;
+import pers.saikel0rado1iu.silk.api.modup.ServerUpdateManager;
+import pers.saikel0rado1iu.silk.api.modup.UpdateChecker;
+import pers.saikel0rado1iu.silk.api.modup.UpdateScheduler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link UpdateScheduler}
+ */
+public interface UpdateSchedulerTest {
+	/**
+	 * 日志
+	 */
+	Logger LOGGER = LoggerFactory.getLogger("SilkModUp/TestingUpdateScheduler");
+	/**
+	 * 每轮模拟加入的玩家数
+	 */
+	int[] JOINS = {10, 100, 1000};
+	
+	/**
+	 * 测试
+	 *
+	 * @param server 服务器
+	 */
+	static void test(MinecraftServer server) {
+		AtomicInteger serverRequests = new AtomicInteger();
+		ServerUpdateManager manager = new ServerUpdateManager(Test.UPDATE_DATA_BUILDER);
+		try {
+			Path cache = Files.createTempFile("silk-modrinth-cache", ".json");
+			Files.delete(cache);
+			HttpServer stub = UpdateCheckerTest.startStubServer(serverRequests);
+			ModrinthApi api = new ModrinthApi(UpdateCheckerTest.baseUri(stub), cache);
+			UpdateScheduler scheduler = UpdateScheduler.server();
+			manager.operation(() -> CompletableFuture.supplyAsync(() ->
+					UpdateChecker.checkAll(List.of(Test.UPDATE_DATA_BUILDER), api).get(Test.UPDATE_DATA_BUILDER)));
+			scheduler.start();
+			UpdateScheduler.Entry entry = scheduler.entries().getLast();
+			// 等待调度器完成第一次检查，之后的加入只读取缓存结果
+			entry.refresh().get(10, TimeUnit.SECONDS);
+			FakePlayer player = FakePlayer.get(server.getOverworld());
+			for (int joins : JOINS) {
+				int requests = api.requestCount();
+				int received = serverRequests.get();
+				for (int count = 0; count < joins; count++) ServerUpdateManager.onJoin(player.networkHandler);
+				LOGGER.info("{} joins: scheduled tasks = {} (expected ≤ {}), client requests = {} (expected 0), server requests = {} (expected 0)",
+						joins, scheduler.taskCount(), scheduler.entries().size(), api.requestCount() - requests, serverRequests.get() - received);
+			}
+			stub.stop(0);
+			Files.deleteIfExists(cache);
+		} catch (IOException e) {
+			LOGGER.error("Unable to start the stub Modrinth server", e);
+		} catch (ExecutionException | TimeoutException e) {
+			LOGGER.error("The first scheduled update check did not finish", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			// 调度器是全局的，测试管理器不能残留到之后的服务器中
+			manager.unregister();
+		}
+	}
+}
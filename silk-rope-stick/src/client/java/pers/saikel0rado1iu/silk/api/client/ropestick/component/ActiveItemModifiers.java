@@ -0,0 +1,166 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.client.ropestick.component;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.MathHelper;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes.*;
+
+/**
+ * <h2>活动物品修改器</h2>
+ * 每个客户端刻根据双手物品与使用状态解析一次视场角、鼠标灵敏度与移动速度的修改值<br>
+ * 渲染帧只读取解析结果，需要逐帧变化的值通过上一刻与当前刻的结果插值得到
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.1.3
+ */
+public final class ActiveItemModifiers {
+    private static Modifiers previous = Modifiers.NONE;
+    private static Modifiers current = Modifiers.NONE;
+
+    private ActiveItemModifiers() {
+    }
+
+    /**
+     * 根据客户端玩家的当前状态解析修改值，应在每个客户端刻调用一次
+     *
+     * @param client 客户端
+     */
+    public static void tick(MinecraftClient client) {
+        previous = current;
+        ClientPlayerEntity player = client.player;
+        if (player == null) {
+            current = Modifiers.NONE;
+            return;
+        }
+        ItemStack activeStack = player.getActiveItem();
+        float usingProgress = 0;
+        if (activeStack.contains(ADJUST_FOV_WHILE_USE)) {
+            int useTicks = activeStack.getMaxUseTime(player) - player.getItemUseTimeLeft();
+            usingProgress = AdjustFovWhileUseComponent.getUsingProgress(activeStack, player, useTicks);
+        }
+        current = resolve(player.getMainHandStack(), player.getOffHandStack(), activeStack,
+                player.isUsingItem(), usingProgress, client.options.getPerspective().isFirstPerson());
+    }
+
+    /**
+     * 解析修改值
+     *
+     * @param mainHand      主手物品
+     * @param offHand       副手物品
+     * @param activeStack   正在使用的物品
+     * @param usingItem     是否正在使用物品
+     * @param usingProgress 使用进度，在 0 和 1 之间的浮点数
+     * @param firstPerson   是否为第一人称
+     * @return 修改值
+     */
+    public static Modifiers resolve(ItemStack mainHand, ItemStack offHand, ItemStack activeStack,
+                                    boolean usingItem, float usingProgress, boolean firstPerson) {
+        float fovOffset = 0;
+        float sensitivity = 1;
+        float moveMultiple = 1;
+        List<AdjustFovData> hudOverlays = Collections.emptyList();
+        // 副手物品与主手物品冲突时只应用主手物品
+        for (ItemStack stack : new ItemStack[]{mainHand, offHand}) {
+            AdjustFovWhileHoldComponent adjustFov = stack.get(ADJUST_FOV_WHILE_HOLD);
+            if (adjustFov != null && adjustFov.canAdjust() && (stack == mainHand || !adjustFov.isConflictItem(mainHand))) {
+                AdjustFovData data = adjustFov.adjustFov();
+                if (!data.onlyFirstPerson() || firstPerson) {
+                    float multiple = data.fovScalingMultiple();
+                    fovOffset += 1 - multiple;
+                    sensitivity *= multiple * multiple * multiple;
+                }
+                if (firstPerson && data.hudOverlay().isPresent()) hudOverlays = add(hudOverlays, data);
+            }
+            ModifyMoveWhileHoldComponent modifyMove = stack.get(MODIFY_MOVE_WHILE_HOLD);
+            if (modifyMove != null && modifyMove.canModify() && (stack == mainHand || !modifyMove.isConflictItem(mainHand))) {
+                moveMultiple *= modifyMove.modifyMove().moveSpeedMultiple();
+            }
+        }
+        AdjustFovWhileUseComponent adjustFov = activeStack.get(ADJUST_FOV_WHILE_USE);
+        if (adjustFov != null) {
+            AdjustFovData data = adjustFov.adjustFov();
+            if (!data.onlyFirstPerson() || firstPerson) {
+                float fovChangeAmount = (1 - data.fovScalingMultiple()) * usingProgress;
+                float multiple = 1 - fovChangeAmount;
+                fovOffset += fovChangeAmount;
+                sensitivity *= multiple * multiple * multiple;
+            }
+            if (firstPerson && data.hudOverlay().isPresent()) hudOverlays = add(hudOverlays, data);
+        }
+        ModifyMoveWhileUseComponent modifyMove = activeStack.get(MODIFY_MOVE_WHILE_USE);
+        // 使用物品时原版已将移动速度乘以默认倍率，需要先将其抵消
+        if (usingItem && modifyMove != null) {
+            moveMultiple *= modifyMove.modifyMove().moveSpeedMultiple() / ModifyMoveData.DEFAULT_SPEED_MULTIPLE;
+        }
+        if (fovOffset == 0 && sensitivity == 1 && moveMultiple == 1 && hudOverlays.isEmpty()) return Modifiers.NONE;
+        return new Modifiers(fovOffset, sensitivity, moveMultiple, hudOverlays);
+    }
+
+    private static List<AdjustFovData> add(List<AdjustFovData> list, AdjustFovData data) {
+        List<AdjustFovData> result = list.isEmpty() ? new ArrayList<>(3) : list;
+        result.add(data);
+        return result;
+    }
+
+    /**
+     * 获取当前刻的修改值
+     *
+     * @return 修改值
+     */
+    public static Modifiers current() {
+        return current;
+    }
+
+    /**
+     * 获取插值后的视场角减少量
+     *
+     * @param tickDelta 刻增量
+     * @return 视场角减少量
+     */
+    public static float getFovOffset(float tickDelta) {
+        return MathHelper.lerp(tickDelta, previous.fovOffset(), current.fovOffset());
+    }
+
+    /**
+     * 获取插值后的鼠标灵敏度倍率
+     *
+     * @param tickDelta 刻增量
+     * @return 鼠标灵敏度倍率
+     */
+    public static float getSensitivity(float tickDelta) {
+        return MathHelper.lerp(tickDelta, previous.sensitivity(), current.sensitivity());
+    }
+
+    /**
+     * 修改值
+     *
+     * @param fovOffset    视场角倍数的减少量
+     * @param sensitivity  鼠标灵敏度倍率
+     * @param moveMultiple 移动输入倍率
+     * @param hudOverlays  需要渲染的抬头显示，仅在第一人称时存在
+     */
+    public record Modifiers(float fovOffset, float sensitivity, float moveMultiple, List<AdjustFovData> hudOverlays) {
+        /** 没有任何修改的修改值 */
+        public static final Modifiers NONE = new Modifiers(0, 1, 1, Collections.emptyList());
+    }
+}
@@ -13,7 +13,7 @@ package pers.saikel0rado1iu.silk.api.client.ropestick.ranged;
 
 import net.minecraft.client.item.ModelPredicateProviderRegistry;
 import net.minecraft.util.Identifier;
-import pers.saikel0rado1iu.silk.api.ropestick.component.ComponentTypes;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.ranged.BowLikeItem;
 
@@ -41,7 +41,7 @@ public interface BowModelPredicateProvider {
                     }
                     return entity.isUsingItem() && entity.getActiveItem() == stack ? 1 : 0;
                 });
-        ModelPredicateProviderRegistry.register(bow,
+        ModelPredicateCache.register(bow,
                 Identifier.of(RangedWeaponComponent.PULL_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -52,7 +52,7 @@ public interface BowModelPredicateProvider {
                             : ((BowLikeItem) stack.getItem()).getUsingProgress(stack, entity,
                             stack.getMaxUseTime(entity) - entity.getItemUseTimeLeft());
                 });
-        ModelPredicateProviderRegistry.register(bow,
+        ModelPredicateCache.register(bow,
                 Identifier.of(RangedWeaponComponent.PROJECTILE_INDEX_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -61,7 +61,7 @@ public interface BowModelPredicateProvider {
                     return entity.getActiveItem() != stack
                             ? 0
                             : stack
-                            .getOrDefault(ComponentTypes.RANGED_WEAPON, RangedWeaponComponent.BOW)
+                            .getOrDefault(DataComponentTypes.RANGED_WEAPON, RangedWeaponComponent.BOW)
                             .getProjectileIndex(entity, stack);
                 });
     }
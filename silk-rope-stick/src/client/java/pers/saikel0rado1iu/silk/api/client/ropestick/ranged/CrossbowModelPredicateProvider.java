@@ -14,7 +14,7 @@ package pers.saikel0rado1iu.silk.api.client.ropestick.ranged;
 import net.minecraft.client.item.ModelPredicateProviderRegistry;
 import net.minecraft.item.CrossbowItem;
 import net.minecraft.util.Identifier;
-import pers.saikel0rado1iu.silk.api.ropestick.component.ComponentTypes;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.ranged.CrossbowLikeItem;
 
@@ -42,7 +42,7 @@ public interface CrossbowModelPredicateProvider {
                     }
                     return entity.isUsingItem() && entity.getActiveItem() == stack ? 1 : 0;
                 });
-        ModelPredicateProviderRegistry.register(crossbow,
+        ModelPredicateCache.register(crossbow,
                 Identifier.of(RangedWeaponComponent.PULL_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -53,7 +53,7 @@ public interface CrossbowModelPredicateProvider {
                             : ((CrossbowLikeItem) stack.getItem()).getUsingProgress(stack, entity,
                             stack.getMaxUseTime(entity) - entity.getItemUseTimeLeft());
                 });
-        ModelPredicateProviderRegistry.register(crossbow,
+        ModelPredicateCache.register(crossbow,
                 Identifier.of(RangedWeaponComponent.CHARGED_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -61,14 +61,14 @@ public interface CrossbowModelPredicateProvider {
                     }
                     return CrossbowItem.isCharged(stack) ? 1 : 0;
                 });
-        ModelPredicateProviderRegistry.register(crossbow,
+        ModelPredicateCache.register(crossbow,
                 Identifier.of(RangedWeaponComponent.PROJECTILE_INDEX_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
                         return 0;
                     }
                     return stack
-                            .getOrDefault(ComponentTypes.RANGED_WEAPON, RangedWeaponComponent.CROSSBOW)
+                            .getOrDefault(DataComponentTypes.RANGED_WEAPON, RangedWeaponComponent.CROSSBOW)
                             .getProjectileIndex(entity, stack);
                 });
     }
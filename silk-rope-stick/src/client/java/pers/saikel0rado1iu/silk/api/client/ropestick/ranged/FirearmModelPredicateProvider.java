@@ -17,7 +17,7 @@ import net.minecraft.util.Identifier;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.ranged.CrossbowLikeItem;
 
-import static pers.saikel0rado1iu.silk.api.ropestick.component.ComponentTypes.RANGED_WEAPON;
+import static pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes.RANGED_WEAPON;
 
 /**
  * <h2>枪械模型谓词提供器</h2>
@@ -44,7 +44,7 @@ public interface FirearmModelPredicateProvider {
                     }
                     return entity.isUsingItem() && entity.getActiveItem() == stack ? 1 : 0;
                 });
-        ModelPredicateProviderRegistry.register(firearm,
+        ModelPredicateCache.register(firearm,
                 Identifier.of(RangedWeaponComponent.PULL_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -55,7 +55,7 @@ public interface FirearmModelPredicateProvider {
                             : ((CrossbowLikeItem) stack.getItem()).getUsingProgress(stack, entity,
                             stack.getMaxUseTime(entity) - entity.getItemUseTimeLeft() - 1);
                 });
-        ModelPredicateProviderRegistry.register(firearm,
+        ModelPredicateCache.register(firearm,
                 Identifier.of(RangedWeaponComponent.CHARGED_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -63,7 +63,7 @@ public interface FirearmModelPredicateProvider {
                     }
                     return CrossbowItem.isCharged(stack) ? 1 : 0;
                 });
-        ModelPredicateProviderRegistry.register(firearm,
+        ModelPredicateCache.register(firearm,
                 Identifier.of(RangedWeaponComponent.PROJECTILE_INDEX_KEY),
                 (stack, world, entity, seed) -> {
                     if (entity == null) {
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.client.ropestick.ranged;
+
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.client.item.ClampedModelPredicateProvider;
+import net.minecraft.client.item.ModelPredicateProviderRegistry;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * <h2>模型谓词缓存</h2>
+ * 所有远程武器模型谓词提供器共用的谓词值缓存<br>
+ * 谓词值以（物品堆栈、持有实体、实体刻）为键缓存，同一刻内同一物品的多次渲染只计算一次拉弓进度、发射物索引等值。
+ * 这些值本身只随刻变化，因此缓存不会影响渲染帧之间的表现。
+ * 条目在实体或刻变化时自动失效，并随物品堆栈一同回收，因此无需手动清空
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.1.3
+ */
+public final class ModelPredicateCache {
+    private static final Map<ItemStack, Entry> ENTRIES = new MapMaker().weakKeys().makeMap();
+    private static final Object2IntMap<Identifier> SLOTS = new Object2IntOpenHashMap<>();
+
+    private ModelPredicateCache() {
+    }
+
+    /**
+     * 注册带缓存的模型谓词
+     *
+     * @param item     物品
+     * @param id       谓词标识符
+     * @param provider 模型谓词提供器
+     */
+    public static void register(Item item, Identifier id, ClampedModelPredicateProvider provider) {
+        ModelPredicateProviderRegistry.register(item, id, cached(id, provider));
+    }
+
+    /**
+     * 为模型谓词提供器添加缓存，相同标识符的谓词共用一个缓存槽位
+     *
+     * @param id       谓词标识符
+     * @param provider 模型谓词提供器
+     * @return 带缓存的模型谓词提供器
+     */
+    public static ClampedModelPredicateProvider cached(Identifier id, ClampedModelPredicateProvider provider) {
+        int slot;
+        synchronized (SLOTS) {
+            slot = SLOTS.getOrDefault(id, SLOTS.size());
+            SLOTS.putIfAbsent(id, slot);
+        }
+        // 槽位通过 long 位掩码记录，超出的谓词不进行缓存
+        if (slot >= Long.SIZE) {
+            return provider;
+        }
+        long mask = 1L << slot;
+        return (stack, world, entity, seed) -> {
+            if (entity == null) {
+                return provider.unclampedCall(stack, world, null, seed);
+            }
+            Entry entry = ENTRIES.get(stack);
+            if (entry == null) {
+                entry = new Entry();
+                ENTRIES.put(stack, entry);
+            }
+            if (!entry.isValid(entity)) {
+                entry.reset(entity);
+            } else if ((entry.computed & mask) != 0) {
+                return entry.values[slot];
+            }
+            float value = provider.unclampedCall(stack, world, entity, seed);
+            entry.put(slot, mask, value);
+            return value;
+        };
+    }
+
+    /**
+     * 缓存条目，不持有实体引用以免实体与物品堆栈互相引用导致无法回收
+     */
+    private static final class Entry {
+        private float[] values = new float[4];
+        private long computed = 0;
+        private int entityId = 0;
+        private int age = -1;
+
+        private boolean isValid(LivingEntity entity) {
+            return entityId == entity.getId() && age == entity.age;
+        }
+
+        private void reset(LivingEntity entity) {
+            entityId = entity.getId();
+            age = entity.age;
+            computed = 0;
+        }
+
+        private void put(int slot, long mask, float value) {
+            if (slot >= values.length) {
+                values = Arrays.copyOf(values, Math.min(Long.SIZE, Math.max(slot + 1, values.length * 2)));
+            }
+            values[slot] = value;
+            computed |= mask;
+        }
+    }
+}
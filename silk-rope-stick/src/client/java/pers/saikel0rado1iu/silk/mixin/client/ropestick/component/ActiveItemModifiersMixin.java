@@ -0,0 +1,180 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.mixin.client.ropestick.component;
+
+import com.mojang.authlib.GameProfile;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.Mouse;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.gui.hud.InGameHud;
+import net.minecraft.client.input.Input;
+import net.minecraft.client.network.AbstractClientPlayerEntity;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.RenderTickCounter;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.Colors;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import pers.saikel0rado1iu.silk.api.client.ropestick.component.ActiveItemModifiers;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.AdjustFovData;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.AdjustFovWhileHoldComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.AdjustFovWhileUseComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.ModifyMoveWhileHoldComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.ModifyMoveWhileUseComponent;
+
+/**
+ * <h2 style="color:FFC800">{@link ActiveItemModifiers} 混入</h2>
+ * 应用 {@link AdjustFovWhileHoldComponent}、{@link AdjustFovWhileUseComponent}、{@link ModifyMoveWhileHoldComponent} 与 {@link ModifyMoveWhileUseComponent} 的修改值
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
+ * @since 1.1.3
+ */
+interface ActiveItemModifiersMixin {
+	/**
+	 * 解析修改值并调整视场角
+	 */
+	@Mixin(GameRenderer.class)
+	abstract class AdjustFov implements AutoCloseable {
+		@Shadow
+		@Final
+		MinecraftClient client;
+		@Shadow
+		private float fovMultiplier;
+		
+		@Inject(method = "tick", at = @At("HEAD"))
+		private void resolveModifiers(CallbackInfo ci) {
+			ActiveItemModifiers.tick(client);
+		}
+		
+		@Inject(method = "updateFovMultiplier", at = @At("RETURN"))
+		private void setFovScale(CallbackInfo ci) {
+			fovMultiplier -= ActiveItemModifiers.current().fovOffset();
+		}
+	}
+	
+	/**
+	 * 修正鼠标速度
+	 */
+	@Mixin(Mouse.class)
+	abstract class AdjustMouseSpeed {
+		@Shadow
+		@Final
+		private MinecraftClient client;
+		
+		@Unique
+		private double getSensitivity() {
+			return ActiveItemModifiers.getSensitivity(client.getRenderTickCounter().getTickDelta(true));
+		}
+		
+		@ModifyArg(method = "updateMouse", at = @At(value = "INVOKE", target = "L net/minecraft/client/tutorial/TutorialManager;onUpdateMouse(DD)V"), index = 0)
+		private double setMoveX(double deltaX) {
+			return deltaX * getSensitivity();
+		}
+		
+		@ModifyArg(method = "updateMouse", at = @At(value = "INVOKE", target = "L net/minecraft/client/tutorial/TutorialManager;onUpdateMouse(DD)V"), index = 1)
+		private double setMoveY(double deltaY) {
+			return deltaY * getSensitivity();
+		}
+		
+		@ModifyArg(method = "updateMouse", at = @At(value = "INVOKE", target = "L net/minecraft/client/network/ClientPlayerEntity;changeLookDirection(DD)V"), index = 0)
+		private double setLookDirectionX(double cursorDeltaX) {
+			return cursorDeltaX * getSensitivity();
+		}
+		
+		@ModifyArg(method = "updateMouse", at = @At(value = "INVOKE", target = "L net/minecraft/client/network/ClientPlayerEntity;changeLookDirection(DD)V"), index = 1)
+		private double setLookDirectionY(double cursorDeltaY) {
+			return cursorDeltaY * getSensitivity();
+		}
+	}
+	
+	/**
+	 * 渲染抬头显示
+	 */
+	@Mixin(InGameHud.class)
+	abstract class RenderHudOverlay {
+		@Final
+		@Shadow
+		private MinecraftClient client;
+		@Unique
+		private float hudScale = 0;
+		
+		@Shadow
+		protected abstract void renderOverlay(DrawContext context, Identifier texture, float opacity);
+		
+		@Unique
+		private void renderHudOverlay(DrawContext context, Identifier texture, float scale) {
+			int windowWidth = context.getScaledWindowWidth();
+			int windowHeight = context.getScaledWindowHeight();
+			int minWindowSize = Math.min(windowWidth, windowHeight);
+			float scaleFactor = Math.min((float) windowWidth / minWindowSize, (float) windowHeight / minWindowSize) * scale;
+			int scaledWidth = MathHelper.floor(minWindowSize * scaleFactor);
+			int scaledHeight = MathHelper.floor(minWindowSize * scaleFactor);
+			int offsetX = (windowWidth - scaledWidth) / 2;
+			int offsetY = (windowHeight - scaledHeight) / 2;
+			int endX = offsetX + scaledWidth;
+			int endY = offsetY + scaledHeight;
+			
+			RenderSystem.enableBlend();
+			context.drawTexture(texture, offsetX, offsetY, -90, 0, 0, scaledWidth, scaledHeight, scaledWidth, scaledHeight);
+			RenderSystem.disableBlend();
+			
+			// Fill overlay
+			context.fill(RenderLayer.getGuiOverlay(), 0, endY, windowWidth, windowHeight, -90, Colors.BLACK);
+			context.fill(RenderLayer.getGuiOverlay(), 0, 0, windowWidth, offsetY, -90, Colors.BLACK);
+			context.fill(RenderLayer.getGuiOverlay(), 0, offsetY, offsetX, endY, -90, Colors.BLACK);
+			context.fill(RenderLayer.getGuiOverlay(), endX, offsetY, windowWidth, endY, -90, Colors.BLACK);
+		}
+		
+		@Inject(method = "renderMiscOverlays", at = @At(value = "INVOKE", target = "L net/minecraft/client/option/Perspective;isFirstPerson()Z", shift = At.Shift.BY))
+		private void setRender(DrawContext context, RenderTickCounter tickCounter, CallbackInfo ci) {
+			if (client.player == null) return;
+			hudScale = MathHelper.lerp(0.5F * tickCounter.getLastFrameDuration(), hudScale, 1.125F);
+			if (!client.options.getPerspective().isFirstPerson()) return;
+			for (AdjustFovData adjustFov : ActiveItemModifiers.current().hudOverlays()) {
+				Identifier hudOverlay = adjustFov.hudOverlay().orElseThrow();
+				if (adjustFov.canStretchHud()) renderOverlay(context, hudOverlay, 1);
+				else renderHudOverlay(context, hudOverlay, hudScale);
+			}
+		}
+	}
+	
+	/**
+	 * 修改移动速度
+	 */
+	@Mixin(ClientPlayerEntity.class)
+	abstract class ModifyMove extends AbstractClientPlayerEntity {
+		@Shadow
+		public Input input;
+		
+		public ModifyMove(ClientWorld world, GameProfile profile) {
+			super(world, profile);
+		}
+		
+		@Inject(method = "tickMovement", at = @At(value = "INVOKE", target = "L net/minecraft/client/network/ClientPlayerEntity;isUsingItem()Z", shift = At.Shift.AFTER))
+		private void applyMovementMultiple(CallbackInfo ci) {
+			float moveMultiple = ActiveItemModifiers.current().moveMultiple();
+			input.movementSideways *= moveMultiple;
+			input.movementForward *= moveMultiple;
+		}
+	}
+}
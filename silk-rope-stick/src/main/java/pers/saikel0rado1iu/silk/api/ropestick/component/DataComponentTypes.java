@@ -66,6 +66,14 @@ public interface DataComponentTypes extends ComponentTypeRegistry {
                     .packetCodec(ProjectileContainerComponent.PACKET_CODEC)
                     .build())
             .register(SilkApi.INTERNAL.ofId("projectile_container"));
+    /** 发射物弹匣数据组件类型 */
+    ComponentType<ProjectileMagazineComponent> PROJECTILE_MAGAZINE = ComponentTypeRegistry
+            .registrar(() -> ComponentType
+                    .<ProjectileMagazineComponent>builder()
+                    .codec(ProjectileMagazineComponent.CODEC)
+                    .packetCodec(ProjectileMagazineComponent.PACKET_CODEC)
+                    .build())
+            .register(SilkApi.INTERNAL.ofId("projectile_magazine"));
     /** 射击发射物数据组件类型 */
     ComponentType<ShootProjectilesComponent> SHOOT_PROJECTILES = ComponentTypeRegistry
             .registrar(() -> ComponentType
@@ -19,6 +19,10 @@ import net.minecraft.item.ItemStack;
  * <h2>动态组件</h2>
  * 此接口应在 {@link Item} 上实现。<p> 会在每次玩家更改物品栏时，对此物品栏中的 {@link ItemStack} 进行数据组件修改。<p>
  * 目前此动态组件的赋予对非玩家实体无效。
+ * <p>
+ * 已应用的动态组件版本会按物品堆栈实例记录在组件图表之外，版本未变化时不会重复构建与合并组件。
+ * 物品堆栈的副本会重新应用一次。如果动态组件的计算结果发生变化，
+ * 需要调用 {@link DynamicComponent#invalidate(Item)} 或 {@link DynamicComponent#invalidateAll()} 使其重新计算。
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu">
  *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
@@ -33,4 +37,61 @@ public interface DynamicComponent {
      * @return 组件图表
      */
     ComponentMap dynamicComponents(ItemStack stack);
+
+    /**
+     * 使物品的动态组件失效，物品堆栈下次放入玩家物品栏时会重新应用动态组件
+     *
+     * @param item 物品
+     * @since 1.1.3
+     */
+    static void invalidate(Item item) {
+        if (item instanceof DynamicComponent dynamicComponent) {
+            DynamicComponentVersions.invalidate(dynamicComponent);
+        }
+    }
+
+    /**
+     * 使所有物品的动态组件失效
+     *
+     * @since 1.1.3
+     */
+    static void invalidateAll() {
+        DynamicComponentVersions.invalidateAll();
+    }
+
+    /**
+     * 为物品堆栈应用动态组件
+     * <p>
+     * 如果物品堆栈已带有当前版本的动态组件则不进行任何操作
+     *
+     * @param stack 物品堆栈
+     * @return 是否重新应用了动态组件
+     * @since 1.1.3
+     */
+    static boolean apply(ItemStack stack) {
+        if (!(stack.getItem() instanceof DynamicComponent dynamicComponent)) {
+            return false;
+        }
+        int version = dynamicComponent.dynamicComponentsVersion(stack);
+        if (DynamicComponentVersions.isApplied(stack, version)) {
+            return false;
+        }
+        stack.applyComponentsFrom(dynamicComponent.dynamicComponents(stack));
+        DynamicComponentVersions.markApplied(stack, version);
+        return true;
+    }
+
+    /**
+     * 动态数据组件版本
+     * <p>
+     * 默认为通过 {@link DynamicComponent#invalidate(Item)} 递增的版本。
+     * 如果动态组件取决于物品堆栈的其他数据，可以重写此方法并返回这些数据的指纹。
+     *
+     * @param stack 物品堆栈
+     * @return 版本
+     * @since 1.1.3
+     */
+    default int dynamicComponentsVersion(ItemStack stack) {
+        return DynamicComponentVersions.get(this);
+    }
 }
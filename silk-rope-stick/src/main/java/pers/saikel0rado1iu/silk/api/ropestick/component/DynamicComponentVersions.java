@@ -0,0 +1,62 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.ropestick.component;
+
+import com.google.common.collect.MapMaker;
+import net.minecraft.item.ItemStack;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2>动态组件版本</h2>
+ * 储存 {@link DynamicComponent} 的版本，供 {@link DynamicComponent#apply(ItemStack)} 判断是否需要重新应用
+ * <p>
+ * 已应用的版本以物品堆栈的标识为键储存在弱键表中，而不是储存在组件图表中，
+ * 因此不会被同步或保存，也不会影响物品堆栈的比较与合并。版本只在当前虚拟机内有意义
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.1.3
+ */
+final class DynamicComponentVersions {
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final Map<DynamicComponent, Integer> VERSIONS = new MapMaker().weakKeys().makeMap();
+    private static final Map<ItemStack, Integer> APPLIED = new MapMaker().weakKeys().makeMap();
+    private static volatile int epoch = 0;
+
+    private DynamicComponentVersions() {
+    }
+
+    static int get(DynamicComponent dynamicComponent) {
+        // 每次失效都会取得比此前所有版本更大的值，因此取两者中较大的即可
+        return Math.max(epoch, VERSIONS.getOrDefault(dynamicComponent, 0));
+    }
+
+    static boolean isApplied(ItemStack stack, int version) {
+        Integer applied = APPLIED.get(stack);
+        return applied != null && applied == version;
+    }
+
+    static void markApplied(ItemStack stack, int version) {
+        APPLIED.put(stack, version);
+    }
+
+    static void invalidate(DynamicComponent dynamicComponent) {
+        VERSIONS.put(dynamicComponent, COUNTER.incrementAndGet());
+    }
+
+    static void invalidateAll() {
+        epoch = COUNTER.incrementAndGet();
+    }
+}
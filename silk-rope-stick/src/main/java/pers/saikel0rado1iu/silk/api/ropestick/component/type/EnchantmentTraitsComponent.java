@@ -11,17 +11,27 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.component.type;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.fabricmc.fabric.api.util.TriState;
+import net.minecraft.component.type.ItemEnchantmentsComponent;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.registry.DynamicRegistryManager;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.text.TranslatableTextContent;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <h2>附魔特质组件</h2>
@@ -46,6 +56,24 @@ public record EnchantmentTraitsComponent(List<EnchantmentTrait> enchantments) {
     /** 附魔特质组件的数据包编解码器 */
     public static final PacketCodec<RegistryByteBuf, EnchantmentTraitsComponent> PACKET_CODEC =
             PacketCodecs.registryCodec(CODEC);
+    private static final Map<Enchantment, RegistryKey<Enchantment>> ENCHANTMENT_KEYS =
+            new MapMaker().weakKeys().makeMap();
+    private static final Map<EnchantmentTraitsComponent, ConflictTable> CONFLICT_TABLES =
+            new MapMaker().weakKeys().makeMap();
+
+    /**
+     * 解析注册表中所有魔咒实例对应的注册键
+     * <p>
+     * 每次注册表重载后都会生成新的魔咒实例，因此需要在重载后重新解析。旧的魔咒实例会随注册表一同被回收。
+     *
+     * @param registries 动态注册表管理器
+     * @since 1.1.3
+     */
+    public static void resolveEnchantments(DynamicRegistryManager registries) {
+        registries.getOptional(RegistryKeys.ENCHANTMENT).ifPresent(registry -> registry
+                .streamEntries()
+                .forEach(entry -> ENCHANTMENT_KEYS.put(entry.value(), entry.registryKey())));
+    }
 
     /**
      * 创建附魔特质组件
@@ -98,6 +126,64 @@ public record EnchantmentTraitsComponent(List<EnchantmentTrait> enchantments) {
         return new EnchantmentTrait(enchantment, conflicts, threshold);
     }
 
+    /**
+     * 判断魔咒是否可以附魔到拥有此组件的物品上
+     * <p>
+     * 魔咒特质与冲突魔咒在每个组件实例上只解析一次，之后的判断只进行注册键的成员检查。
+     *
+     * @param enchantment  魔咒
+     * @param enchantments 物品已有的附魔
+     * @return 如果此组件未声明该魔咒则返回 {@link TriState#DEFAULT}，否则返回冲突魔咒数量是否未超过冲突阈值
+     * @since 1.1.3
+     */
+    public TriState isAcceptable(Enchantment enchantment, ItemEnchantmentsComponent enchantments) {
+        ConflictTable table = CONFLICT_TABLES.computeIfAbsent(this, ConflictTable::of);
+        RegistryKey<Enchantment> key = ENCHANTMENT_KEYS.get(enchantment);
+        // 注册表尚未解析时回退到使用魔咒的翻译键进行匹配
+        if (key == null && enchantment.description().getContent() instanceof TranslatableTextContent content) {
+            key = table.translationKeys.get(content.getKey());
+        }
+        ConflictTable.Trait trait = key == null ? null : table.traits.get(key);
+        if (trait == null) {
+            return TriState.DEFAULT;
+        }
+        int conflictNum = 0;
+        for (RegistryEntry<Enchantment> entry : enchantments.getEnchantments()) {
+            RegistryKey<Enchantment> entryKey = entry instanceof RegistryEntry.Reference<Enchantment> reference
+                    ? reference.registryKey()
+                    : entry.getKey().orElse(null);
+            if (entryKey != null && trait.conflicts.contains(entryKey)) {
+                conflictNum++;
+            }
+        }
+        return TriState.of(conflictNum <= trait.threshold);
+    }
+
+    /**
+     * 冲突表，以注册键的身份集合储存魔咒特质，注册键是驻留的，因此可以跨注册表重载使用
+     *
+     * @param traits          以魔咒注册键为键的魔咒特质
+     * @param translationKeys 以魔咒翻译键为键的魔咒注册键
+     */
+    private record ConflictTable(Reference2ObjectOpenHashMap<RegistryKey<Enchantment>, Trait> traits,
+                                 Map<String, RegistryKey<Enchantment>> translationKeys) {
+        private static ConflictTable of(EnchantmentTraitsComponent component) {
+            Reference2ObjectOpenHashMap<RegistryKey<Enchantment>, Trait> traits = new Reference2ObjectOpenHashMap<>();
+            Map<String, RegistryKey<Enchantment>> translationKeys = new HashMap<>();
+            // 同一魔咒声明了多个特质时以最后一个为准
+            for (EnchantmentTrait trait : component.enchantments()) {
+                traits.put(trait.enchantment(), new Trait(new ReferenceOpenHashSet<>(trait.conflicts()), trait.threshold()));
+                translationKeys.put(String.format("enchantment.%s.%s",
+                        trait.enchantment().getValue().getNamespace(),
+                        trait.enchantment().getValue().getPath()), trait.enchantment());
+            }
+            return new ConflictTable(traits, translationKeys);
+        }
+
+        private record Trait(ReferenceOpenHashSet<RegistryKey<Enchantment>> conflicts, int threshold) {
+        }
+    }
+
     /**
      * 魔咒特质
      *
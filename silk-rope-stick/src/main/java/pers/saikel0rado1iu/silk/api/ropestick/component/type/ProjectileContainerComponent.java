@@ -11,11 +11,8 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.component.type;
 
-import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.ChargedProjectilesComponent;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -23,13 +20,18 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import static net.minecraft.component.DataComponentTypes.CHARGED_PROJECTILES;
+
 /**
  * <h2>发射物容器组件</h2>
  * 用于设置最大可存储多少发射物
+ * <p>
+ * 已装填发射物储存在 {@link ProjectileMagazineComponent} 中，原版的已装填发射物组件只保留下一个将被发射的发射物，
+ * 以便原版的已装填判断、模型谓词与提示信息继续生效。
  *
  * @param maxCapacity 最大发射物容量
  * @author <a href="https://github.com/Saikel-Orado-Liu">
@@ -62,41 +64,88 @@ public record ProjectileContainerComponent(int maxCapacity) {
         return new ProjectileContainerComponent(maxCapacity);
     }
 
+    /**
+     * 获取发射物弹匣
+     * <p>
+     * 没有发射物弹匣组件时，以原版的已装填发射物组件作为弹匣内容，以兼容旧版存档。
+     * 如果原版的已装填发射物组件已被其他代码清空或改写，与其不一致的发射物弹匣组件会被移除
+     *
+     * @param stack 装填发射物的物品堆栈
+     * @return 发射物弹匣
+     * @since 1.1.3
+     */
+    public static ProjectileMagazineComponent getMagazine(ItemStack stack) {
+        ChargedProjectilesComponent charged = stack.get(CHARGED_PROJECTILES);
+        ProjectileMagazineComponent magazine = stack.get(DataComponentTypes.PROJECTILE_MAGAZINE);
+        if (charged == null || charged.isEmpty()) {
+            if (magazine != null) {
+                stack.remove(DataComponentTypes.PROJECTILE_MAGAZINE);
+            }
+            return ProjectileMagazineComponent.EMPTY;
+        }
+        if (magazine != null && isInSync(magazine, charged)) {
+            return magazine;
+        }
+        if (magazine != null) {
+            stack.remove(DataComponentTypes.PROJECTILE_MAGAZINE);
+        }
+        return ProjectileMagazineComponent.of(charged.getProjectiles());
+    }
+
+    private static boolean isInSync(ProjectileMagazineComponent magazine, ChargedProjectilesComponent charged) {
+        // setMagazine 只在原版的已装填发射物组件中保留下一个将被发射的发射物
+        List<ItemStack> projectiles = charged.getProjectiles();
+        return !magazine.isEmpty() && projectiles.size() == 1
+                && ItemStack.areItemsAndComponentsEqual(magazine.peek(), projectiles.getFirst());
+    }
+
+    /**
+     * 设置发射物弹匣
+     * <p>
+     * 只有下一个将被发射的发射物发生变化时才会更新原版的已装填发射物组件
+     *
+     * @param stack    装填发射物的物品堆栈
+     * @param magazine 发射物弹匣
+     * @since 1.1.3
+     */
+    public static void setMagazine(ItemStack stack, ProjectileMagazineComponent magazine) {
+        if (magazine.isEmpty()) {
+            stack.remove(DataComponentTypes.PROJECTILE_MAGAZINE);
+            stack.set(CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT);
+            return;
+        }
+        ProjectileMagazineComponent previous = stack.set(DataComponentTypes.PROJECTILE_MAGAZINE, magazine);
+        ChargedProjectilesComponent charged = stack.get(CHARGED_PROJECTILES);
+        if (previous == null || previous.peek() != magazine.peek() || charged == null || charged.isEmpty()) {
+            stack.set(CHARGED_PROJECTILES, ChargedProjectilesComponent.of(magazine.peek()));
+        }
+    }
+
     /**
      * 获取已装填发射物
      *
      * @param stack 装填发射物的物品堆栈
-     * @return 已装填发射物列表
+     * @return 已装填发射物列表，此列表为只读视图
      */
     public static List<ItemStack> getChargedProjectiles(ItemStack stack) {
-        if (!stack.contains(DataComponentTypes.CHARGED_PROJECTILES)) {
-            return ImmutableList.of();
-        }
-        return stack.getOrDefault(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT)
-                    .getProjectiles();
+        return getMagazine(stack).asList();
     }
 
     /**
-     * *随机*取出一个已装填发射物
+     * 取出一个已装填发射物
      * <p>
-     * 因 NBT 技术原因，无法顺序取出放入的发射物，因为放入就不是顺序的
+     * 发射物从弹匣开头取出，即最先装填的发射物最先被发射
      *
      * @param stack 装填发射物的物品堆栈
      * @return 发射物
      */
     public static ItemStack popChargedProjectiles(ItemStack stack) {
-        if (!stack.contains(DataComponentTypes.CHARGED_PROJECTILES)) {
+        ProjectileMagazineComponent magazine = getMagazine(stack);
+        if (magazine.isEmpty()) {
             return ItemStack.EMPTY;
         }
-        List<ItemStack> projectiles = Lists.newCopyOnWriteArrayList(stack
-                .getOrDefault(DataComponentTypes.CHARGED_PROJECTILES,
-                        ChargedProjectilesComponent.DEFAULT)
-                .getProjectiles());
-        if (projectiles.isEmpty()) {
-            return ItemStack.EMPTY;
-        }
-        ItemStack popStack = projectiles.removeFirst();
-        stack.set(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.of(projectiles));
+        ItemStack popStack = magazine.peek().copy();
+        setMagazine(stack, magazine.pop());
         return popStack;
     }
 
@@ -107,7 +156,7 @@ public record ProjectileContainerComponent(int maxCapacity) {
      * @return 已装填发射物数量
      */
     public static int getChargedAmount(ItemStack stack) {
-        return getChargedProjectiles(stack).size();
+        return getMagazine(stack).size();
     }
 
     /**
@@ -121,13 +170,8 @@ public record ProjectileContainerComponent(int maxCapacity) {
      */
     public void putChargedProjectiles(ItemStack stack, List<ItemStack> projectiles,
                                       LivingEntity shooter) {
-        List<ItemStack> projectileList = new ArrayList<>();
-        for (int count = 0; count < Math.min(projectiles.size(),
-                getLoadableAmount(stack, shooter)); count++) {
-            projectileList.add(projectiles.get(count));
-        }
-        stack.set(DataComponentTypes.CHARGED_PROJECTILES,
-                ChargedProjectilesComponent.of(projectileList));
+        int amount = Math.min(projectiles.size(), getLoadableAmount(stack, shooter));
+        setMagazine(stack, ProjectileMagazineComponent.of(projectiles.subList(0, Math.max(0, amount))));
     }
 
     /**
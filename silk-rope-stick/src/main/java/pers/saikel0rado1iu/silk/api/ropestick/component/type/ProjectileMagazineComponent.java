@@ -0,0 +1,284 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.ropestick.component.type;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.util.dynamic.Codecs;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * <h2>发射物弹匣组件</h2>
+ * 以游程编码储存已装填发射物的数据组件
+ * <p>
+ * 连续的相同发射物只会储存一个原型与数量，装满数十个相同发射物的弹匣只需一个游程。
+ * 发射物按装填顺序先进先出，从开头取出发射物时会与原弹匣共用内部数组，不会复制任何数据。
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.1.3
+ */
+public final class ProjectileMagazineComponent {
+    /** 空弹匣 */
+    public static final ProjectileMagazineComponent EMPTY =
+            new ProjectileMagazineComponent(new ItemStack[0], new int[0], 0, 0, 0, 0);
+    /** 发射物弹匣组件的编解码器 */
+    public static final Codec<ProjectileMagazineComponent> CODEC = Run.CODEC
+            .listOf()
+            .xmap(ProjectileMagazineComponent::ofRuns, ProjectileMagazineComponent::runs);
+    /** 发射物弹匣组件的数据包编解码器 */
+    public static final PacketCodec<RegistryByteBuf, ProjectileMagazineComponent> PACKET_CODEC = Run.PACKET_CODEC
+            .collect(PacketCodecs.toList())
+            .xmap(ProjectileMagazineComponent::ofRuns, ProjectileMagazineComponent::runs);
+    private final ItemStack[] projectiles;
+    private final int[] ends;
+    private final int first;
+    private final int runCount;
+    private final int offset;
+    private final int size;
+
+    private ProjectileMagazineComponent(ItemStack[] projectiles, int[] ends, int first, int runCount, int offset, int size) {
+        this.projectiles = projectiles;
+        this.ends = ends;
+        this.first = first;
+        this.runCount = runCount;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * 以发射物列表创建发射物弹匣组件，列表中的每个物品堆栈都视为一个发射物
+     *
+     * @param projectiles 发射物列表
+     * @return 发射物弹匣组件
+     */
+    public static ProjectileMagazineComponent of(List<ItemStack> projectiles) {
+        ProjectileMagazineComponent magazine = EMPTY;
+        for (ItemStack projectile : projectiles) {
+            magazine = magazine.push(projectile, 1);
+        }
+        return magazine;
+    }
+
+    /**
+     * 以游程列表创建发射物弹匣组件
+     *
+     * @param runs 游程列表
+     * @return 发射物弹匣组件
+     */
+    public static ProjectileMagazineComponent ofRuns(List<Run> runs) {
+        ProjectileMagazineComponent magazine = EMPTY;
+        for (Run run : runs) {
+            magazine = magazine.push(run.projectile, run.count);
+        }
+        return magazine;
+    }
+
+    /**
+     * 放入发射物
+     * <p>
+     * 发射物放入末尾，与末尾的发射物相同时只会增加末尾游程的数量
+     *
+     * @param projectile 发射物
+     * @param count      数量
+     * @return 放入后的发射物弹匣组件
+     */
+    public ProjectileMagazineComponent push(ItemStack projectile, int count) {
+        if (projectile.isEmpty() || count <= 0) {
+            return this;
+        }
+        int live = runCount - first;
+        boolean merge = live > 0 && ItemStack.areItemsAndComponentsEqual(projectiles[runCount - 1], projectile);
+        // 放入时丢弃已取出的游程，并将结束位置重新以 0 为起点
+        ItemStack[] newProjectiles = Arrays.copyOfRange(projectiles, first, merge ? runCount : runCount + 1);
+        int[] newEnds = new int[newProjectiles.length];
+        for (int run = 0; run < live; run++) {
+            newEnds[run] = ends[first + run] - offset;
+        }
+        if (!merge) {
+            newProjectiles[live] = projectile.copyWithCount(1);
+        }
+        newEnds[newEnds.length - 1] = size + count;
+        return new ProjectileMagazineComponent(newProjectiles, newEnds, 0, newProjectiles.length, 0, size + count);
+    }
+
+    /**
+     * 获取下一个将被取出的发射物，即最先装填的发射物
+     * <p>
+     * 返回的是弹匣内共用的原型，不应被修改
+     *
+     * @return 开头的发射物，如果弹匣为空则为 {@link ItemStack#EMPTY}
+     */
+    public ItemStack peek() {
+        return size == 0 ? ItemStack.EMPTY : projectiles[first];
+    }
+
+    /**
+     * 取出开头的一个发射物
+     *
+     * @return 取出后的发射物弹匣组件
+     */
+    public ProjectileMagazineComponent pop() {
+        if (size <= 1) {
+            return EMPTY;
+        }
+        int newOffset = offset + 1;
+        boolean exhausted = newOffset == ends[first];
+        return new ProjectileMagazineComponent(projectiles, ends, exhausted ? first + 1 : first, runCount, newOffset, size - 1);
+    }
+
+    /**
+     * 获取发射物数量
+     *
+     * @return 发射物数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 弹匣是否为空
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 遍历每个游程
+     *
+     * @param consumer 接收发射物原型与数量的消费者，发射物原型不应被修改
+     */
+    public void forEachRun(ObjIntConsumer<ItemStack> consumer) {
+        int start = offset;
+        for (int run = first; run < runCount; run++) {
+            consumer.accept(projectiles[run], ends[run] - start);
+            start = ends[run];
+        }
+    }
+
+    /**
+     * 获取游程列表
+     *
+     * @return 游程列表
+     */
+    public List<Run> runs() {
+        List<Run> runs = new ArrayList<>(runCount - first);
+        forEachRun((projectile, count) -> runs.add(new Run(projectile, count)));
+        return runs;
+    }
+
+    /**
+     * 获取以发射物列表表示的只读视图，视图不会复制弹匣内的数据
+     *
+     * @return 发射物列表视图
+     */
+    public List<ItemStack> asList() {
+        return new AbstractList<>() {
+            @Override
+            public ItemStack get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                int position = offset + index;
+                int low = first;
+                int high = runCount - 1;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (ends[mid] > position) {
+                        high = mid;
+                    } else {
+                        low = mid + 1;
+                    }
+                }
+                return projectiles[low];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        int live = runCount - first;
+        if (!(obj instanceof ProjectileMagazineComponent other) || size != other.size || live != other.runCount - other.first) {
+            return false;
+        }
+        for (int run = 0; run < live; run++) {
+            if (ends[first + run] - offset != other.ends[other.first + run] - other.offset) {
+                return false;
+            }
+            if (!ItemStack.areItemsAndComponentsEqual(projectiles[first + run], other.projectiles[other.first + run])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = size;
+        for (int run = first; run < runCount; run++) {
+            hash = 31 * hash + ItemStack.hashCode(projectiles[run]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectileMagazineComponent" + runs();
+    }
+
+    /**
+     * <h2>游程</h2>
+     * 连续相同的发射物
+     *
+     * @param projectile 发射物原型
+     * @param count      数量
+     * @author <a href="https://github.com/Saikel-Orado-Liu">
+     *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+     *         </a>
+     * @since 1.1.3
+     */
+    public record Run(ItemStack projectile, int count) {
+        /** 游程的编解码器 */
+        public static final Codec<Run> CODEC = RecordCodecBuilder
+                .create(builder -> builder
+                        .group(ItemStack.CODEC.fieldOf("projectile")
+                                              .forGetter(Run::projectile),
+                                Codecs.POSITIVE_INT.optionalFieldOf("count", 1)
+                                                   .forGetter(Run::count))
+                        .apply(builder, Run::new));
+        /** 游程的数据包编解码器 */
+        public static final PacketCodec<RegistryByteBuf, Run> PACKET_CODEC = PacketCodec.tuple(
+                ItemStack.PACKET_CODEC, Run::projectile,
+                PacketCodecs.VAR_INT, Run::count,
+                Run::new);
+    }
+}
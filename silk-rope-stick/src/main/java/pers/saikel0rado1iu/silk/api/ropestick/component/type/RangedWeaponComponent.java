@@ -12,13 +12,17 @@
 package pers.saikel0rado1iu.silk.api.ropestick.component.type;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.component.type.ChargedProjectilesComponent;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.HostileEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
@@ -30,6 +34,7 @@ import net.minecraft.registry.Registries;
 import net.minecraft.util.math.MathHelper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static net.minecraft.component.DataComponentTypes.CHARGED_PROJECTILES;
@@ -132,6 +137,9 @@ public record RangedWeaponComponent(float maxSpeed,
     /** 远程武器组件的数据包编解码器 */
     public static final PacketCodec<RegistryByteBuf, RangedWeaponComponent> PACKET_CODEC =
             PacketCodecs.registryCodec(CODEC);
+    private static final Map<RangedWeaponComponent, Reference2IntMap<Item>> PROJECTILE_INDICES =
+            new MapMaker().weakKeys().makeMap();
+    private static final Map<PlayerEntity, SlotHint> PROJECTILE_SLOT_HINTS = new MapMaker().weakKeys().makeMap();
 
     /**
      * 构建方法
@@ -174,20 +182,51 @@ public record RangedWeaponComponent(float maxSpeed,
             if (!itemStack.isEmpty()) {
                 return itemStack;
             }
-            predicate = ranged.getProjectiles();
-
-            for (int count = 0; count < player.getInventory().size(); ++count) {
-                ItemStack itemStack2 = player.getInventory().getStack(count);
-                if (predicate.test(itemStack2)) {
-                    return itemStack2;
-                }
+            ItemStack projectile = findProjectile(player, ranged, component);
+            if (!projectile.isEmpty()) {
+                return projectile;
             }
-
             return player.getAbilities().creativeMode ? component.defaultProjectile : ItemStack.EMPTY;
         }
         return ItemStack.EMPTY;
     }
 
+    /**
+     * 在玩家物品栏中查找发射物
+     * <p>
+     * 上次查找使用的是同一武器与组件、物品栏自上次查找后没有变化且上次找到的槽位仍是可发射的发射物时直接返回该槽位，
+     * 否则重新扫描整个物品栏。切换武器不会改变物品栏变更计数，因此提示只对记录它的武器有效。
+     * 扫描时先以组件的发射物索引过滤，只对其中的发射物调用物品的发射物谓词。
+     *
+     * @param player    玩家
+     * @param ranged    远程武器物品
+     * @param component 远程武器组件
+     * @return 发射物
+     */
+    private static ItemStack findProjectile(PlayerEntity player,
+                                            RangedWeaponItem ranged,
+                                            RangedWeaponComponent component) {
+        PlayerInventory inventory = player.getInventory();
+        Predicate<ItemStack> predicate = ranged.getProjectiles();
+        SlotHint hint = PROJECTILE_SLOT_HINTS.get(player);
+        if (hint != null && hint.weapon == ranged && hint.component == component
+                && hint.changeCount == inventory.getChangeCount() && hint.slot < inventory.size()) {
+            ItemStack stack = inventory.getStack(hint.slot);
+            if (component.isLaunchable(stack) && predicate.test(stack)) {
+                return stack;
+            }
+        }
+        for (int slot = 0; slot < inventory.size(); ++slot) {
+            ItemStack stack = inventory.getStack(slot);
+            if (component.isLaunchable(stack) && predicate.test(stack)) {
+                PROJECTILE_SLOT_HINTS.put(player, new SlotHint(ranged, component, inventory.getChangeCount(), slot));
+                return stack;
+            }
+        }
+        PROJECTILE_SLOT_HINTS.remove(player);
+        return ItemStack.EMPTY;
+    }
+
     /**
      * 获取“快速装填”刻数
      *
@@ -225,7 +264,44 @@ public record RangedWeaponComponent(float maxSpeed,
      * @return 索引
      */
     public float getProjectileIndex(ItemStack projectile) {
-        return Float.parseFloat("0." + Math.max(0, launchableProjectiles.indexOf(projectile.getItem())));
+        int index = Math.max(0, indexOfProjectile(projectile.getItem()));
+        // 将索引作为小数部分，与原先拼接字符串 "0." + index 得到的值一致
+        int scale = 10;
+        while (scale <= index) {
+            scale *= 10;
+        }
+        return index / (float) scale;
+    }
+
+    /**
+     * 获取物品在可发射的发射物列表中的索引
+     *
+     * @param item 物品
+     * @return 索引，如果不可发射则为 {@code -1}
+     * @since 1.1.3
+     */
+    public int indexOfProjectile(Item item) {
+        Reference2IntMap<Item> indices = PROJECTILE_INDICES.get(this);
+        if (indices == null) {
+            indices = new Reference2IntOpenHashMap<>(launchableProjectiles.size());
+            indices.defaultReturnValue(-1);
+            for (int index = launchableProjectiles.size() - 1; index >= 0; index--) {
+                indices.put(launchableProjectiles.get(index), index);
+            }
+            PROJECTILE_INDICES.put(this, indices);
+        }
+        return indices.getInt(item);
+    }
+
+    /**
+     * 判断物品堆栈是否为可发射的发射物
+     *
+     * @param stack 物品堆栈
+     * @return 是否可发射
+     * @since 1.1.3
+     */
+    public boolean isLaunchable(ItemStack stack) {
+        return !stack.isEmpty() && indexOfProjectile(stack.getItem()) >= 0;
     }
 
     /**
@@ -249,6 +325,17 @@ public record RangedWeaponComponent(float maxSpeed,
         return component.contains(Items.FIREWORK_ROCKET) ? maxSpeed / 2 : maxSpeed;
     }
 
+    /**
+     * 发射物槽位提示
+     *
+     * @param weapon      查找时使用的远程武器物品
+     * @param component   查找时使用的远程武器组件
+     * @param changeCount 查找时的物品栏变更计数
+     * @param slot        发射物所在槽位
+     */
+    private record SlotHint(RangedWeaponItem weapon, RangedWeaponComponent component, int changeCount, int slot) {
+    }
+
     /**
      * <h2>远程武器组件构建器</h2>
      * 用于远程武器组件的构建
@@ -11,12 +11,14 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.component.type;
 
+import com.google.common.math.IntMath;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.item.ItemStack;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.util.math.MathHelper;
 import pers.saikel0rado1iu.silk.api.base.common.util.TickUtil;
 import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
 
@@ -24,19 +26,23 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
  * <h2>射击发射物组件</h2>
  * 用于设置弓弩的发射物发射属性的数据组件
  *
- * @param interval 射击间隔
- * @param state    射击状态
- * @param shot     是否已射击
+ * @param interval         射击间隔
+ * @param state            射击状态
+ * @param shot             是否已射击
+ * @param shotsPerInterval 每个射击间隔发射的发射物数量，与射击间隔一同表示射击速率，
+ *                         发射物均匀分布在间隔内的每一刻中，用于表示短于一刻或非整数刻的射击间隔
  * @author <a href="https://github.com/Saikel-Orado-Liu">
  *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
  *         </a>
  * @since 1.1.2
  */
-public record ShootProjectilesComponent(int interval, State state, boolean shot) {
+public record ShootProjectilesComponent(int interval, State state, boolean shot, int shotsPerInterval) {
     /** 已射击 NBT 谓词 */
     public static final String SHOT_KEY = "shot";
     /** 默认射击间隔 */
     public static final int DEFAULT_SHOOTING_INTERVAL = TickUtil.getTick(0.25F);
+    /** 速率的精度，每秒发射数量精确到百分之一 */
+    private static final int RATE_SCALE = 100;
     /** 射击发射物组件的默认值 */
     public static final ShootProjectilesComponent DEFAULT =
             ShootProjectilesComponent.create(DEFAULT_SHOOTING_INTERVAL, State.EVERY);
@@ -48,13 +54,34 @@ public record ShootProjectilesComponent(int interval, State state, boolean shot)
                             Codec.STRING.optionalFieldOf("state", State.EVERY.name())
                                         .forGetter(component -> component.state.name()),
                             Codec.BOOL.optionalFieldOf("shot", false)
-                                      .forGetter(ShootProjectilesComponent::shot))
-                    .apply(builder, (interval, state, shot) ->
-                            new ShootProjectilesComponent(interval, State.valueOf(state), shot)));
+                                      .forGetter(ShootProjectilesComponent::shot),
+                            Codec.INT.optionalFieldOf("shots_per_interval", 1)
+                                     .forGetter(ShootProjectilesComponent::shotsPerInterval))
+                    .apply(builder, (interval, state, shot, shotsPerInterval) ->
+                            new ShootProjectilesComponent(interval, State.valueOf(state), shot, shotsPerInterval)));
     /** 射击发射物组件的数据包编解码器 */
     public static final PacketCodec<RegistryByteBuf, ShootProjectilesComponent> PACKET_CODEC =
             PacketCodecs.registryCodec(CODEC);
 
+    /**
+     * @param interval         射击间隔
+     * @param state            射击状态
+     * @param shot             是否已射击
+     * @param shotsPerInterval 每个射击间隔发射的发射物数量
+     */
+    public ShootProjectilesComponent {
+        shotsPerInterval = Math.max(1, shotsPerInterval);
+    }
+
+    /**
+     * @param interval 射击间隔
+     * @param state    射击状态
+     * @param shot     是否已射击
+     */
+    public ShootProjectilesComponent(int interval, State state, boolean shot) {
+        this(interval, state, shot, 1);
+    }
+
     /**
      * 创建射击发射物组件方法
      *
@@ -66,6 +93,28 @@ public record ShootProjectilesComponent(int interval, State state, boolean shot)
         return new ShootProjectilesComponent(interval, state, false);
     }
 
+    /**
+     * 创建射击发射物组件方法
+     * <p>
+     * 速率以精确到百分之一的分数 {@code shotsPerInterval / interval} 表示，
+     * 例如每秒 60 发即为每刻 3 发，每秒 30 发即为每 2 刻 3 发，按刻交替发射 2 发与 1 发
+     *
+     * @param shotsPerSecond 每秒发射的发射物数量
+     * @param state          射击状态
+     * @return 射击发射物组件
+     * @throws IllegalArgumentException 如果每秒发射的发射物数量不是正有限数
+     * @since 1.1.3
+     */
+    public static ShootProjectilesComponent ofRate(float shotsPerSecond, State state) {
+        if (!(shotsPerSecond > 0) || Float.isInfinite(shotsPerSecond)) {
+            throw new IllegalArgumentException("shotsPerSecond must be positive and finite, got " + shotsPerSecond);
+        }
+        int interval = TickUtil.TPS * RATE_SCALE;
+        int shots = Math.max(1, Math.round(shotsPerSecond * RATE_SCALE));
+        int gcd = IntMath.gcd(interval, shots);
+        return new ShootProjectilesComponent(interval / gcd, state, false, shots / gcd);
+    }
+
     /**
      * 获取物品的射击状态
      *
@@ -77,6 +126,54 @@ public record ShootProjectilesComponent(int interval, State state, boolean shot)
         return shot != null && shot.shot;
     }
 
+    /**
+     * 获取射击开始后经过指定刻数时应已发射的发射物数量
+     * <p>
+     * 以分数累加器计算，每刻发射 {@code ceil((useTicks + 1) * rate) - ceil(useTicks * rate)} 个发射物，
+     * 第一刻总会发射，长时间射击的平均速率与设定速率一致
+     *
+     * @param useTicks 已使用刻数
+     * @return 应已发射的发射物数量
+     * @since 1.1.3
+     */
+    public int getDueShots(int useTicks) {
+        return (int) Math.ceilDiv((useTicks + 1L) * shotsPerInterval, Math.max(1, interval));
+    }
+
+    /**
+     * 获取射击开始后第指定刻应发射的发射物数量
+     *
+     * @param useTicks 已使用刻数
+     * @return 该刻应发射的发射物数量
+     * @since 1.1.3
+     */
+    public int getShotsInTick(int useTicks) {
+        return getDueShots(useTicks) - getDueShots(useTicks - 1);
+    }
+
+    /**
+     * 获取单发射击后的冷却刻数
+     * <p>
+     * 冷却只能以整刻计算，因此每刻发射多个或非整数刻发射一个发射物时向上取整，实际速率不会超过设定速率
+     *
+     * @return 冷却刻数，射击间隔为 0 时没有冷却
+     * @since 1.1.3
+     */
+    public int getCooldownTicks() {
+        return interval == 0 ? 0 : getShootingTicks(1);
+    }
+
+    /**
+     * 获取发射指定数量发射物所需的刻数
+     *
+     * @param projectiles 发射物数量
+     * @return 刻数
+     * @since 1.1.3
+     */
+    public int getShootingTicks(int projectiles) {
+        return MathHelper.ceilDiv(projectiles * Math.max(1, interval), shotsPerInterval);
+    }
+
     /**
      * 设置已射击
      *
@@ -102,7 +199,7 @@ public record ShootProjectilesComponent(int interval, State state, boolean shot)
      * @return 射击发射物组件
      */
     public ShootProjectilesComponent setShot(boolean shot) {
-        return new ShootProjectilesComponent(interval, state, shot);
+        return new ShootProjectilesComponent(interval, state, shot, shotsPerInterval);
     }
 
     /**
@@ -11,7 +11,6 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.ranged;
 
-import com.google.common.collect.Lists;
 import net.minecraft.advancement.criterion.Criteria;
 import net.minecraft.component.ComponentMap;
 import net.minecraft.component.type.ChargedProjectilesComponent;
@@ -34,6 +33,7 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileContainer
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.ShootProjectilesComponent;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -150,7 +150,7 @@ public abstract class BoltActionFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	protected boolean load(LivingEntity shooter, ItemStack crossbow) {
-		List<ItemStack> list = Lists.newCopyOnWriteArrayList(crossbow.getOrDefault(CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT).getProjectiles());
+		List<ItemStack> list = new ArrayList<>(ProjectileContainerComponent.getChargedProjectiles(crossbow));
 		crossbow.set(CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT);
 		ItemStack projectile = RangedWeaponComponent.getProjectileType(shooter, crossbow);
 		if (projectile.isEmpty()) {
@@ -184,7 +184,7 @@ public abstract class BoltActionFirearmItem extends CrossbowLikeItem {
 	@Override
 	protected void postShot(World world, LivingEntity shooter, ItemStack stack) {
 		ShootProjectilesComponent component = stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)));
-		if (shooter instanceof PlayerEntity player && component.interval() != 0) player.getItemCooldownManager().set(this, component.interval());
+		if (shooter instanceof PlayerEntity player && component.getCooldownTicks() != 0) player.getItemCooldownManager().set(this, component.getCooldownTicks());
 		if (component.state() == ShootProjectilesComponent.State.EVERY || ProjectileContainerComponent.getChargedAmount(stack) == 0) {
 			stack.set(SHOOT_PROJECTILES, component.setShot());
 		}
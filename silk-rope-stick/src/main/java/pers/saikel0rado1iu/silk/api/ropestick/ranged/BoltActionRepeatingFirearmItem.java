@@ -11,7 +11,6 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.ranged;
 
-import com.google.common.collect.Lists;
 import net.minecraft.advancement.criterion.Criteria;
 import net.minecraft.component.ComponentMap;
 import net.minecraft.component.type.ChargedProjectilesComponent;
@@ -34,6 +33,7 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileContainer
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.ShootProjectilesComponent;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -92,7 +92,7 @@ public abstract class BoltActionRepeatingFirearmItem extends CrossbowLikeItem {
 		if (!isCharged(stack) && RangedWeaponComponent.getProjectileType(user, stack).isEmpty()) return TypedActionResult.fail(stack);
 		loadableAmount = stack.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(stack))).getLoadableAmount(stack, user);
 		if (isCharged(stack)) {
-			maxUseTicks = ProjectileContainerComponent.getChargedAmount(stack) * shootProjectiles.interval();
+			maxUseTicks = shootProjectiles.getShootingTicks(ProjectileContainerComponent.getChargedAmount(stack));
 			user.setCurrentHand(hand);
 			return TypedActionResult.consume(stack);
 		}
@@ -125,9 +125,12 @@ public abstract class BoltActionRepeatingFirearmItem extends CrossbowLikeItem {
 				loadingSounds.mid().ifPresent(sound -> world.playSound(null, user.getX(), user.getY(), user.getZ(), sound, SoundCategory.PLAYERS, 1, 1));
 			}
 		} else {
-			double useTicks = getMaxUseTime(stack, user) - remainingUseTicks;
-			if (useTicks >= getMaxUseTime(stack, user) || useTicks % shootProjectiles.interval() != 0) return;
-			shootAll(world, user, user.getActiveHand(), stack, rangedWeapon.getMaxProjectileSpeed(stack), rangedWeapon.firingError(), null);
+			int useTicks = getMaxUseTime(stack, user) - remainingUseTicks;
+			if (useTicks >= getMaxUseTime(stack, user)) return;
+			// 射击间隔短于一刻时同一刻内会发射多个发射物
+			for (int count = shootProjectiles.getShotsInTick(useTicks); count > 0 && isCharged(stack); count--) {
+				shootAll(world, user, user.getActiveHand(), stack, rangedWeapon.getMaxProjectileSpeed(stack), rangedWeapon.firingError(), null);
+			}
 		}
 	}
 	
@@ -155,7 +158,7 @@ public abstract class BoltActionRepeatingFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	protected boolean load(LivingEntity shooter, ItemStack crossbow) {
-		List<ItemStack> list = Lists.newCopyOnWriteArrayList(crossbow.getOrDefault(CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT).getProjectiles());
+		List<ItemStack> list = new ArrayList<>(ProjectileContainerComponent.getChargedProjectiles(crossbow));
 		crossbow.set(CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT);
 		ItemStack projectile = RangedWeaponComponent.getProjectileType(shooter, crossbow);
 		if (projectile.isEmpty()) {
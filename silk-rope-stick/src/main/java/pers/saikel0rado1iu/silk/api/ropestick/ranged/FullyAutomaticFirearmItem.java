@@ -11,7 +11,7 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.ranged;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import net.minecraft.advancement.criterion.Criteria;
 import net.minecraft.component.ComponentMap;
 import net.minecraft.component.DataComponentTypes;
@@ -34,21 +34,33 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileContainer
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.ShootProjectilesComponent;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static pers.saikel0rado1iu.silk.api.ropestick.component.ComponentTypes.*;
 
 /**
  * <h2 style="color:FFC800">全自动枪械</h2>
- * 用于创建一个有装填容量的，一次性装填多个发射物，并且能够连续发射的远程武器
+ * 用于创建一个有装填容量的，一次性装填多个发射物，并且能够连续发射的远程武器<br>
+ * 每次使用的射击状态储存在以使用者为键的使用会话中，同类物品的不同使用者互不影响
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 1.1.2
  */
 public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
+	/**
+	 * 请改用使用会话，此字段仅记录最后一次使用时的最大使用刻数
+	 */
+	@Deprecated
 	protected int maxUseTicks = 0;
+	/**
+	 * 请改用使用会话，此字段仅记录最后一次使用时的可装填数量
+	 */
+	@Deprecated
 	protected int loadableAmount = 0;
+	private final Map<LivingEntity, FiringSession> sessions = new MapMaker().weakKeys().makeMap();
 	
 	/**
 	 * @param settings 物品设置
@@ -62,13 +74,14 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 		return ComponentMap.builder()
 				.addAll(super.dynamicComponents(stack))
 				.add(PROJECTILE_CONTAINER, projectileContainer(Optional.of(stack)))
-				.add(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)).setShot(stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack))).shot()))
+				.add(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)).setShot(ShootProjectilesComponent.isShot(stack)))
 				.build();
 	}
 	
 	@Override
 	public int getMaxUseTime(ItemStack stack, LivingEntity user) {
-		return maxUseTicks;
+		FiringSession session = sessions.get(user);
+		return session != null ? session.maxUseTicks : createSession(stack, user).maxUseTicks;
 	}
 	
 	@Override
@@ -78,15 +91,16 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 		stack.set(SHOOT_PROJECTILES, shootProjectiles.resetShot());
 		// 如果没有弹药同时未装填则不使用物品
 		if (!isCharged(stack) && RangedWeaponComponent.getProjectileType(user, stack).isEmpty()) return TypedActionResult.fail(stack);
-		loadableAmount = stack.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(stack))).getLoadableAmount(stack, user);
+		FiringSession session = createSession(stack, user);
+		sessions.put(user, session);
+		maxUseTicks = session.maxUseTicks;
+		loadableAmount = session.projectileContainer.getLoadableAmount(stack, user);
 		if (isCharged(stack)) {
-			maxUseTicks = ProjectileContainerComponent.getChargedAmount(stack) * shootProjectiles.interval();
 			user.setCurrentHand(hand);
 			return TypedActionResult.consume(stack);
 		}
 		charged = false;
 		loaded = false;
-		maxUseTicks = RangedWeaponComponent.getQuickTicks(stack, user, stack.getOrDefault(RANGED_WEAPON, rangedWeapon(Optional.of(stack))).maxUseTicks());
 		user.setCurrentHand(hand);
 		return TypedActionResult.consume(stack);
 	}
@@ -94,13 +108,18 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 	@Override
 	public void usageTick(World world, LivingEntity user, ItemStack stack, int remainingUseTicks) {
 		if (world.isClient) return;
-		ShootProjectilesComponent shootProjectiles = stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)));
-		if (ProjectileContainerComponent.getChargedAmount(stack) > 0) stack.set(SHOOT_PROJECTILES, shootProjectiles.resetShot());
+		FiringSession session = sessions.computeIfAbsent(user, key -> createSession(stack, key));
+		if (ShootProjectilesComponent.isShot(stack) && ProjectileContainerComponent.getChargedAmount(stack) > 0) {
+			stack.set(SHOOT_PROJECTILES, stack.getOrDefault(SHOOT_PROJECTILES, session.shootProjectiles).resetShot());
+		}
 		if (isCharged(stack)) {
-			double useTicks = getMaxUseTime(stack, user) - remainingUseTicks;
-			if (useTicks >= getMaxUseTime(stack, user) || useTicks % shootProjectiles.interval() != 0) return;
-			RangedWeaponComponent rangedWeapon = stack.getOrDefault(RANGED_WEAPON, rangedWeapon(Optional.of(stack)));
-			shootAll(world, user, user.getActiveHand(), stack, rangedWeapon.getMaxProjectileSpeed(stack), rangedWeapon.firingError(), null);
+			int useTicks = session.maxUseTicks - remainingUseTicks;
+			if (useTicks >= session.maxUseTicks) return;
+			// 射击间隔短于一刻时同一刻内会发射多个发射物
+			int dueShots = session.shootProjectiles.getDueShots(useTicks);
+			for (; session.shots < dueShots && isCharged(stack); session.shots++) {
+				shootAll(world, user, user.getActiveHand(), stack, session.rangedWeapon.getMaxProjectileSpeed(stack), session.rangedWeapon.firingError(), null);
+			}
 		} else {
 			super.usageTick(world, user, stack, remainingUseTicks);
 		}
@@ -108,11 +127,19 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	public void onStoppedUsing(ItemStack stack, World world, LivingEntity user, int remainingUseTicks) {
-		if (getUsingProgress(stack, user, getMaxUseTime(stack, user) - remainingUseTicks) != 1 || isCharged(stack) || !load(user, stack)) return;
+		FiringSession session = sessions.remove(user);
+		int maxUseTicks = session != null ? session.maxUseTicks : getMaxUseTime(stack, user);
+		if (getUsingProgress(stack, user, maxUseTicks - remainingUseTicks) != 1 || isCharged(stack) || !load(user, stack, session)) return;
 		// 播放弩装填结束音效
 		stateSounds(stack).loadings().end().ifPresent(sound -> world.playSound(null, user.getX(), user.getY(), user.getZ(), sound, user.getSoundCategory(), 1, 1 / (world.getRandom().nextFloat() * 0.5F + 1) + 0.2F));
 	}
 	
+	@Override
+	public ItemStack finishUsing(ItemStack stack, World world, LivingEntity user) {
+		sessions.remove(user);
+		return super.finishUsing(stack, world, user);
+	}
+	
 	@Override
 	public void appendTooltip(ItemStack stack, TooltipContext context, List<Text> tooltip, TooltipType type) {
 		super.appendTooltip(stack, context, tooltip, type);
@@ -128,15 +155,20 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	protected boolean load(LivingEntity shooter, ItemStack crossbow) {
-		List<ItemStack> list = Lists.newCopyOnWriteArrayList(crossbow.getOrDefault(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT).getProjectiles());
+		return load(shooter, crossbow, sessions.get(shooter));
+	}
+	
+	private boolean load(LivingEntity shooter, ItemStack crossbow, @Nullable FiringSession session) {
+		List<ItemStack> list = new ArrayList<>(ProjectileContainerComponent.getChargedProjectiles(crossbow));
 		ItemStack projectile = RangedWeaponComponent.getProjectileType(shooter, crossbow);
+		ProjectileContainerComponent container = session != null ? session.projectileContainer : crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow)));
 		if (projectile.isEmpty()) {
-			crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow))).putChargedProjectiles(crossbow, list, shooter);
+			container.putChargedProjectiles(crossbow, list, shooter);
 			return false;
 		}
-		int size = crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow))).getLoadableAmount(crossbow, shooter);
+		int size = container.getLoadableAmount(crossbow, shooter);
 		for (int count = 0; count < size; count++) list.add(getProjectile(crossbow, projectile, shooter, false));
-		crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow))).putChargedProjectiles(crossbow, list, shooter);
+		container.putChargedProjectiles(crossbow, list, shooter);
 		return true;
 	}
 	
@@ -161,7 +193,9 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	protected void postShot(World world, LivingEntity shooter, ItemStack stack) {
-		ShootProjectilesComponent component = stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)));
+		FiringSession session = sessions.get(shooter);
+		ShootProjectilesComponent component = stack.get(SHOOT_PROJECTILES);
+		if (component == null) component = session != null ? session.shootProjectiles : shootProjectiles(Optional.of(stack));
 		if (component.state() == ShootProjectilesComponent.State.EVERY || ProjectileContainerComponent.getChargedAmount(stack) == 0) {
 			stack.set(SHOOT_PROJECTILES, component.setShot());
 		}
@@ -182,4 +216,39 @@ public abstract class FullyAutomaticFirearmItem extends CrossbowLikeItem {
 	 * @return 射击发射物组件
 	 */
 	public abstract ShootProjectilesComponent shootProjectiles(Optional<ItemStack> stack);
+	
+	/**
+	 * 创建使用会话，解析本次使用期间不变的数据组件并确定最大使用刻数
+	 *
+	 * @param stack 物品堆栈
+	 * @param user  使用者
+	 * @return 使用会话
+	 */
+	private FiringSession createSession(ItemStack stack, LivingEntity user) {
+		RangedWeaponComponent rangedWeapon = stack.getOrDefault(RANGED_WEAPON, rangedWeapon(Optional.of(stack)));
+		ProjectileContainerComponent projectileContainer = stack.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(stack)));
+		ShootProjectilesComponent shootProjectiles = stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)));
+		int maxUseTicks = isCharged(stack)
+				? shootProjectiles.getShootingTicks(ProjectileContainerComponent.getChargedAmount(stack))
+				: RangedWeaponComponent.getQuickTicks(stack, user, rangedWeapon.maxUseTicks());
+		return new FiringSession(rangedWeapon, projectileContainer, shootProjectiles, maxUseTicks);
+	}
+	
+	/**
+	 * 使用会话，储存一次使用期间的射击状态
+	 */
+	private static final class FiringSession {
+		private final RangedWeaponComponent rangedWeapon;
+		private final ProjectileContainerComponent projectileContainer;
+		private final ShootProjectilesComponent shootProjectiles;
+		private final int maxUseTicks;
+		private int shots = 0;
+		
+		private FiringSession(RangedWeaponComponent rangedWeapon, ProjectileContainerComponent projectileContainer, ShootProjectilesComponent shootProjectiles, int maxUseTicks) {
+			this.rangedWeapon = rangedWeapon;
+			this.projectileContainer = projectileContainer;
+			this.shootProjectiles = shootProjectiles;
+			this.maxUseTicks = maxUseTicks;
+		}
+	}
 }
\ No newline at end of file
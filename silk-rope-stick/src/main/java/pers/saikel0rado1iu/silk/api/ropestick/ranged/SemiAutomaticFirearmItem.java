@@ -11,7 +11,6 @@
 
 package pers.saikel0rado1iu.silk.api.ropestick.ranged;
 
-import com.google.common.collect.Lists;
 import net.minecraft.advancement.criterion.Criteria;
 import net.minecraft.component.ComponentMap;
 import net.minecraft.component.DataComponentTypes;
@@ -34,6 +33,7 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileContainer
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
 import pers.saikel0rado1iu.silk.api.ropestick.component.type.ShootProjectilesComponent;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,7 +59,7 @@ public abstract class SemiAutomaticFirearmItem extends CrossbowLikeItem {
 		return ComponentMap.builder()
 				.addAll(super.dynamicComponents(stack))
 				.add(PROJECTILE_CONTAINER, projectileContainer(Optional.of(stack)))
-				.add(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)).setShot(stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack))).shot()))
+				.add(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)).setShot(ShootProjectilesComponent.isShot(stack)))
 				.build();
 	}
 	
@@ -107,15 +107,17 @@ public abstract class SemiAutomaticFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	protected boolean load(LivingEntity shooter, ItemStack crossbow) {
-		List<ItemStack> list = Lists.newCopyOnWriteArrayList(crossbow.getOrDefault(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT).getProjectiles());
+		List<ItemStack> list = new ArrayList<>(ProjectileContainerComponent.getChargedProjectiles(crossbow));
 		ItemStack projectile = RangedWeaponComponent.getProjectileType(shooter, crossbow);
+		ProjectileContainerComponent container = crossbow.get(PROJECTILE_CONTAINER);
+		if (container == null) container = projectileContainer(Optional.of(crossbow));
 		if (projectile.isEmpty()) {
-			crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow))).putChargedProjectiles(crossbow, list, shooter);
+			container.putChargedProjectiles(crossbow, list, shooter);
 			return false;
 		}
-		int size = crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow))).getLoadableAmount(crossbow, shooter);
+		int size = container.getLoadableAmount(crossbow, shooter);
 		for (int count = 0; count < size; count++) list.add(getProjectile(crossbow, projectile, shooter, false));
-		crossbow.getOrDefault(PROJECTILE_CONTAINER, projectileContainer(Optional.of(crossbow))).putChargedProjectiles(crossbow, list, shooter);
+		container.putChargedProjectiles(crossbow, list, shooter);
 		return true;
 	}
 	
@@ -140,8 +142,9 @@ public abstract class SemiAutomaticFirearmItem extends CrossbowLikeItem {
 	
 	@Override
 	protected void postShot(World world, LivingEntity shooter, ItemStack stack) {
-		ShootProjectilesComponent component = stack.getOrDefault(SHOOT_PROJECTILES, shootProjectiles(Optional.of(stack)));
-		if (shooter instanceof PlayerEntity player && component.interval() != 0) player.getItemCooldownManager().set(this, component.interval());
+		ShootProjectilesComponent component = stack.get(SHOOT_PROJECTILES);
+		if (component == null) component = shootProjectiles(Optional.of(stack));
+		if (shooter instanceof PlayerEntity player && component.getCooldownTicks() != 0) player.getItemCooldownManager().set(this, component.getCooldownTicks());
 		if (component.state() == ShootProjectilesComponent.State.EVERY || ProjectileContainerComponent.getChargedAmount(stack) == 0) {
 			stack.set(SHOOT_PROJECTILES, component.setShot());
 		}
@@ -12,11 +12,14 @@
 package pers.saikel0rado1iu.silk.entrypoint;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import pers.saikel0rado1iu.silk.api.modpass.ModBasicData;
 import pers.saikel0rado1iu.silk.api.modpass.ModMain;
 import pers.saikel0rado1iu.silk.api.modpass.ModPass;
 import pers.saikel0rado1iu.silk.api.modpass.registry.MainRegistrationProvider;
 import pers.saikel0rado1iu.silk.api.ropestick.component.ComponentTypes;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DynamicComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.EnchantmentTraitsComponent;
 import pers.saikel0rado1iu.silk.impl.SilkRopeStick;
 
 import java.util.Set;
@@ -33,6 +36,10 @@ import java.util.Set;
 public final class RopeStickMain implements ModMain {
     @Override
     public void main(ModPass mod) {
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            EnchantmentTraitsComponent.resolveEnchantments(registries);
+            DynamicComponent.invalidateAll();
+        });
     }
 
     @Override
@@ -21,7 +21,7 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.DynamicComponent;
 
 /**
  * <h2>{@link DynamicComponent} 混入</h2>
- * 设置动态数据组件
+ * 设置动态数据组件，已带有当前版本动态组件的物品堆栈会被跳过
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu">
  *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
@@ -32,10 +32,7 @@ import pers.saikel0rado1iu.silk.api.ropestick.component.DynamicComponent;
 abstract class DynamicComponentMixin {
     @ModifyVariable(method = "setStack", at = @At("HEAD"), ordinal = 0, argsOnly = true)
     private ItemStack setStack(ItemStack stack, @Local(argsOnly = true) int slot) {
-        if (!(stack.getItem() instanceof DynamicComponent dynamicComponent)) {
-            return stack;
-        }
-        stack.applyComponentsFrom(dynamicComponent.dynamicComponents(stack));
+        DynamicComponent.apply(stack);
         return stack;
     }
 }
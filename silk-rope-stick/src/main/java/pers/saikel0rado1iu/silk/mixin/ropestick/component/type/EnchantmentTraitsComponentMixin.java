@@ -12,21 +12,16 @@
 package pers.saikel0rado1iu.silk.mixin.ropestick.component.type;
 
 import net.fabricmc.fabric.api.item.v1.FabricItemStack;
+import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.component.ComponentHolder;
 import net.minecraft.component.ComponentType;
 import net.minecraft.component.type.ItemEnchantmentsComponent;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.text.Text;
-import net.minecraft.text.TranslatableTextContent;
-import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Nullable;
-import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -56,51 +51,16 @@ interface EnchantmentTraitsComponentMixin {
      */
     @Mixin(Enchantment.class)
     abstract class SetAcceptEnchantment {
-        @Shadow
-        @Final
-        private Text description;
-
-        @Unique
-        private static Identifier getId(RegistryKey<Enchantment> enchantment) {
-            return enchantment.getValue();
-        }
-
-        @Unique
-        private static String getKey(RegistryKey<Enchantment> enchantment) {
-            return String.format("enchantment.%s.%s", enchantment
-                    .getValue().getNamespace(), enchantment.getValue().getPath());
-        }
-
-        /**
-         * 如果物品为自定义物品判断此魔咒是否包含在自定义魔咒中，所以请忽略 'EqualsBetweenInconvertibleTypes' 警告
-         */
         @Inject(method = "isAcceptableItem", at = @At("RETURN"), cancellable = true)
         private void acceptEnchantment(ItemStack stack, CallbackInfoReturnable<Boolean> cir) {
             EnchantmentTraitsComponent component = stack.get(DataComponentTypes.ENCHANTMENT_TRAITS);
             if (component == null) {
                 return;
             }
-            component.enchantments().forEach(trait -> {
-                // 使用魔咒的翻译键判断是否为同一魔咒，可能对于没有翻译文本以及特殊翻译键的魔咒无法索引，但这是目前唯一能实现的方法。
-                if (!(description.getContent() instanceof TranslatableTextContent content)) {
-                    return;
-                }
-                if (!getKey(trait.enchantment()).equals(content.getKey())) {
-                    return;
-                }
-                int conflictNum = 0;
-                for (RegistryKey<Enchantment> enchantment : trait.conflicts()) {
-                    if (stack.getEnchantments().getEnchantments().stream().anyMatch(entry ->
-                            getId(enchantment).equals(getId(entry.getKey().orElseThrow())))) {
-                        conflictNum++;
-                    }
-                }
-                if (conflictNum > trait.threshold()) {
-                    cir.setReturnValue(false);
-                } else {
-                    cir.setReturnValue(true);
-                }
-            });
+            TriState acceptable = component.isAcceptable((Enchantment) (Object) this, stack.getEnchantments());
+            if (acceptable != TriState.DEFAULT) {
+                cir.setReturnValue(acceptable.get());
+            }
         }
     }
 
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick;
+
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DynamicComponent;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Test {@link DynamicComponent}
+ */
+public interface DynamicComponentTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingDynamicComponent");
+
+    /**
+     * 测试
+     *
+     * @param server 服务器
+     */
+    static void test(MinecraftServer server) {
+        FakePlayer player = FakePlayer.get(server.getOverworld());
+        PlayerInventory inventory = player.getInventory();
+        inventory.clear();
+        ItemStack stack = Items.TEST_FULLY_AUTOMATIC_FIREARM.getDefaultStack();
+        inventory.setStack(0, stack);
+        LOGGER.info("reapplied without invalidation = {} (expected false)", DynamicComponent.apply(stack));
+        DynamicComponent.invalidate(Items.TEST_FULLY_AUTOMATIC_FIREARM);
+        LOGGER.info("reapplied after invalidation = {} (expected true)", DynamicComponent.apply(stack));
+        ItemStack copy = stack.copy();
+        LOGGER.info("copy reapplied once = {} (expected true)", DynamicComponent.apply(copy));
+        ItemStack fresh = Items.TEST_FULLY_AUTOMATIC_FIREARM.getDefaultStack();
+        DynamicComponent.apply(fresh);
+        // 已应用的版本不在组件图表中，不同时间应用的物品堆栈仍然相等且可以合并
+        LOGGER.info("components equal to a freshly applied stack = {} (expected true)",
+                ItemStack.areItemsAndComponentsEqual(stack, fresh) && ItemStack.areItemsAndComponentsEqual(copy, fresh));
+        for (int slot = 0; slot < inventory.main.size(); slot++) {
+            inventory.setStack(slot, stack.copy());
+        }
+        for (int round = 0; round < 3; round++) {
+            long legacyBytes = shuffle(inventory, 20_000, true);
+            long bytes = shuffle(inventory, 20_000, false);
+            LOGGER.info("round {}: 20000 bulk moves, reapply every set {} KiB, versioned {} KiB",
+                    round, legacyBytes / 1024, bytes / 1024);
+        }
+        inventory.clear();
+    }
+
+    /**
+     * 模拟整理物品栏时大量交换槽位中的物品堆栈
+     *
+     * @param inventory  玩家物品栏
+     * @param moves      交换次数
+     * @param invalidate 是否每次放入前都使动态组件失效，用于模拟旧版每次都重新应用的行为
+     * @return 当前线程分配的字节数
+     */
+    static long shuffle(PlayerInventory inventory, int moves, boolean invalidate) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long start = bean.getThreadAllocatedBytes(threadId);
+        int size = inventory.main.size();
+        for (int move = 0; move < moves; move++) {
+            int from = move % size;
+            int to = (move * 7 + 3) % size;
+            ItemStack stack = inventory.getStack(from);
+            if (invalidate) {
+                DynamicComponent.invalidate(stack.getItem());
+            }
+            inventory.setStack(from, inventory.getStack(to));
+            inventory.setStack(to, stack);
+        }
+        return bean.getThreadAllocatedBytes(threadId) - start;
+    }
+}
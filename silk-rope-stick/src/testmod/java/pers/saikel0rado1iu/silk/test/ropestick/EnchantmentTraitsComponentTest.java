@@ -0,0 +1,107 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick;
+
+import net.minecraft.component.type.ItemEnchantmentsComponent;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.text.TranslatableTextContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.EnchantmentTraitsComponent;
+
+import java.util.List;
+
+/**
+ * Test {@link EnchantmentTraitsComponent}
+ */
+public interface EnchantmentTraitsComponentTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingEnchantmentTraitsComponent");
+
+    /**
+     * 测试
+     *
+     * @param server 服务器
+     */
+    static void test(MinecraftServer server) {
+        Registry<Enchantment> registry = server.getRegistryManager().getOrThrow(RegistryKeys.ENCHANTMENT);
+        ItemStack stack = Items.STICK.getDefaultStack();
+        stack.set(DataComponentTypes.ENCHANTMENT_TRAITS, EnchantmentTraitsComponent.of(
+                EnchantmentTraitsComponent.create(Enchantments.SHARPNESS, Enchantments.SMITE, Enchantments.BANE_OF_ARTHROPODS),
+                EnchantmentTraitsComponent.create(Enchantments.LOOTING, List.of(Enchantments.SMITE, Enchantments.FIRE_ASPECT), 1),
+                EnchantmentTraitsComponent.create(Enchantments.FIRE_ASPECT)));
+        stack.addEnchantment(registry.getOrThrow(Enchantments.SMITE), 1);
+        LOGGER.info("sharpness acceptable = {} (expected false)", registry.getValueOrThrow(Enchantments.SHARPNESS).isAcceptableItem(stack));
+        LOGGER.info("looting acceptable = {} (expected true)", registry.getValueOrThrow(Enchantments.LOOTING).isAcceptableItem(stack));
+        LOGGER.info("fire_aspect acceptable = {} (expected true)", registry.getValueOrThrow(Enchantments.FIRE_ASPECT).isAcceptableItem(stack));
+        LOGGER.info("protection acceptable = {} (expected false)", registry.getValueOrThrow(Enchantments.PROTECTION).isAcceptableItem(stack));
+        testEquivalence(registry, stack);
+    }
+
+    /**
+     * 对所有魔咒对比旧版使用翻译键的判断方式
+     *
+     * @param registry 魔咒注册表
+     * @param stack    物品堆栈
+     */
+    static void testEquivalence(Registry<Enchantment> registry, ItemStack stack) {
+        EnchantmentTraitsComponent component = stack.get(DataComponentTypes.ENCHANTMENT_TRAITS);
+        int mismatches = 0;
+        for (RegistryEntry<Enchantment> enchantment : registry.streamEntries().toList()) {
+            if (legacyIsAcceptable(component, enchantment.value(), stack) != enchantment.value().isAcceptableItem(stack)) {
+                mismatches++;
+            }
+        }
+        LOGGER.info("legacy acceptance mismatches = {} (expected 0)", mismatches);
+    }
+
+    /**
+     * 旧版使用翻译键与流进行的判断，仅用于对比结果
+     *
+     * @param component   附魔特质组件
+     * @param enchantment 魔咒
+     * @param stack       物品堆栈
+     * @return 是否可附魔
+     */
+    static boolean legacyIsAcceptable(EnchantmentTraitsComponent component, Enchantment enchantment, ItemStack stack) {
+        boolean acceptable = enchantment.isAcceptableItem(Items.STICK.getDefaultStack());
+        for (EnchantmentTraitsComponent.EnchantmentTrait trait : component.enchantments()) {
+            if (!(enchantment.description().getContent() instanceof TranslatableTextContent content)) {
+                continue;
+            }
+            String key = String.format("enchantment.%s.%s",
+                    trait.enchantment().getValue().getNamespace(), trait.enchantment().getValue().getPath());
+            if (!key.equals(content.getKey())) {
+                continue;
+            }
+            int conflictNum = 0;
+            ItemEnchantmentsComponent enchantments = stack.getEnchantments();
+            for (RegistryKey<Enchantment> conflict : trait.conflicts()) {
+                if (enchantments.getEnchantments().stream().anyMatch(entry ->
+                        conflict.getValue().equals(entry.getKey().orElseThrow().getValue()))) {
+                    conflictNum++;
+                }
+            }
+            acceptable = conflictNum <= trait.threshold();
+        }
+        return acceptable;
+    }
+}
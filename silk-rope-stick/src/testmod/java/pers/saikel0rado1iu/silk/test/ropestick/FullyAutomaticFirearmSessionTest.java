@@ -0,0 +1,138 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick;
+
+import com.mojang.authlib.GameProfile;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.ChargedProjectilesComponent;
+import net.minecraft.entity.projectile.PersistentProjectileEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.Box;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileContainerComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.ShootProjectilesComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.ranged.FullyAutomaticFirearmItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Test {@link FullyAutomaticFirearmItem} 的使用会话
+ */
+public interface FullyAutomaticFirearmSessionTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingFullyAutomaticFirearmSession");
+    /** 同时射击的玩家数 */
+    int SHOOTERS = 64;
+    /** 射速测试的每秒发射数量，即每刻 3 发 */
+    float SHOTS_PER_SECOND = 60;
+    /** 射速测试装填的发射物数量 */
+    int RATE_PROJECTILES = 9;
+
+    /**
+     * 测试
+     *
+     * @param server 服务器
+     */
+    static void test(MinecraftServer server) {
+        ServerWorld world = server.getOverworld();
+        FullyAutomaticFirearmItemTest item = Items.TEST_FULLY_AUTOMATIC_FIREARM;
+        List<FakePlayer> players = new ArrayList<>(SHOOTERS);
+        List<ItemStack> stacks = new ArrayList<>(SHOOTERS);
+        int[] remaining = new int[SHOOTERS];
+        int isolationErrors = 0;
+        for (int index = 0; index < SHOOTERS; index++) {
+            FakePlayer player = FakePlayer.get(world, new GameProfile(UUID.randomUUID(), "shooter_" + index));
+            ItemStack stack = item.getDefaultStack();
+            stack.applyComponentsFrom(item.dynamicComponents(stack));
+            // 每名玩家装填不同数量的发射物，以便区分各自的最大使用刻数
+            int amount = index % 8 + 1;
+            stack.set(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.of(
+                    Collections.nCopies(amount, net.minecraft.item.Items.ARROW.getDefaultStack())));
+            player.setStackInHand(Hand.MAIN_HAND, stack);
+            item.use(world, player, Hand.MAIN_HAND);
+            players.add(player);
+            stacks.add(stack);
+            remaining[index] = item.getMaxUseTime(stack, player);
+        }
+        for (int index = 0; index < SHOOTERS; index++) {
+            ShootProjectilesComponent shootProjectiles = item.shootProjectiles(Optional.empty());
+            int expected = shootProjectiles.getShootingTicks(index % 8 + 1);
+            if (item.getMaxUseTime(stacks.get(index), players.get(index)) != expected) {
+                isolationErrors++;
+            }
+        }
+        int ticks = 0;
+        long start = System.nanoTime();
+        for (boolean using = true; using; ticks++) {
+            using = false;
+            for (int index = 0; index < SHOOTERS; index++) {
+                if (remaining[index] <= 0) {
+                    continue;
+                }
+                item.usageTick(world, players.get(index), stacks.get(index), remaining[index]--);
+                using = true;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        int unfired = 0;
+        for (int index = 0; index < SHOOTERS; index++) {
+            unfired += ProjectileContainerComponent.getChargedAmount(stacks.get(index));
+            item.onStoppedUsing(stacks.get(index), world, players.get(index), 0);
+        }
+        LOGGER.info("{} shooters, {} ticks, {} us per tick, isolation errors = {} (expected 0), unfired = {} (expected 0)",
+                SHOOTERS, ticks, nanos / 1000 / Math.max(1, ticks), isolationErrors, unfired);
+        world.getEntitiesByClass(PersistentProjectileEntity.class, Box.of(players.getFirst().getPos(), 16, 16, 16),
+                projectile -> players.contains(projectile.getOwner())).forEach(PersistentProjectileEntity::discard);
+        testRate(world);
+    }
+
+    /**
+     * 测试以 {@link ShootProjectilesComponent#ofRate(float, ShootProjectilesComponent.State)} 设置的射速在同一刻内发射多个发射物
+     *
+     * @param world 世界
+     */
+    static void testRate(ServerWorld world) {
+        FullyAutomaticFirearmItemTest item = Items.TEST_FULLY_AUTOMATIC_FIREARM;
+        FakePlayer player = FakePlayer.get(world, new GameProfile(UUID.randomUUID(), "rate_shooter"));
+        ItemStack stack = item.getDefaultStack();
+        stack.applyComponentsFrom(item.dynamicComponents(stack));
+        ShootProjectilesComponent shootProjectiles = ShootProjectilesComponent.ofRate(SHOTS_PER_SECOND, ShootProjectilesComponent.State.EVERY);
+        stack.set(pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes.SHOOT_PROJECTILES, shootProjectiles);
+        stack.set(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.of(
+                Collections.nCopies(RATE_PROJECTILES, net.minecraft.item.Items.ARROW.getDefaultStack())));
+        player.setStackInHand(Hand.MAIN_HAND, stack);
+        item.use(world, player, Hand.MAIN_HAND);
+        int maxUseTicks = item.getMaxUseTime(stack, player);
+        int maxShotsPerTick = 0;
+        for (int remaining = maxUseTicks; remaining > 0; remaining--) {
+            int before = ProjectileContainerComponent.getChargedAmount(stack);
+            item.usageTick(world, player, stack, remaining);
+            maxShotsPerTick = Math.max(maxShotsPerTick, before - ProjectileContainerComponent.getChargedAmount(stack));
+        }
+        int unfired = ProjectileContainerComponent.getChargedAmount(stack);
+        item.onStoppedUsing(stack, world, player, 0);
+        LOGGER.info("{} shots per second: max use ticks = {} (expected {}), max shots per tick = {} (expected {}), unfired = {} (expected 0)",
+                SHOTS_PER_SECOND, maxUseTicks, shootProjectiles.getShootingTicks(RATE_PROJECTILES),
+                maxShotsPerTick, shootProjectiles.getShotsInTick(0), unfired);
+        world.getEntitiesByClass(PersistentProjectileEntity.class, Box.of(player.getPos(), 16, 16, 16),
+                projectile -> projectile.getOwner() == player).forEach(PersistentProjectileEntity::discard);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick;
+
+import com.google.common.collect.Lists;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.ChargedProjectilesComponent;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.registry.RegistryOps;
+import net.minecraft.server.MinecraftServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileContainerComponent;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.ProjectileMagazineComponent;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test {@link ProjectileMagazineComponent}
+ */
+public interface ProjectileMagazineComponentTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingProjectileMagazineComponent");
+    /** 弹匣容量 */
+    int ROUNDS = 100;
+
+    /**
+     * 测试
+     *
+     * @param server 服务器
+     */
+    static void test(MinecraftServer server) {
+        List<ItemStack> rounds = Collections.nCopies(ROUNDS, net.minecraft.item.Items.ARROW.getDefaultStack());
+        // 旧版存档只有原版的已装填发射物组件
+        ItemStack legacy = Items.TEST_FULLY_AUTOMATIC_FIREARM.getDefaultStack();
+        legacy.set(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.of(rounds));
+        LOGGER.info("legacy charged amount = {} (expected {})", ProjectileContainerComponent.getChargedAmount(legacy), ROUNDS);
+        ProjectileContainerComponent.popChargedProjectiles(legacy);
+        LOGGER.info("migrated charged amount = {} (expected {}), vanilla charged projectiles = {} (expected 1)",
+                ProjectileContainerComponent.getChargedAmount(legacy), ROUNDS - 1,
+                legacy.getOrDefault(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT).getProjectiles().size());
+        // 发射物按装填顺序先进先出
+        ItemStack mixed = Items.TEST_FULLY_AUTOMATIC_FIREARM.getDefaultStack();
+        ProjectileContainerComponent.setMagazine(mixed, ProjectileMagazineComponent.of(List.of(
+                net.minecraft.item.Items.ARROW.getDefaultStack(), net.minecraft.item.Items.SPECTRAL_ARROW.getDefaultStack(),
+                net.minecraft.item.Items.SPECTRAL_ARROW.getDefaultStack(), net.minecraft.item.Items.TIPPED_ARROW.getDefaultStack())));
+        StringBuilder order = new StringBuilder();
+        while (ProjectileContainerComponent.getChargedAmount(mixed) > 0) {
+            order.append(ProjectileContainerComponent.popChargedProjectiles(mixed).getItem()).append(' ');
+        }
+        LOGGER.info("pop order = {}(expected arrow spectral_arrow spectral_arrow tipped_arrow)", order);
+        // 原版代码清空已装填发射物后不应残留旧的弹匣
+        ItemStack stale = Items.TEST_FULLY_AUTOMATIC_FIREARM.getDefaultStack();
+        ProjectileContainerComponent.setMagazine(stale, ProjectileMagazineComponent.of(rounds));
+        stale.set(DataComponentTypes.CHARGED_PROJECTILES, ChargedProjectilesComponent.DEFAULT);
+        LOGGER.info("charged amount after vanilla clear = {} (expected 0), stale magazine kept = {} (expected false)",
+                ProjectileContainerComponent.getChargedAmount(stale),
+                stale.contains(pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes.PROJECTILE_MAGAZINE));
+        RegistryOps<NbtElement> ops = server.getRegistryManager().getOps(NbtOps.INSTANCE);
+        int legacySize = ChargedProjectilesComponent.CODEC.encodeStart(ops, ChargedProjectilesComponent.of(rounds))
+                .getOrThrow().getSizeInBytes();
+        NbtElement nbt = ProjectileMagazineComponent.CODEC.encodeStart(ops, ProjectileMagazineComponent.of(rounds)).getOrThrow();
+        LOGGER.info("{} rounds nbt size: legacy {} bytes, magazine {} bytes, round trip = {} (expected true)", ROUNDS, legacySize,
+                nbt.getSizeInBytes(), ProjectileMagazineComponent.CODEC.parse(ops, nbt).getOrThrow().equals(ProjectileMagazineComponent.of(rounds)));
+        benchmark(rounds, 10_000);
+    }
+
+    /**
+     * 反复装满并打空弹匣，对比旧版复制列表的取出方式
+     *
+     * @param rounds 一个弹匣的发射物
+     * @param cycles 循环次数
+     */
+    static void benchmark(List<ItemStack> rounds, int cycles) {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int round = 0; round < 3; round++) {
+            int legacyPopped = 0;
+            long bytes = bean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int cycle = 0; cycle < cycles; cycle++) {
+                ChargedProjectilesComponent charged = ChargedProjectilesComponent.of(rounds);
+                while (!charged.isEmpty()) {
+                    List<ItemStack> projectiles = Lists.newCopyOnWriteArrayList(charged.getProjectiles());
+                    projectiles.removeFirst();
+                    charged = ChargedProjectilesComponent.of(projectiles);
+                    legacyPopped++;
+                }
+            }
+            long legacyNanos = System.nanoTime() - start;
+            long legacyBytes = bean.getThreadAllocatedBytes(threadId) - bytes;
+            int popped = 0;
+            bytes = bean.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            for (int cycle = 0; cycle < cycles; cycle++) {
+                ProjectileMagazineComponent magazine = ProjectileMagazineComponent.of(rounds);
+                while (!magazine.isEmpty()) {
+                    magazine.peek().copy();
+                    magazine = magazine.pop();
+                    popped++;
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            long magazineBytes = bean.getThreadAllocatedBytes(threadId) - bytes;
+            LOGGER.info("round {}: {} cycles of {} rounds, legacy {} ms {} KiB ({} popped), magazine {} ms {} KiB ({} popped)",
+                    round, cycles, rounds.size(), legacyNanos / 1_000_000, legacyBytes / 1024, legacyPopped,
+                    nanos / 1_000_000, magazineBytes / 1024, popped);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick;
+
+import com.google.common.collect.ImmutableList;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Hand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Test {@link RangedWeaponComponent}
+ */
+public interface RangedWeaponComponentTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingRangedWeaponComponent");
+
+    /**
+     * 测试
+     *
+     * @param server 服务器
+     */
+    static void test(MinecraftServer server) {
+        testProjectileIndex();
+        FakePlayer player = FakePlayer.get(server.getOverworld());
+        ItemStack weapon = Items.TEST_FULLY_AUTOMATIC_FIREARM.getDefaultStack();
+        weapon.applyComponentsFrom(Items.TEST_FULLY_AUTOMATIC_FIREARM.dynamicComponents(weapon));
+        PlayerInventory inventory = player.getInventory();
+        inventory.clear();
+        player.setStackInHand(Hand.MAIN_HAND, weapon);
+        // 除最后一格外全部填满无关物品，使发射物位于线性扫描的最末端
+        for (int slot = 0; slot < inventory.main.size() - 1; slot++) {
+            if (slot != inventory.selectedSlot) {
+                inventory.main.set(slot, net.minecraft.item.Items.COBBLESTONE.getDefaultStack());
+            }
+        }
+        inventory.main.set(inventory.main.size() - 1, new ItemStack(net.minecraft.item.Items.ARROW, 64));
+        LOGGER.info("projectile = {} (expected arrow)", RangedWeaponComponent.getProjectileType(player, weapon));
+        LOGGER.info("legacy scan agrees = {} (expected true)", RangedWeaponComponent.getProjectileType(player, weapon)
+                == legacyFindProjectile(player, Items.TEST_FULLY_AUTOMATIC_FIREARM.getProjectiles()));
+        RangedWeaponComponent component = weapon.get(DataComponentTypes.RANGED_WEAPON);
+        LOGGER.info("model predicate index = {} (expected 0.0)", component == null ? -1 : component.getProjectileIndex(player, weapon));
+        // 移走发射物后提示槽位失效，需要回退到扫描
+        ItemStack arrows = inventory.main.set(inventory.main.size() - 1, ItemStack.EMPTY);
+        inventory.main.set(inventory.main.size() - 2, arrows);
+        LOGGER.info("moved projectile found = {} (expected true)",
+                RangedWeaponComponent.getProjectileType(player, weapon) == arrows);
+        testWeaponSwitch(player, weapon);
+        inventory.clear();
+    }
+
+    /**
+     * 测试切换到发射物谓词不同的武器后不会沿用上一把武器的槽位提示
+     *
+     * @param player  玩家
+     * @param firearm 可发射箭与烟花火箭的全自动火器
+     */
+    static void testWeaponSwitch(FakePlayer player, ItemStack firearm) {
+        ItemStack bow = Items.TEST_BOW.getDefaultStack();
+        bow.applyComponentsFrom(Items.TEST_BOW.dynamicComponents(bow));
+        PlayerInventory inventory = player.getInventory();
+        inventory.clear();
+        // 烟花火箭在扫描顺序上先于箭，只有全自动火器可以发射
+        ItemStack rockets = new ItemStack(net.minecraft.item.Items.FIREWORK_ROCKET, 64);
+        ItemStack arrows = new ItemStack(net.minecraft.item.Items.ARROW, 64);
+        inventory.main.set(inventory.main.size() - 2, rockets);
+        inventory.main.set(inventory.main.size() - 1, arrows);
+        // 切换快捷栏不会改变物品栏变更计数
+        inventory.main.set(0, bow);
+        inventory.main.set(1, firearm);
+        inventory.selectedSlot = 0;
+        ItemStack bowProjectile = RangedWeaponComponent.getProjectileType(player, bow);
+        inventory.selectedSlot = 1;
+        ItemStack firearmProjectile = RangedWeaponComponent.getProjectileType(player, firearm);
+        inventory.selectedSlot = 0;
+        ItemStack switchedBackProjectile = RangedWeaponComponent.getProjectileType(player, bow);
+        LOGGER.info("bow = {}, firearm = {}, bow again = {} (expected true, true, true)",
+                bowProjectile == arrows, firearmProjectile == rockets, switchedBackProjectile == arrows);
+    }
+
+    /**
+     * 测试发射物模型谓词索引与旧版字符串拼接结果一致
+     */
+    static void testProjectileIndex() {
+        List<Item> items = Registries.ITEM.stream().limit(128).toList();
+        RangedWeaponComponent component = RangedWeaponComponent.builder()
+                .launchableProjectiles(ImmutableList.copyOf(items))
+                .build();
+        int mismatches = 0;
+        for (Item item : items) {
+            float legacy = Float.parseFloat("0." + Math.max(0, items.indexOf(item)));
+            if (Float.compare(legacy, component.getProjectileIndex(item.getDefaultStack())) != 0) {
+                mismatches++;
+            }
+        }
+        LOGGER.info("projectile index mismatches = {} (expected 0)", mismatches);
+    }
+
+    /**
+     * 旧版对整个物品栏进行的线性扫描，仅用于对比
+     *
+     * @param player    玩家
+     * @param predicate 发射物谓词
+     * @return 发射物
+     */
+    static ItemStack legacyFindProjectile(FakePlayer player, Predicate<ItemStack> predicate) {
+        for (int count = 0; count < player.getInventory().size(); ++count) {
+            ItemStack stack = player.getInventory().getStack(count);
+            if (predicate.test(stack)) {
+                return stack;
+            }
+        }
+        return ItemStack.EMPTY;
+    }
+}
@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.test.ropestick;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import pers.saikel0rado1iu.silk.api.modpass.ModData;
 import pers.saikel0rado1iu.silk.api.modpass.ModMain;
 import pers.saikel0rado1iu.silk.api.modpass.ModPass;
@@ -31,6 +32,11 @@ public final class Test implements ModMain {
 	 */
 	@Override
 	public void main(ModPass mod) {
+		ServerLifecycleEvents.SERVER_STARTED.register(EnchantmentTraitsComponentTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(RangedWeaponComponentTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(FullyAutomaticFirearmSessionTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(DynamicComponentTest::test);
+		ServerLifecycleEvents.SERVER_STARTED.register(ProjectileMagazineComponentTest::test);
 	}
 	
 	/**
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick.client;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.client.ropestick.component.ActiveItemModifiers;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.*;
+
+import static pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes.*;
+
+/**
+ * Test {@link ActiveItemModifiers}
+ */
+public interface ActiveItemModifiersTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingActiveItemModifiers");
+
+    /**
+     * 测试
+     */
+    static void test() {
+        ItemStack scope = new ItemStack(Items.STICK);
+        scope.set(ADJUST_FOV_WHILE_HOLD, AdjustFovWhileHoldComponent.create(true, AdjustFovData.SPYGLASS_SCOPE, false, 2));
+        scope.set(MODIFY_MOVE_WHILE_HOLD, ModifyMoveWhileHoldComponent.of(0.5F));
+        ItemStack offHandScope = scope.copy();
+        ItemStack bow = new ItemStack(Items.BOW);
+        bow.set(ADJUST_FOV_WHILE_USE, AdjustFovWhileUseComponent.create(false, null, false, 2));
+        bow.set(MODIFY_MOVE_WHILE_USE, ModifyMoveWhileUseComponent.of(0.4F));
+        ActiveItemModifiers.Modifiers none = ActiveItemModifiers.resolve(ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY, false, 0, true);
+        LOGGER.info("empty hands: {} (expected NONE = {})", none, none == ActiveItemModifiers.Modifiers.NONE);
+        // 副手物品与主手物品冲突，只应用主手物品
+        ActiveItemModifiers.Modifiers hold = ActiveItemModifiers.resolve(scope, offHandScope, ItemStack.EMPTY, false, 0, true);
+        LOGGER.info("hold first person: fov offset {} (expected 0.5), sensitivity {} (expected 0.125), move {} (expected 0.5), overlays {} (expected 1)",
+                hold.fovOffset(), hold.sensitivity(), hold.moveMultiple(), hold.hudOverlays().size());
+        ActiveItemModifiers.Modifiers thirdPerson = ActiveItemModifiers.resolve(scope, ItemStack.EMPTY, ItemStack.EMPTY, false, 0, false);
+        LOGGER.info("hold third person: fov offset {} (expected 0), sensitivity {} (expected 1), move {} (expected 0.5), overlays {} (expected 0)",
+                thirdPerson.fovOffset(), thirdPerson.sensitivity(), thirdPerson.moveMultiple(), thirdPerson.hudOverlays().size());
+        ActiveItemModifiers.Modifiers use = ActiveItemModifiers.resolve(bow, ItemStack.EMPTY, bow, true, 0.5F, false);
+        LOGGER.info("half drawn bow: fov offset {} (expected 0.25), sensitivity {} (expected 0.421875), move {} (expected 2)",
+                use.fovOffset(), use.sensitivity(), use.moveMultiple());
+        ActiveItemModifiers.Modifiers released = ActiveItemModifiers.resolve(bow, ItemStack.EMPTY, ItemStack.EMPTY, false, 0, false);
+        LOGGER.info("released bow: {} (expected NONE = {})", released, released == ActiveItemModifiers.Modifiers.NONE);
+        int frames = 1_000_000;
+        long start = System.nanoTime();
+        float sum = 0;
+        for (int frame = 0; frame < frames; frame++) sum += ActiveItemModifiers.getSensitivity((frame & 0xFF) / 255F);
+        LOGGER.info("{} interpolated sensitivity reads took {} ms ({})", frames, (System.nanoTime() - start) / 1_000_000, sum);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.ropestick.client;
+
+import com.mojang.authlib.GameProfile;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.item.ModelPredicateProvider;
+import net.minecraft.client.item.ModelPredicateProviderRegistry;
+import net.minecraft.client.network.OtherClientPlayerEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Hand;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.client.ropestick.ranged.ModelPredicateCache;
+import pers.saikel0rado1iu.silk.api.ropestick.component.DataComponentTypes;
+import pers.saikel0rado1iu.silk.api.ropestick.component.type.RangedWeaponComponent;
+import pers.saikel0rado1iu.silk.test.ropestick.Items;
+
+import java.util.UUID;
+
+/**
+ * Test {@link ModelPredicateCache}
+ */
+public interface ModelPredicateCacheTest {
+    /** 日志 */
+    Logger LOGGER = LoggerFactory.getLogger("SilkRopeStick/TestingModelPredicateCache");
+
+    /**
+     * 测试<br>
+     * 在客户端加入世界后于客户端线程上运行，使用不加入世界的客户端玩家实体，与渲染时调用谓词的环境一致
+     *
+     * @param client 客户端
+     */
+    static void test(MinecraftClient client) {
+        if (client.world == null) {
+            return;
+        }
+        OtherClientPlayerEntity player = new OtherClientPlayerEntity(client.world, new GameProfile(UUID.randomUUID(), "predicate_tester"));
+        PlayerInventory inventory = player.getInventory();
+        ItemStack bow = Items.TEST_BOW.getDefaultStack();
+        RangedWeaponComponent component = bow.getOrDefault(DataComponentTypes.RANGED_WEAPON, RangedWeaponComponent.BOW);
+        player.setStackInHand(Hand.MAIN_HAND, bow);
+        // 将发射物放在物品栏最末端，使未缓存的谓词每次都要扫描物品栏
+        for (int slot = 0; slot < inventory.main.size() - 1; slot++) {
+            if (slot != inventory.selectedSlot) {
+                inventory.main.set(slot, net.minecraft.item.Items.COBBLESTONE.getDefaultStack());
+            }
+        }
+        inventory.main.set(inventory.main.size() - 1, new ItemStack(net.minecraft.item.Items.SPECTRAL_ARROW, 64));
+        player.setCurrentHand(Hand.MAIN_HAND);
+        ModelPredicateProvider index = ModelPredicateProviderRegistry.get(bow, Identifier.of(RangedWeaponComponent.PROJECTILE_INDEX_KEY));
+        if (index == null) {
+            LOGGER.error("projectile index predicate is not registered for {}", bow);
+            return;
+        }
+        float expected = component.getProjectileIndex(player, bow);
+        LOGGER.info("cached index = {} (expected {})", index.call(bow, null, player, 0), expected);
+        // 同一刻内物品栏变化不会刷新缓存，进入下一刻后刷新
+        inventory.main.set(inventory.main.size() - 1, new ItemStack(net.minecraft.item.Items.ARROW, 64));
+        LOGGER.info("same tick index = {} (expected {})", index.call(bow, null, player, 0), expected);
+        player.age++;
+        LOGGER.info("next tick index = {} (expected {})", index.call(bow, null, player, 0), component.getProjectileIndex(player, bow));
+        benchmark(index, component, player, bow, 1000, 64);
+    }
+
+    /**
+     * 模拟每刻多次渲染同一物品，对比缓存与直接计算的耗时
+     *
+     * @param index     发射物索引谓词
+     * @param component 远程武器组件
+     * @param player    玩家
+     * @param bow       弓
+     * @param ticks     刻数
+     * @param frames    每刻的渲染次数
+     */
+    static void benchmark(ModelPredicateProvider index, RangedWeaponComponent component, PlayerEntity player, ItemStack bow, int ticks, int frames) {
+        for (int round = 0; round < 3; round++) {
+            float sum = 0;
+            long start = System.nanoTime();
+            for (int tick = 0; tick < ticks; tick++) {
+                for (int frame = 0; frame < frames; frame++) {
+                    sum += component.getProjectileIndex(player, bow);
+                }
+            }
+            long direct = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int tick = 0; tick < ticks; tick++) {
+                player.age++;
+                for (int frame = 0; frame < frames; frame++) {
+                    sum -= index.call(bow, null, player, 0);
+                }
+            }
+            long cached = System.nanoTime() - start;
+            LOGGER.info("round {}: {} ticks x {} frames, direct {} ms, cached {} ms (difference {}, expected 0)",
+                    round, ticks, frames, direct / 1_000_000, cached / 1_000_000, sum);
+        }
+    }
+}
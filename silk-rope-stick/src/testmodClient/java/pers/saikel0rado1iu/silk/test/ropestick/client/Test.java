@@ -12,6 +12,7 @@
 package pers.saikel0rado1iu.silk.test.ropestick.client;
 
 import com.google.common.collect.ImmutableSet;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import pers.saikel0rado1iu.silk.api.client.ropestick.ranged.BowModelPredicateProvider;
 import pers.saikel0rado1iu.silk.api.client.ropestick.ranged.CrossbowModelPredicateProvider;
 import pers.saikel0rado1iu.silk.api.client.ropestick.ranged.FirearmModelPredicateProvider;
@@ -38,6 +39,8 @@ public final class Test implements ModClient {
 		BowModelPredicateProvider.register(Items.TEST_BOW);
 		CrossbowModelPredicateProvider.register(Items.TEST_CROSSBOW);
 		FirearmModelPredicateProvider.register(Items.TEST_BOLT_ACTION_REPEATING_FIREARM);
+		ActiveItemModifiersTest.test();
+		ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> ModelPredicateCacheTest.test(client));
 	}
 	
 	/**
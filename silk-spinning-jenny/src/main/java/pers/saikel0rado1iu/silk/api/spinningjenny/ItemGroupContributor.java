@@ -0,0 +1,136 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.api.spinningjenny;
+
+import net.fabricmc.fabric.api.itemgroup.v1.FabricItemGroupEntries;
+import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemConvertible;
+import net.minecraft.item.ItemGroup;
+import net.minecraft.registry.RegistryKey;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * <h2>物品组贡献器</h2>
+ * 按物品组收集物品，每个物品组只注册一个 {@link ItemGroupEvents#modifyEntriesEvent(RegistryKey)} 监听器<br>
+ * 物品按注册顺序加入物品组，放置在同一物品之后的多个物品也会保持注册顺序
+ *
+ * @author <a href="https://github.com/Saikel-Orado-Liu">
+ *         <img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4">
+ *         </a>
+ * @since 1.2.2
+ */
+public final class ItemGroupContributor {
+    private static final Map<RegistryKey<ItemGroup>, List<Contribution>> CONTRIBUTIONS = new LinkedHashMap<>();
+    private static final AtomicLong INVOCATIONS = new AtomicLong();
+
+    private ItemGroupContributor() {
+    }
+
+    /**
+     * 将物品添加到物品组末尾
+     *
+     * @param group 物品组
+     * @param item  物品提供器，在物品组构建时才会获取物品
+     */
+    public static void add(RegistryKey<ItemGroup> group, Supplier<? extends Item> item) {
+        contribute(group, new Contribution(item, null, null));
+    }
+
+    /**
+     * 将物品放置在指定物品之后
+     *
+     * @param group  物品组
+     * @param anchor 锚点物品
+     * @param item   物品提供器，在物品组构建时才会获取物品
+     */
+    public static void addAfter(RegistryKey<ItemGroup> group, ItemConvertible anchor,
+                                Supplier<? extends Item> item) {
+        contribute(group, new Contribution(item, anchor, null));
+    }
+
+    /**
+     * 使用自定义方法将物品添加到物品组
+     *
+     * @param group    物品组
+     * @param item     物品提供器，在物品组构建时才会获取物品
+     * @param consumer 添加方法
+     */
+    public static void add(RegistryKey<ItemGroup> group, Supplier<? extends Item> item,
+                           BiConsumer<FabricItemGroupEntries, Item> consumer) {
+        contribute(group, new Contribution(item, null, consumer));
+    }
+
+    /**
+     * 获取已注册的监听器数，每个物品组最多一个
+     *
+     * @return 监听器数
+     */
+    public static synchronized int listenerCount() {
+        return CONTRIBUTIONS.size();
+    }
+
+    /**
+     * 获取监听器被调用的总次数
+     *
+     * @return 调用次数
+     */
+    public static long invocationCount() {
+        return INVOCATIONS.get();
+    }
+
+    private static synchronized void contribute(RegistryKey<ItemGroup> group, Contribution contribution) {
+        List<Contribution> contributions = CONTRIBUTIONS.get(group);
+        if (contributions == null) {
+            contributions = new ArrayList<>();
+            CONTRIBUTIONS.put(group, contributions);
+            ItemGroupEvents.modifyEntriesEvent(group).register(entries -> modifyEntries(group, entries));
+        }
+        contributions.add(contribution);
+    }
+
+    private static void modifyEntries(RegistryKey<ItemGroup> group, FabricItemGroupEntries entries) {
+        INVOCATIONS.incrementAndGet();
+        List<Contribution> contributions;
+        synchronized (ItemGroupContributor.class) {
+            contributions = List.copyOf(CONTRIBUTIONS.get(group));
+        }
+        // 记录每个锚点最后放置的物品，使放置在同一锚点之后的物品保持注册顺序
+        Map<ItemConvertible, ItemConvertible> lastAfter = new HashMap<>();
+        for (Contribution contribution : contributions) {
+            Item item = contribution.item.get();
+            if (contribution.consumer != null) {
+                contribution.consumer.accept(entries, item);
+            } else if (contribution.anchor != null) {
+                entries.addAfter(lastAfter.getOrDefault(contribution.anchor, contribution.anchor), item);
+                lastAfter.put(contribution.anchor, item);
+            } else {
+                entries.add(item);
+            }
+        }
+    }
+
+    /**
+     * 物品组贡献
+     *
+     * @param item     物品提供器
+     * @param anchor   锚点物品，为空时添加到末尾
+     * @param consumer 自定义添加方法
+     */
+    private record Contribution(Supplier<? extends Item> item, ItemConvertible anchor,
+                                BiConsumer<FabricItemGroupEntries, Item> consumer) {
+    }
+}
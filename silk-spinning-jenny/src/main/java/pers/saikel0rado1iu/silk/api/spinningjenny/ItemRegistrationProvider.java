@@ -12,10 +12,10 @@
 package pers.saikel0rado1iu.silk.api.spinningjenny;
 
 import net.fabricmc.fabric.api.itemgroup.v1.FabricItemGroupEntries;
-import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.minecraft.block.Block;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemConvertible;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.Registry;
@@ -204,10 +204,22 @@ public interface ItemRegistrationProvider
          */
         @SafeVarargs
         public final MainRegistrar<T> group(RegistryKey<ItemGroup>... groups) {
-            Arrays.stream(groups)
-                  .forEach(group -> ItemGroupEvents
-                          .modifyEntriesEvent(group)
-                          .register(content -> content.add(reg(null))));
+            Arrays.stream(groups).forEach(group -> ItemGroupContributor.add(group, () -> reg(null)));
+            return this;
+        }
+
+        /**
+         * 注册物品组
+         * <p>
+         * 将此物品放置在物品组中的指定物品之后，放置在同一物品之后的多个物品保持注册顺序
+         *
+         * @param group  物品组
+         * @param anchor 锚点物品
+         * @return 注册器
+         * @since 1.2.2
+         */
+        public MainRegistrar<T> groupAfter(RegistryKey<ItemGroup> group, ItemConvertible anchor) {
+            ItemGroupContributor.addAfter(group, anchor, () -> reg(null));
             return this;
         }
 
@@ -222,8 +234,7 @@ public interface ItemRegistrationProvider
          */
         public MainRegistrar<T> group(RegistryKey<ItemGroup> group,
                                       BiConsumer<FabricItemGroupEntries, Item> addConsumer) {
-            ItemGroupEvents.modifyEntriesEvent(group)
-                           .register(content -> addConsumer.accept(content, reg(null)));
+            ItemGroupContributor.add(group, () -> reg(null), addConsumer);
             return this;
         }
 
@@ -239,8 +250,7 @@ public interface ItemRegistrationProvider
                 Map<RegistryKey<ItemGroup>, BiConsumer<FabricItemGroupEntries, Item>> groupMap) {
             for (Map.Entry<RegistryKey<ItemGroup>,
                     BiConsumer<FabricItemGroupEntries, Item>> entry : groupMap.entrySet()) {
-                ItemGroupEvents.modifyEntriesEvent(entry.getKey())
-                               .register(content -> entry.getValue().accept(content, reg(null)));
+                ItemGroupContributor.add(entry.getKey(), () -> reg(null), entry.getValue());
             }
             return this;
         }
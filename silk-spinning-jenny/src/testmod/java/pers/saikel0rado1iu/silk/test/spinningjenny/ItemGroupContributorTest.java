@@ -0,0 +1,103 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.spinningjenny;
+
+import net.fabricmc.fabric.api.itemgroup.v1.FabricItemGroupEntries;
+import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroup;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.resource.featuretoggle.FeatureFlags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.spinningjenny.ItemGroupContributor;
+import pers.saikel0rado1iu.silk.impl.SilkSpinningJenny;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test {@link ItemGroupContributor}
+ */
+public interface ItemGroupContributorTest {
+    /**
+     * 日志
+     */
+    Logger LOGGER = LoggerFactory.getLogger("SilkSpinningJenny/TestingItemGroupContributor");
+    /**
+     * 物品组构建次数
+     */
+    int BUILDS = 20;
+
+    /**
+     * 测试
+     */
+    static void test() {
+        RegistryKey<ItemGroup> legacyGroup = RegistryKey.of(RegistryKeys.ITEM_GROUP,
+                SilkSpinningJenny.INSTANCE.ofId("legacy_benchmark_group"));
+        RegistryKey<ItemGroup> batchedGroup = RegistryKey.of(RegistryKeys.ITEM_GROUP,
+                SilkSpinningJenny.INSTANCE.ofId("batched_benchmark_group"));
+        List<Item> items = Registries.ITEM.stream().filter(item -> item != Items.AIR).toList();
+        // 优化前的实现：每个物品注册一个监听器
+        AtomicLong legacyInvocations = new AtomicLong();
+        for (Item item : items) {
+            ItemGroupEvents.modifyEntriesEvent(legacyGroup).register(content -> {
+                legacyInvocations.incrementAndGet();
+                content.add(item);
+            });
+        }
+        int listeners = ItemGroupContributor.listenerCount();
+        for (Item item : items) {
+            ItemGroupContributor.add(batchedGroup, () -> item);
+        }
+        long invocations = ItemGroupContributor.invocationCount();
+        long legacyTime = 0;
+        long batchedTime = 0;
+        int legacySize = 0;
+        int batchedSize = 0;
+        for (int count = 0; count < BUILDS; count++) {
+            long start = System.nanoTime();
+            legacySize = build(legacyGroup).size();
+            legacyTime += System.nanoTime() - start;
+            start = System.nanoTime();
+            batchedSize = build(batchedGroup).size();
+            batchedTime += System.nanoTime() - start;
+        }
+        LOGGER.info("{} items x {} tab builds: per-item listeners {} invocations / {} ms ({} stacks), batched {} listener(s) {} invocations / {} ms ({} stacks)",
+                items.size(), BUILDS, legacyInvocations.get(), legacyTime / 1_000_000.0, legacySize,
+                ItemGroupContributor.listenerCount() - listeners, ItemGroupContributor.invocationCount() - invocations,
+                batchedTime / 1_000_000.0, batchedSize);
+        // 放置在同一物品之后的物品应保持注册顺序
+        RegistryKey<ItemGroup> orderGroup = RegistryKey.of(RegistryKeys.ITEM_GROUP,
+                SilkSpinningJenny.INSTANCE.ofId("order_test_group"));
+        ItemGroupContributor.add(orderGroup, () -> Items.STONE);
+        ItemGroupContributor.add(orderGroup, () -> Items.DIRT);
+        ItemGroupContributor.addAfter(orderGroup, Items.STONE, () -> Items.GRANITE);
+        ItemGroupContributor.addAfter(orderGroup, Items.STONE, () -> Items.DIORITE);
+        ItemGroupContributor.addAfter(orderGroup, Items.STONE, () -> Items.ANDESITE);
+        LOGGER.info("Order test group = {}", build(orderGroup).stream().map(ItemStack::getItem).toList());
+    }
+
+    private static List<ItemStack> build(RegistryKey<ItemGroup> group) {
+        List<ItemStack> displayStacks = new ArrayList<>();
+        FabricItemGroupEntries entries = new FabricItemGroupEntries(
+                new ItemGroup.DisplayContext(FeatureFlags.DEFAULT_ENABLED_FEATURES, false, null),
+                displayStacks, new ArrayList<>());
+        ItemGroupEvents.modifyEntriesEvent(group).invoker().modifyEntries(entries);
+        return displayStacks;
+    }
+}
@@ -0,0 +1,1566 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.spinningjenny;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroups;
+import pers.saikel0rado1iu.silk.api.annotation.RegistryNamespace;
+import pers.saikel0rado1iu.silk.api.spinningjenny.ItemRegistrationProvider;
+import pers.saikel0rado1iu.silk.api.spinningjenny.ItemRegistry;
+import pers.saikel0rado1iu.silk.impl.SilkId;
+
+/**
+ * {@code MainRegistryOverwriteProcessor} 的编译期测试夹具注册器<br>
+ * 由 {@code testmodClient} 中的 {@code MainRegistryOverwriteFixture} 覆写，不会被加入注册表也不会在运行时加载。
+ * 字段按序号依次循环四种声明方式：调用 {@code group}、只调用注册器、不调用注册器、以可变参数调用 {@code group}，
+ * 用于检验注册器与 {@code group} 的调用序号不会归属到错误的字段
+ */
+@SuppressWarnings("unused")
+@RegistryNamespace(SilkId.SILK_SPINNING_JENNY)
+public interface MainRegistryOverwriteFixtureItems extends ItemRegistry {
+    /**
+     * fixture_item_000
+     */
+    Item FIXTURE_ITEM_000 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_000"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_001，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_001 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_001"))
+            .register();
+    /**
+     * fixture_item_002，未调用注册器
+     */
+    Item FIXTURE_ITEM_002 = new Item(new Item.Settings());
+    /**
+     * fixture_item_003，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_003 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_003"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_004
+     */
+    Item FIXTURE_ITEM_004 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_004"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_005，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_005 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_005"))
+            .register();
+    /**
+     * fixture_item_006，未调用注册器
+     */
+    Item FIXTURE_ITEM_006 = new Item(new Item.Settings());
+    /**
+     * fixture_item_007，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_007 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_007"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_008
+     */
+    Item FIXTURE_ITEM_008 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_008"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_009，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_009 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_009"))
+            .register();
+    /**
+     * fixture_item_010，未调用注册器
+     */
+    Item FIXTURE_ITEM_010 = new Item(new Item.Settings());
+    /**
+     * fixture_item_011，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_011 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_011"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_012
+     */
+    Item FIXTURE_ITEM_012 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_012"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_013，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_013 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_013"))
+            .register();
+    /**
+     * fixture_item_014，未调用注册器
+     */
+    Item FIXTURE_ITEM_014 = new Item(new Item.Settings());
+    /**
+     * fixture_item_015，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_015 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_015"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_016
+     */
+    Item FIXTURE_ITEM_016 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_016"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_017，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_017 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_017"))
+            .register();
+    /**
+     * fixture_item_018，未调用注册器
+     */
+    Item FIXTURE_ITEM_018 = new Item(new Item.Settings());
+    /**
+     * fixture_item_019，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_019 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_019"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_020
+     */
+    Item FIXTURE_ITEM_020 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_020"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_021，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_021 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_021"))
+            .register();
+    /**
+     * fixture_item_022，未调用注册器
+     */
+    Item FIXTURE_ITEM_022 = new Item(new Item.Settings());
+    /**
+     * fixture_item_023，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_023 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_023"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_024
+     */
+    Item FIXTURE_ITEM_024 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_024"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_025，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_025 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_025"))
+            .register();
+    /**
+     * fixture_item_026，未调用注册器
+     */
+    Item FIXTURE_ITEM_026 = new Item(new Item.Settings());
+    /**
+     * fixture_item_027，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_027 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_027"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_028
+     */
+    Item FIXTURE_ITEM_028 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_028"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_029，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_029 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_029"))
+            .register();
+    /**
+     * fixture_item_030，未调用注册器
+     */
+    Item FIXTURE_ITEM_030 = new Item(new Item.Settings());
+    /**
+     * fixture_item_031，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_031 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_031"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_032
+     */
+    Item FIXTURE_ITEM_032 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_032"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_033，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_033 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_033"))
+            .register();
+    /**
+     * fixture_item_034，未调用注册器
+     */
+    Item FIXTURE_ITEM_034 = new Item(new Item.Settings());
+    /**
+     * fixture_item_035，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_035 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_035"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_036
+     */
+    Item FIXTURE_ITEM_036 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_036"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_037，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_037 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_037"))
+            .register();
+    /**
+     * fixture_item_038，未调用注册器
+     */
+    Item FIXTURE_ITEM_038 = new Item(new Item.Settings());
+    /**
+     * fixture_item_039，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_039 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_039"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_040
+     */
+    Item FIXTURE_ITEM_040 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_040"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_041，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_041 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_041"))
+            .register();
+    /**
+     * fixture_item_042，未调用注册器
+     */
+    Item FIXTURE_ITEM_042 = new Item(new Item.Settings());
+    /**
+     * fixture_item_043，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_043 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_043"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_044
+     */
+    Item FIXTURE_ITEM_044 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_044"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_045，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_045 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_045"))
+            .register();
+    /**
+     * fixture_item_046，未调用注册器
+     */
+    Item FIXTURE_ITEM_046 = new Item(new Item.Settings());
+    /**
+     * fixture_item_047，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_047 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_047"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_048
+     */
+    Item FIXTURE_ITEM_048 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_048"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_049，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_049 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_049"))
+            .register();
+    /**
+     * fixture_item_050，未调用注册器
+     */
+    Item FIXTURE_ITEM_050 = new Item(new Item.Settings());
+    /**
+     * fixture_item_051，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_051 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_051"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_052
+     */
+    Item FIXTURE_ITEM_052 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_052"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_053，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_053 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_053"))
+            .register();
+    /**
+     * fixture_item_054，未调用注册器
+     */
+    Item FIXTURE_ITEM_054 = new Item(new Item.Settings());
+    /**
+     * fixture_item_055，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_055 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_055"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_056
+     */
+    Item FIXTURE_ITEM_056 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_056"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_057，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_057 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_057"))
+            .register();
+    /**
+     * fixture_item_058，未调用注册器
+     */
+    Item FIXTURE_ITEM_058 = new Item(new Item.Settings());
+    /**
+     * fixture_item_059，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_059 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_059"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_060
+     */
+    Item FIXTURE_ITEM_060 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_060"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_061，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_061 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_061"))
+            .register();
+    /**
+     * fixture_item_062，未调用注册器
+     */
+    Item FIXTURE_ITEM_062 = new Item(new Item.Settings());
+    /**
+     * fixture_item_063，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_063 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_063"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_064
+     */
+    Item FIXTURE_ITEM_064 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_064"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_065，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_065 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_065"))
+            .register();
+    /**
+     * fixture_item_066，未调用注册器
+     */
+    Item FIXTURE_ITEM_066 = new Item(new Item.Settings());
+    /**
+     * fixture_item_067，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_067 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_067"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_068
+     */
+    Item FIXTURE_ITEM_068 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_068"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_069，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_069 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_069"))
+            .register();
+    /**
+     * fixture_item_070，未调用注册器
+     */
+    Item FIXTURE_ITEM_070 = new Item(new Item.Settings());
+    /**
+     * fixture_item_071，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_071 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_071"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_072
+     */
+    Item FIXTURE_ITEM_072 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_072"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_073，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_073 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_073"))
+            .register();
+    /**
+     * fixture_item_074，未调用注册器
+     */
+    Item FIXTURE_ITEM_074 = new Item(new Item.Settings());
+    /**
+     * fixture_item_075，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_075 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_075"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_076
+     */
+    Item FIXTURE_ITEM_076 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_076"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_077，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_077 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_077"))
+            .register();
+    /**
+     * fixture_item_078，未调用注册器
+     */
+    Item FIXTURE_ITEM_078 = new Item(new Item.Settings());
+    /**
+     * fixture_item_079，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_079 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_079"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_080
+     */
+    Item FIXTURE_ITEM_080 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_080"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_081，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_081 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_081"))
+            .register();
+    /**
+     * fixture_item_082，未调用注册器
+     */
+    Item FIXTURE_ITEM_082 = new Item(new Item.Settings());
+    /**
+     * fixture_item_083，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_083 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_083"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_084
+     */
+    Item FIXTURE_ITEM_084 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_084"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_085，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_085 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_085"))
+            .register();
+    /**
+     * fixture_item_086，未调用注册器
+     */
+    Item FIXTURE_ITEM_086 = new Item(new Item.Settings());
+    /**
+     * fixture_item_087，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_087 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_087"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_088
+     */
+    Item FIXTURE_ITEM_088 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_088"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_089，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_089 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_089"))
+            .register();
+    /**
+     * fixture_item_090，未调用注册器
+     */
+    Item FIXTURE_ITEM_090 = new Item(new Item.Settings());
+    /**
+     * fixture_item_091，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_091 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_091"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_092
+     */
+    Item FIXTURE_ITEM_092 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_092"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_093，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_093 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_093"))
+            .register();
+    /**
+     * fixture_item_094，未调用注册器
+     */
+    Item FIXTURE_ITEM_094 = new Item(new Item.Settings());
+    /**
+     * fixture_item_095，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_095 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_095"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_096
+     */
+    Item FIXTURE_ITEM_096 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_096"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_097，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_097 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_097"))
+            .register();
+    /**
+     * fixture_item_098，未调用注册器
+     */
+    Item FIXTURE_ITEM_098 = new Item(new Item.Settings());
+    /**
+     * fixture_item_099，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_099 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_099"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_100
+     */
+    Item FIXTURE_ITEM_100 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_100"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_101，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_101 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_101"))
+            .register();
+    /**
+     * fixture_item_102，未调用注册器
+     */
+    Item FIXTURE_ITEM_102 = new Item(new Item.Settings());
+    /**
+     * fixture_item_103，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_103 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_103"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_104
+     */
+    Item FIXTURE_ITEM_104 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_104"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_105，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_105 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_105"))
+            .register();
+    /**
+     * fixture_item_106，未调用注册器
+     */
+    Item FIXTURE_ITEM_106 = new Item(new Item.Settings());
+    /**
+     * fixture_item_107，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_107 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_107"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_108
+     */
+    Item FIXTURE_ITEM_108 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_108"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_109，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_109 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_109"))
+            .register();
+    /**
+     * fixture_item_110，未调用注册器
+     */
+    Item FIXTURE_ITEM_110 = new Item(new Item.Settings());
+    /**
+     * fixture_item_111，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_111 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_111"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_112
+     */
+    Item FIXTURE_ITEM_112 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_112"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_113，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_113 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_113"))
+            .register();
+    /**
+     * fixture_item_114，未调用注册器
+     */
+    Item FIXTURE_ITEM_114 = new Item(new Item.Settings());
+    /**
+     * fixture_item_115，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_115 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_115"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_116
+     */
+    Item FIXTURE_ITEM_116 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_116"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_117，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_117 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_117"))
+            .register();
+    /**
+     * fixture_item_118，未调用注册器
+     */
+    Item FIXTURE_ITEM_118 = new Item(new Item.Settings());
+    /**
+     * fixture_item_119，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_119 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_119"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_120
+     */
+    Item FIXTURE_ITEM_120 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_120"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_121，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_121 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_121"))
+            .register();
+    /**
+     * fixture_item_122，未调用注册器
+     */
+    Item FIXTURE_ITEM_122 = new Item(new Item.Settings());
+    /**
+     * fixture_item_123，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_123 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_123"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_124
+     */
+    Item FIXTURE_ITEM_124 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_124"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_125，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_125 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_125"))
+            .register();
+    /**
+     * fixture_item_126，未调用注册器
+     */
+    Item FIXTURE_ITEM_126 = new Item(new Item.Settings());
+    /**
+     * fixture_item_127，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_127 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_127"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_128
+     */
+    Item FIXTURE_ITEM_128 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_128"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_129，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_129 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_129"))
+            .register();
+    /**
+     * fixture_item_130，未调用注册器
+     */
+    Item FIXTURE_ITEM_130 = new Item(new Item.Settings());
+    /**
+     * fixture_item_131，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_131 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_131"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_132
+     */
+    Item FIXTURE_ITEM_132 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_132"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_133，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_133 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_133"))
+            .register();
+    /**
+     * fixture_item_134，未调用注册器
+     */
+    Item FIXTURE_ITEM_134 = new Item(new Item.Settings());
+    /**
+     * fixture_item_135，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_135 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_135"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_136
+     */
+    Item FIXTURE_ITEM_136 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_136"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_137，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_137 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_137"))
+            .register();
+    /**
+     * fixture_item_138，未调用注册器
+     */
+    Item FIXTURE_ITEM_138 = new Item(new Item.Settings());
+    /**
+     * fixture_item_139，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_139 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_139"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_140
+     */
+    Item FIXTURE_ITEM_140 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_140"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_141，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_141 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_141"))
+            .register();
+    /**
+     * fixture_item_142，未调用注册器
+     */
+    Item FIXTURE_ITEM_142 = new Item(new Item.Settings());
+    /**
+     * fixture_item_143，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_143 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_143"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_144
+     */
+    Item FIXTURE_ITEM_144 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_144"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_145，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_145 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_145"))
+            .register();
+    /**
+     * fixture_item_146，未调用注册器
+     */
+    Item FIXTURE_ITEM_146 = new Item(new Item.Settings());
+    /**
+     * fixture_item_147，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_147 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_147"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_148
+     */
+    Item FIXTURE_ITEM_148 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_148"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_149，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_149 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_149"))
+            .register();
+    /**
+     * fixture_item_150，未调用注册器
+     */
+    Item FIXTURE_ITEM_150 = new Item(new Item.Settings());
+    /**
+     * fixture_item_151，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_151 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_151"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_152
+     */
+    Item FIXTURE_ITEM_152 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_152"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_153，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_153 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_153"))
+            .register();
+    /**
+     * fixture_item_154，未调用注册器
+     */
+    Item FIXTURE_ITEM_154 = new Item(new Item.Settings());
+    /**
+     * fixture_item_155，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_155 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_155"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_156
+     */
+    Item FIXTURE_ITEM_156 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_156"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_157，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_157 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_157"))
+            .register();
+    /**
+     * fixture_item_158，未调用注册器
+     */
+    Item FIXTURE_ITEM_158 = new Item(new Item.Settings());
+    /**
+     * fixture_item_159，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_159 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_159"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_160
+     */
+    Item FIXTURE_ITEM_160 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_160"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_161，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_161 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_161"))
+            .register();
+    /**
+     * fixture_item_162，未调用注册器
+     */
+    Item FIXTURE_ITEM_162 = new Item(new Item.Settings());
+    /**
+     * fixture_item_163，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_163 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_163"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_164
+     */
+    Item FIXTURE_ITEM_164 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_164"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_165，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_165 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_165"))
+            .register();
+    /**
+     * fixture_item_166，未调用注册器
+     */
+    Item FIXTURE_ITEM_166 = new Item(new Item.Settings());
+    /**
+     * fixture_item_167，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_167 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_167"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_168
+     */
+    Item FIXTURE_ITEM_168 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_168"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_169，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_169 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_169"))
+            .register();
+    /**
+     * fixture_item_170，未调用注册器
+     */
+    Item FIXTURE_ITEM_170 = new Item(new Item.Settings());
+    /**
+     * fixture_item_171，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_171 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_171"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_172
+     */
+    Item FIXTURE_ITEM_172 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_172"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_173，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_173 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_173"))
+            .register();
+    /**
+     * fixture_item_174，未调用注册器
+     */
+    Item FIXTURE_ITEM_174 = new Item(new Item.Settings());
+    /**
+     * fixture_item_175，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_175 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_175"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_176
+     */
+    Item FIXTURE_ITEM_176 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_176"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_177，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_177 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_177"))
+            .register();
+    /**
+     * fixture_item_178，未调用注册器
+     */
+    Item FIXTURE_ITEM_178 = new Item(new Item.Settings());
+    /**
+     * fixture_item_179，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_179 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_179"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_180
+     */
+    Item FIXTURE_ITEM_180 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_180"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_181，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_181 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_181"))
+            .register();
+    /**
+     * fixture_item_182，未调用注册器
+     */
+    Item FIXTURE_ITEM_182 = new Item(new Item.Settings());
+    /**
+     * fixture_item_183，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_183 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_183"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_184
+     */
+    Item FIXTURE_ITEM_184 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_184"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_185，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_185 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_185"))
+            .register();
+    /**
+     * fixture_item_186，未调用注册器
+     */
+    Item FIXTURE_ITEM_186 = new Item(new Item.Settings());
+    /**
+     * fixture_item_187，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_187 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_187"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_188
+     */
+    Item FIXTURE_ITEM_188 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_188"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_189，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_189 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_189"))
+            .register();
+    /**
+     * fixture_item_190，未调用注册器
+     */
+    Item FIXTURE_ITEM_190 = new Item(new Item.Settings());
+    /**
+     * fixture_item_191，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_191 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_191"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_192
+     */
+    Item FIXTURE_ITEM_192 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_192"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_193，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_193 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_193"))
+            .register();
+    /**
+     * fixture_item_194，未调用注册器
+     */
+    Item FIXTURE_ITEM_194 = new Item(new Item.Settings());
+    /**
+     * fixture_item_195，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_195 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_195"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_196
+     */
+    Item FIXTURE_ITEM_196 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_196"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_197，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_197 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_197"))
+            .register();
+    /**
+     * fixture_item_198，未调用注册器
+     */
+    Item FIXTURE_ITEM_198 = new Item(new Item.Settings());
+    /**
+     * fixture_item_199，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_199 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_199"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_200
+     */
+    Item FIXTURE_ITEM_200 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_200"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_201，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_201 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_201"))
+            .register();
+    /**
+     * fixture_item_202，未调用注册器
+     */
+    Item FIXTURE_ITEM_202 = new Item(new Item.Settings());
+    /**
+     * fixture_item_203，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_203 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_203"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_204
+     */
+    Item FIXTURE_ITEM_204 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_204"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_205，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_205 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_205"))
+            .register();
+    /**
+     * fixture_item_206，未调用注册器
+     */
+    Item FIXTURE_ITEM_206 = new Item(new Item.Settings());
+    /**
+     * fixture_item_207，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_207 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_207"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_208
+     */
+    Item FIXTURE_ITEM_208 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_208"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_209，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_209 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_209"))
+            .register();
+    /**
+     * fixture_item_210，未调用注册器
+     */
+    Item FIXTURE_ITEM_210 = new Item(new Item.Settings());
+    /**
+     * fixture_item_211，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_211 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_211"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_212
+     */
+    Item FIXTURE_ITEM_212 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_212"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_213，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_213 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_213"))
+            .register();
+    /**
+     * fixture_item_214，未调用注册器
+     */
+    Item FIXTURE_ITEM_214 = new Item(new Item.Settings());
+    /**
+     * fixture_item_215，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_215 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_215"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_216
+     */
+    Item FIXTURE_ITEM_216 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_216"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_217，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_217 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_217"))
+            .register();
+    /**
+     * fixture_item_218，未调用注册器
+     */
+    Item FIXTURE_ITEM_218 = new Item(new Item.Settings());
+    /**
+     * fixture_item_219，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_219 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_219"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_220
+     */
+    Item FIXTURE_ITEM_220 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_220"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_221，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_221 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_221"))
+            .register();
+    /**
+     * fixture_item_222，未调用注册器
+     */
+    Item FIXTURE_ITEM_222 = new Item(new Item.Settings());
+    /**
+     * fixture_item_223，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_223 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_223"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_224
+     */
+    Item FIXTURE_ITEM_224 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_224"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_225，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_225 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_225"))
+            .register();
+    /**
+     * fixture_item_226，未调用注册器
+     */
+    Item FIXTURE_ITEM_226 = new Item(new Item.Settings());
+    /**
+     * fixture_item_227，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_227 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_227"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_228
+     */
+    Item FIXTURE_ITEM_228 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_228"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_229，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_229 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_229"))
+            .register();
+    /**
+     * fixture_item_230，未调用注册器
+     */
+    Item FIXTURE_ITEM_230 = new Item(new Item.Settings());
+    /**
+     * fixture_item_231，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_231 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_231"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_232
+     */
+    Item FIXTURE_ITEM_232 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_232"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_233，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_233 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_233"))
+            .register();
+    /**
+     * fixture_item_234，未调用注册器
+     */
+    Item FIXTURE_ITEM_234 = new Item(new Item.Settings());
+    /**
+     * fixture_item_235，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_235 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_235"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_236
+     */
+    Item FIXTURE_ITEM_236 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_236"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_237，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_237 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_237"))
+            .register();
+    /**
+     * fixture_item_238，未调用注册器
+     */
+    Item FIXTURE_ITEM_238 = new Item(new Item.Settings());
+    /**
+     * fixture_item_239，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_239 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_239"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_240
+     */
+    Item FIXTURE_ITEM_240 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_240"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_241，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_241 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_241"))
+            .register();
+    /**
+     * fixture_item_242，未调用注册器
+     */
+    Item FIXTURE_ITEM_242 = new Item(new Item.Settings());
+    /**
+     * fixture_item_243，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_243 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_243"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_244
+     */
+    Item FIXTURE_ITEM_244 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_244"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_245，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_245 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_245"))
+            .register();
+    /**
+     * fixture_item_246，未调用注册器
+     */
+    Item FIXTURE_ITEM_246 = new Item(new Item.Settings());
+    /**
+     * fixture_item_247，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_247 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_247"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_248
+     */
+    Item FIXTURE_ITEM_248 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_248"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_249，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_249 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_249"))
+            .register();
+    /**
+     * fixture_item_250，未调用注册器
+     */
+    Item FIXTURE_ITEM_250 = new Item(new Item.Settings());
+    /**
+     * fixture_item_251，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_251 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_251"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+    /**
+     * fixture_item_252
+     */
+    Item FIXTURE_ITEM_252 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_252"))
+            .group(ItemGroups.BUILDING_BLOCKS)
+            .register();
+    /**
+     * fixture_item_253，未调用 {@code group}
+     */
+    Item FIXTURE_ITEM_253 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_253"))
+            .register();
+    /**
+     * fixture_item_254，未调用注册器
+     */
+    Item FIXTURE_ITEM_254 = new Item(new Item.Settings());
+    /**
+     * fixture_item_255，以可变参数调用 {@code group}
+     */
+    Item FIXTURE_ITEM_255 = ItemRegistry
+            .registrar(() -> ItemRegistrationProvider.builder("fixture_item_255"))
+            .group(ItemGroups.BUILDING_BLOCKS, ItemGroups.COMBAT)
+            .register();
+}
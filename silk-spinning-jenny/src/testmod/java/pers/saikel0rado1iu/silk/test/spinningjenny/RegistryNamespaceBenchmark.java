@@ -0,0 +1,90 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.spinningjenny;
+
+import net.minecraft.item.Item;
+import net.minecraft.util.Identifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.api.annotation.RegistryNamespace;
+import pers.saikel0rado1iu.silk.api.modpass.registry.RegistrationProvider;
+import pers.saikel0rado1iu.silk.api.spinningjenny.ItemRegistrationProvider;
+import pers.saikel0rado1iu.silk.impl.SilkId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试 {@link RegistrationProvider#getNamespace(int)}
+ * <p>
+ * 模拟内容较多的模组在初始化时构建 10000 个物品，只构建而不注册，避免污染物品注册表
+ */
+@RegistryNamespace(SilkId.SILK_SPINNING_JENNY)
+public interface RegistryNamespaceBenchmark {
+    /**
+     * 日志
+     */
+    Logger LOGGER = LoggerFactory.getLogger("SilkSpinningJenny/BenchmarkRegistryNamespace");
+    /**
+     * 物品数
+     */
+    int ITEMS = 10_000;
+
+    /**
+     * 测试
+     */
+    static void test() {
+        String expected = RegistrationProvider.getNamespace(RegistryNamespaceBenchmark.class);
+        LOGGER.info("RegistrationProvider.getNamespace(RegistryNamespaceBenchmark.class) = {}", expected);
+        for (int warmup = 0; warmup < 3; warmup++) {
+            build();
+            buildLegacy();
+        }
+        long start = System.nanoTime();
+        List<ItemRegistrationProvider.Builder<Item>> builders = build();
+        long walked = System.nanoTime() - start;
+        start = System.nanoTime();
+        List<Identifier> legacy = buildLegacy();
+        long captured = System.nanoTime() - start;
+        long mismatches = legacy.stream().filter(id -> !expected.equals(id.getNamespace())).count();
+        LOGGER.info("Building {} items: stack walker {} ms, full stack trace {} ms, namespace mismatches = {}",
+                builders.size(), walked / 1_000_000.0, captured / 1_000_000.0, mismatches);
+    }
+
+    private static List<ItemRegistrationProvider.Builder<Item>> build() {
+        List<ItemRegistrationProvider.Builder<Item>> builders = new ArrayList<>(ITEMS);
+        for (int count = 0; count < ITEMS; count++) {
+            builders.add(ItemRegistrationProvider.builder("benchmark_item_" + count));
+        }
+        return builders;
+    }
+
+    /**
+     * 优化前的实现：每个标识符都捕获完整调用栈并通过类名重新查找调用者
+     */
+    private static List<Identifier> buildLegacy() {
+        List<Identifier> ids = new ArrayList<>(ITEMS);
+        for (int count = 0; count < ITEMS; count++) {
+            ids.add(Identifier.of(legacyNamespace(2), "benchmark_item_" + count));
+        }
+        return ids;
+    }
+
+    private static String legacyNamespace(int callerMethodIndex) {
+        String callerClassName = Thread.currentThread().getStackTrace()[callerMethodIndex].getClassName();
+        try {
+            return Class.forName(callerClassName).getAnnotation(RegistryNamespace.class).value();
+        } catch (ClassNotFoundException e) {
+            return "minecraft";
+        }
+    }
+}
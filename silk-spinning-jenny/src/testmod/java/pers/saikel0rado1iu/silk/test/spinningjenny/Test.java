@@ -36,6 +36,8 @@ public final class Test implements ModMain {
      */
     @Override
     public void main(ModPass mod) {
+        RegistryNamespaceBenchmark.test();
+        ItemGroupContributorTest.test();
     }
 
     /**
@@ -0,0 +1,1704 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package pers.saikel0rado1iu.silk.test.spinningjenny.client;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemGroup;
+import net.minecraft.item.ItemGroups;
+import net.minecraft.registry.RegistryKey;
+import pers.saikel0rado1iu.silk.api.annotation.MainRegistryOverwrite;
+import pers.saikel0rado1iu.silk.api.annotation.Register;
+import pers.saikel0rado1iu.silk.test.spinningjenny.MainRegistryOverwriteFixtureItems;
+
+/**
+ * {@code MainRegistryOverwriteProcessor} 的编译期测试夹具<br>
+ * 覆写注册器中所有调用了注册器的字段，调用了 {@code group} 的字段同时覆写 {@code group}。
+ * 未调用注册器的字段夹在其间，用于检验生成的混入中的调用序号，
+ * 由 {@link MainRegistryOverwriteFixtureTest} 在运行时读取生成的字节码进行断言。
+ * 生成的混入不会被加入混入配置，也不会在运行时加载
+ */
+@SuppressWarnings("unused")
+public interface MainRegistryOverwriteFixture {
+    /**
+     * 生成的混入所在的包
+     */
+    String PACK = "pers.saikel0rado1iu.silk.test.spinningjenny.client.mixin.fixture";
+    /**
+     * 覆写的物品组
+     */
+    @SuppressWarnings("unchecked")
+    RegistryKey<ItemGroup>[] GROUPS = new RegistryKey[]{ItemGroups.TOOLS};
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_000}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_000",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_000 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_001}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_001")
+    Item OVERWRITE_001 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_003}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_003",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_003 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_004}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_004",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_004 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_005}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_005")
+    Item OVERWRITE_005 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_007}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_007",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_007 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_008}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_008",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_008 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_009}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_009")
+    Item OVERWRITE_009 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_011}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_011",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_011 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_012}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_012",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_012 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_013}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_013")
+    Item OVERWRITE_013 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_015}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_015",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_015 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_016}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_016",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_016 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_017}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_017")
+    Item OVERWRITE_017 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_019}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_019",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_019 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_020}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_020",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_020 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_021}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_021")
+    Item OVERWRITE_021 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_023}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_023",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_023 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_024}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_024",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_024 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_025}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_025")
+    Item OVERWRITE_025 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_027}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_027",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_027 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_028}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_028",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_028 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_029}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_029")
+    Item OVERWRITE_029 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_031}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_031",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_031 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_032}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_032",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_032 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_033}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_033")
+    Item OVERWRITE_033 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_035}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_035",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_035 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_036}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_036",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_036 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_037}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_037")
+    Item OVERWRITE_037 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_039}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_039",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_039 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_040}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_040",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_040 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_041}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_041")
+    Item OVERWRITE_041 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_043}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_043",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_043 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_044}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_044",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_044 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_045}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_045")
+    Item OVERWRITE_045 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_047}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_047",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_047 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_048}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_048",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_048 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_049}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_049")
+    Item OVERWRITE_049 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_051}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_051",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_051 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_052}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_052",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_052 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_053}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_053")
+    Item OVERWRITE_053 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_055}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_055",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_055 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_056}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_056",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_056 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_057}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_057")
+    Item OVERWRITE_057 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_059}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_059",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_059 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_060}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_060",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_060 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_061}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_061")
+    Item OVERWRITE_061 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_063}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_063",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_063 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_064}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_064",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_064 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_065}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_065")
+    Item OVERWRITE_065 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_067}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_067",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_067 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_068}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_068",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_068 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_069}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_069")
+    Item OVERWRITE_069 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_071}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_071",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_071 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_072}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_072",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_072 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_073}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_073")
+    Item OVERWRITE_073 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_075}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_075",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_075 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_076}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_076",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_076 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_077}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_077")
+    Item OVERWRITE_077 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_079}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_079",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_079 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_080}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_080",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_080 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_081}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_081")
+    Item OVERWRITE_081 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_083}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_083",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_083 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_084}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_084",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_084 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_085}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_085")
+    Item OVERWRITE_085 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_087}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_087",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_087 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_088}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_088",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_088 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_089}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_089")
+    Item OVERWRITE_089 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_091}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_091",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_091 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_092}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_092",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_092 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_093}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_093")
+    Item OVERWRITE_093 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_095}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_095",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_095 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_096}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_096",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_096 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_097}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_097")
+    Item OVERWRITE_097 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_099}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_099",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_099 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_100}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_100",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_100 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_101}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_101")
+    Item OVERWRITE_101 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_103}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_103",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_103 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_104}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_104",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_104 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_105}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_105")
+    Item OVERWRITE_105 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_107}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_107",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_107 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_108}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_108",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_108 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_109}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_109")
+    Item OVERWRITE_109 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_111}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_111",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_111 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_112}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_112",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_112 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_113}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_113")
+    Item OVERWRITE_113 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_115}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_115",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_115 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_116}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_116",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_116 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_117}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_117")
+    Item OVERWRITE_117 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_119}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_119",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_119 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_120}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_120",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_120 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_121}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_121")
+    Item OVERWRITE_121 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_123}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_123",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_123 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_124}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_124",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_124 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_125}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_125")
+    Item OVERWRITE_125 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_127}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_127",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_127 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_128}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_128",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_128 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_129}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_129")
+    Item OVERWRITE_129 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_131}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_131",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_131 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_132}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_132",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_132 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_133}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_133")
+    Item OVERWRITE_133 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_135}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_135",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_135 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_136}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_136",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_136 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_137}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_137")
+    Item OVERWRITE_137 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_139}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_139",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_139 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_140}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_140",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_140 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_141}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_141")
+    Item OVERWRITE_141 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_143}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_143",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_143 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_144}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_144",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_144 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_145}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_145")
+    Item OVERWRITE_145 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_147}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_147",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_147 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_148}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_148",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_148 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_149}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_149")
+    Item OVERWRITE_149 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_151}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_151",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_151 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_152}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_152",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_152 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_153}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_153")
+    Item OVERWRITE_153 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_155}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_155",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_155 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_156}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_156",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_156 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_157}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_157")
+    Item OVERWRITE_157 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_159}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_159",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_159 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_160}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_160",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_160 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_161}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_161")
+    Item OVERWRITE_161 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_163}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_163",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_163 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_164}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_164",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_164 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_165}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_165")
+    Item OVERWRITE_165 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_167}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_167",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_167 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_168}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_168",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_168 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_169}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_169")
+    Item OVERWRITE_169 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_171}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_171",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_171 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_172}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_172",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_172 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_173}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_173")
+    Item OVERWRITE_173 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_175}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_175",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_175 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_176}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_176",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_176 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_177}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_177")
+    Item OVERWRITE_177 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_179}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_179",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_179 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_180}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_180",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_180 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_181}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_181")
+    Item OVERWRITE_181 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_183}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_183",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_183 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_184}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_184",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_184 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_185}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_185")
+    Item OVERWRITE_185 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_187}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_187",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_187 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_188}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_188",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_188 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_189}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_189")
+    Item OVERWRITE_189 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_191}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_191",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_191 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_192}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_192",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_192 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_193}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_193")
+    Item OVERWRITE_193 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_195}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_195",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_195 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_196}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_196",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_196 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_197}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_197")
+    Item OVERWRITE_197 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_199}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_199",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_199 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_200}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_200",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_200 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_201}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_201")
+    Item OVERWRITE_201 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_203}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_203",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_203 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_204}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_204",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_204 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_205}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_205")
+    Item OVERWRITE_205 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_207}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_207",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_207 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_208}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_208",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_208 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_209}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_209")
+    Item OVERWRITE_209 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_211}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_211",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_211 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_212}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_212",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_212 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_213}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_213")
+    Item OVERWRITE_213 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_215}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_215",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_215 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_216}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_216",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_216 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_217}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_217")
+    Item OVERWRITE_217 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_219}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_219",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_219 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_220}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_220",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_220 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_221}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_221")
+    Item OVERWRITE_221 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_223}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_223",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_223 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_224}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_224",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_224 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_225}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_225")
+    Item OVERWRITE_225 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_227}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_227",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_227 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_228}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_228",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_228 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_229}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_229")
+    Item OVERWRITE_229 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_231}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_231",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_231 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_232}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_232",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_232 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_233}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_233")
+    Item OVERWRITE_233 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_235}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_235",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_235 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_236}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_236",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_236 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_237}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_237")
+    Item OVERWRITE_237 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_239}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_239",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_239 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_240}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_240",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_240 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_241}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_241")
+    Item OVERWRITE_241 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_243}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_243",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_243 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_244}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_244",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_244 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_245}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_245")
+    Item OVERWRITE_245 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_247}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_247",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_247 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_248}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_248",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_248 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_249}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_249")
+    Item OVERWRITE_249 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_251}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_251",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_251 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_252}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_252",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_252 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_253}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_253")
+    Item OVERWRITE_253 = new Item(new Item.Settings());
+    /**
+     * 覆写 {@link MainRegistryOverwriteFixtureItems#FIXTURE_ITEM_255}
+     */
+    @MainRegistryOverwrite(
+            pack = PACK,
+            registrar = MainRegistryOverwriteFixtureItems.class,
+            field = "FIXTURE_ITEM_255",
+            registers = @Register(method = "group", overwrite = "GROUPS"))
+    Item OVERWRITE_255 = new Item(new Item.Settings());
+}
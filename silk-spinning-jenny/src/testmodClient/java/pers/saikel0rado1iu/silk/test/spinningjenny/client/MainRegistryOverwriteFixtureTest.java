@@ -0,0 +1,145 @@
+/*
+ * This file is part of Silk API.
+ * Copyright (C) 2023 Saikel Orado Liu
+ *
+ * Silk API is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Silk API is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Silk API. If not, see <https://www.gnu.org/licenses/>.
+ */
+package pers.saikel0rado1iu.silk.test.spinningjenny.client;
+
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pers.saikel0rado1iu.silk.test.spinningjenny.MainRegistryOverwriteFixtureItems;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test {@link MainRegistryOverwriteFixture}<br>
+ * 读取生成的混入字节码，断言每个覆写方法的调用序号与 {@link MainRegistryOverwriteFixtureItems} 中的声明一致
+ */
+public interface MainRegistryOverwriteFixtureTest {
+    /**
+     * 日志
+     */
+    Logger LOGGER = LoggerFactory.getLogger("SilkSpinningJenny/TestingMainRegistryOverwrite");
+    /**
+     * 夹具注册器中的字段数量
+     */
+    int FIELDS = 256;
+    /**
+     * 注入注解描述符
+     */
+    String MODIFY_ARG = "Lorg/spongepowered/asm/mixin/injection/ModifyArg;";
+
+    /**
+     * 测试
+     */
+    static void test() {
+        int registrarCalls = 0;
+        int groupCalls = 0;
+        int checked = 0;
+        List<String> mismatches = new ArrayList<>();
+        for (int field = 0; field < FIELDS; field++) {
+            // 与夹具注册器的声明方式一致：0 调用 group，1 只调用注册器，2 不调用注册器，3 以可变参数调用 group
+            int kind = field % 4;
+            if (kind == 2) {
+                continue;
+            }
+            String name = String.format("FixtureItem%03dMainMixin", field);
+            ClassNode mixin = read(name);
+            if (mixin == null) {
+                mismatches.add(name + " missing");
+            } else {
+                check(mismatches, name + "#overwrite", ordinal(mixin, "overwrite"), registrarCalls);
+                if (kind != 1) {
+                    check(mismatches, name + "#group", ordinal(mixin, "group"), groupCalls);
+                } else if (ordinal(mixin, "group") != null) {
+                    mismatches.add(name + "#group unexpected");
+                }
+                checked++;
+            }
+            registrarCalls++;
+            if (kind != 1) {
+                groupCalls++;
+            }
+        }
+        LOGGER.info("checked {} generated mixins, mismatches = {} (expected [])", checked, mismatches);
+    }
+
+    private static void check(List<String> mismatches, String target, @Nullable Integer actual, int expected) {
+        if (actual == null || actual != expected) {
+            mismatches.add(target + " = " + actual + " (expected " + expected + ")");
+        }
+    }
+
+    @Nullable
+    private static ClassNode read(String name) {
+        String path = MainRegistryOverwriteFixture.PACK.replace('.', '/') + '/' + name + ".class";
+        try (InputStream stream = MainRegistryOverwriteFixtureTest.class.getClassLoader().getResourceAsStream(path)) {
+            if (stream == null) {
+                return null;
+            }
+            ClassNode classNode = new ClassNode();
+            new ClassReader(stream).accept(classNode, ClassReader.SKIP_CODE);
+            return classNode;
+        } catch (IOException e) {
+            LOGGER.error("Unable to read {}", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * 获取混入方法上 {@code @ModifyArg(at = @At(ordinal = ...))} 的调用序号
+     *
+     * @param mixin  混入类
+     * @param method 方法名
+     * @return 调用序号，方法或注解不存在时为 {@code null}
+     */
+    @Nullable
+    private static Integer ordinal(ClassNode mixin, String method) {
+        for (MethodNode node : mixin.methods) {
+            if (!method.equals(node.name)) {
+                continue;
+            }
+            List<AnnotationNode> annotations = new ArrayList<>();
+            if (node.visibleAnnotations != null) {
+                annotations.addAll(node.visibleAnnotations);
+            }
+            if (node.invisibleAnnotations != null) {
+                annotations.addAll(node.invisibleAnnotations);
+            }
+            for (AnnotationNode annotation : annotations) {
+                if (!MODIFY_ARG.equals(annotation.desc)) {
+                    continue;
+                }
+                AnnotationNode at = (AnnotationNode) value(annotation, "at");
+                return at == null ? null : (Integer) value(at, "ordinal");
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Object value(AnnotationNode annotation, String name) {
+        if (annotation.values == null) {
+            return null;
+        }
+        for (int count = 0; count < annotation.values.size(); count += 2) {
+            if (name.equals(annotation.values.get(count))) {
+                return annotation.values.get(count + 1);
+            }
+        }
+        return null;
+    }
+}
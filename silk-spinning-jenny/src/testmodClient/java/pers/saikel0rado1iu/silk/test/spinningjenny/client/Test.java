@@ -30,6 +30,7 @@ public final class Test implements ModClient {
      */
     @Override
     public void main(ModPass mod) {
+        MainRegistryOverwriteFixtureTest.test();
     }
 
     /**
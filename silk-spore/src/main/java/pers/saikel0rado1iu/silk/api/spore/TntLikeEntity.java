@@ -11,6 +11,11 @@
 
 package pers.saikel0rado1iu.silk.api.spore;
 
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.*;
@@ -22,14 +27,25 @@ import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtHelper;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * <h2 style="color:FFC800">TNT 类实体</h2>
- * 用于创建类似于 TNT 或是扩展于 TNT 的实体
+ * 用于创建类似于 TNT 或是扩展于 TNT 的实体<br>
+ * 静止在地面上的实体会休眠其物理运算，直到速度、位置或支撑方块发生变化。
+ * 如果 {@link TntLikeEntity#explosionApproximationRadius()} 大于 0，会启用近似爆炸模式：
+ * 同一刻内在半径内引爆的同类实体会被一次近似爆炸代替，其结果与逐个爆炸不同，默认不启用
  *
  * @author <a href="https://github.com/Saikel-Orado-Liu"><img alt="author" src="https://avatars.githubusercontent.com/u/88531138?s=64&v=4"></a>
  * @since 1.1.0
@@ -37,7 +53,13 @@ import java.util.Optional;
 public abstract class TntLikeEntity extends Entity implements Ownable {
 	protected static final TrackedData<Integer> FUSE = DataTracker.registerData(TntLikeEntity.class, TrackedDataHandlerRegistry.INTEGER);
 	protected static final TrackedData<BlockState> BLOCK_STATE = DataTracker.registerData(TntLikeEntity.class, TrackedDataHandlerRegistry.BLOCK_STATE);
+	private static final Map<World, List<TntLikeEntity>> PENDING_DETONATIONS = new MapMaker().weakKeys().makeMap();
+	private static final double SLEEP_VELOCITY_SQUARED = 1.0E-8;
 	private Optional<LivingEntity> causingEntity;
+	private boolean sleeping = false;
+	private BlockPos restingPos = BlockPos.ORIGIN;
+	private BlockPos supportingPos = BlockPos.ORIGIN;
+	private @Nullable BlockState supportingState = null;
 	
 	protected TntLikeEntity(EntityType<?> type, World world, Optional<LivingEntity> causingEntity) {
 		super(type, world);
@@ -61,24 +83,172 @@ public abstract class TntLikeEntity extends Entity implements Ownable {
 	 * 修改此方法来自定义爆炸效果
 	 */
 	protected void explode() {
-		getWorld().createExplosion(this, getX(), getBodyY(0.0625), getZ(), 4, World.ExplosionSourceType.TNT);
+		getWorld().createExplosion(this, getX(), getBodyY(0.0625), getZ(), explosionPower(), World.ExplosionSourceType.TNT);
+	}
+	
+	/**
+	 * 近似爆炸方法<br>
+	 * 修改此方法来自定义近似爆炸效果，此方法由集群中的第一个实体调用，
+	 * 集群中其他实体的 {@link TntLikeEntity#explode()} 不会被调用
+	 *
+	 * @param cluster 被近似的实体
+	 * @param center  爆炸中心
+	 * @param power   爆炸威力
+	 */
+	protected void explodeApproximated(List<? extends TntLikeEntity> cluster, Vec3d center, float power) {
+		getWorld().createExplosion(this, center.x, center.y, center.z, power, World.ExplosionSourceType.TNT);
+	}
+	
+	/**
+	 * 爆炸威力
+	 *
+	 * @return 单个实体的爆炸威力
+	 */
+	protected float explosionPower() {
+		return 4;
+	}
+	
+	/**
+	 * 近似爆炸的威力，默认使爆炸范围的体积与实体数量成正比，最多为单个实体威力的 4 倍<br>
+	 * 由于威力有上限且射线强度随距离衰减，近似爆炸的破坏范围与总伤害通常小于逐个爆炸的总和
+	 *
+	 * @param count 被近似的实体数量
+	 * @return 近似爆炸的威力
+	 */
+	protected float approximatedExplosionPower(int count) {
+		return explosionPower() * (float) Math.min(4, Math.cbrt(count));
+	}
+	
+	/**
+	 * 近似爆炸半径，小于等于 0 时逐个爆炸<br>
+	 * 近似模式不会计算各实体爆炸的并集，而是以质心处的一次 {@link TntLikeEntity#approximatedExplosionPower(int)} 威力爆炸代替集群中各实体的独立爆炸，
+	 * 被破坏的方块、掉落物、实体受到的伤害与击退都会与逐个爆炸的结果不同，集群边缘的实体也不会按自身位置爆炸。
+	 * 仅应在大量实体同时引爆、结果精度不重要的场景下启用
+	 *
+	 * @return 近似半径
+	 */
+	protected double explosionApproximationRadius() {
+		return 0;
+	}
+	
+	/**
+	 * 引爆本刻中所有等待近似爆炸的实体，应在每个世界刻结束时调用
+	 *
+	 * @param world 服务器世界
+	 */
+	public static void detonatePending(ServerWorld world) {
+		List<TntLikeEntity> pending = PENDING_DETONATIONS.remove(world);
+		if (pending == null) return;
+		Map<EntityType<?>, List<TntLikeEntity>> types = new Reference2ObjectLinkedOpenHashMap<>();
+		for (TntLikeEntity entity : pending) types.computeIfAbsent(entity.getType(), type -> new ArrayList<>()).add(entity);
+		for (List<TntLikeEntity> entities : types.values()) {
+			for (List<TntLikeEntity> cluster : cluster(entities, entities.getFirst().explosionApproximationRadius())) {
+				TntLikeEntity source = cluster.getFirst();
+				if (cluster.size() == 1) {
+					source.explode();
+					continue;
+				}
+				double x = 0;
+				double y = 0;
+				double z = 0;
+				for (TntLikeEntity entity : cluster) {
+					x += entity.getX();
+					y += entity.getBodyY(0.0625);
+					z += entity.getZ();
+				}
+				Vec3d center = new Vec3d(x / cluster.size(), y / cluster.size(), z / cluster.size());
+				source.explodeApproximated(cluster, center, source.approximatedExplosionPower(cluster.size()));
+			}
+		}
+	}
+	
+	/**
+	 * 以近似半径为网格大小对实体进行分组，每个集群中的实体都在集群第一个实体的近似半径内
+	 */
+	private static List<List<TntLikeEntity>> cluster(List<TntLikeEntity> entities, double radius) {
+		Long2ObjectMap<List<TntLikeEntity>> cells = new Long2ObjectOpenHashMap<>();
+		for (TntLikeEntity entity : entities) cells.computeIfAbsent(cellOf(entity, radius), cell -> new ArrayList<>()).add(entity);
+		Set<TntLikeEntity> assigned = new ReferenceOpenHashSet<>(entities.size());
+		List<List<TntLikeEntity>> clusters = new ArrayList<>();
+		double radiusSquared = radius * radius;
+		for (TntLikeEntity seed : entities) {
+			if (!assigned.add(seed)) continue;
+			List<TntLikeEntity> cluster = new ArrayList<>();
+			cluster.add(seed);
+			int cellX = MathHelper.floor(seed.getX() / radius);
+			int cellY = MathHelper.floor(seed.getY() / radius);
+			int cellZ = MathHelper.floor(seed.getZ() / radius);
+			for (int dx = -1; dx <= 1; dx++) {
+				for (int dy = -1; dy <= 1; dy++) {
+					for (int dz = -1; dz <= 1; dz++) {
+						List<TntLikeEntity> cell = cells.get(BlockPos.asLong(cellX + dx, cellY + dy, cellZ + dz));
+						if (cell == null) continue;
+						for (TntLikeEntity entity : cell) {
+							if (seed.squaredDistanceTo(entity) > radiusSquared || !assigned.add(entity)) continue;
+							cluster.add(entity);
+						}
+					}
+				}
+			}
+			clusters.add(cluster);
+		}
+		return clusters;
+	}
+	
+	private static long cellOf(TntLikeEntity entity, double radius) {
+		return BlockPos.asLong(MathHelper.floor(entity.getX() / radius), MathHelper.floor(entity.getY() / radius), MathHelper.floor(entity.getZ() / radius));
+	}
+	
+	private void detonate() {
+		if (explosionApproximationRadius() <= 0) {
+			explode();
+			return;
+		}
+		PENDING_DETONATIONS.computeIfAbsent(getWorld(), world -> new ArrayList<>()).add(this);
+	}
+	
+	/**
+	 * 是否正在休眠物理运算
+	 *
+	 * @return 是否休眠
+	 */
+	public boolean isSleeping() {
+		return sleeping;
+	}
+	
+	private boolean isDisturbed() {
+		return !getVelocity().equals(Vec3d.ZERO) || !getBlockPos().equals(restingPos) || getWorld().getBlockState(supportingPos) != supportingState;
+	}
+	
+	private void trySleep() {
+		Vec3d velocity = getVelocity();
+		if (!isOnGround() || velocity.horizontalLengthSquared() > SLEEP_VELOCITY_SQUARED || Math.abs(velocity.y) > SLEEP_VELOCITY_SQUARED) return;
+		sleeping = true;
+		setVelocity(Vec3d.ZERO);
+		restingPos = getBlockPos();
+		supportingPos = getLandingPos();
+		supportingState = getWorld().getBlockState(supportingPos);
 	}
 	
 	/**
 	 * 修改此方法来自定义其他爆炸效果<br>
-	 * 如果修改了此方法需要在此方法中重新使用 {@link TntLikeEntity#explode()}
+	 * 如果修改了此方法需要在此方法中重新使用 {@link TntLikeEntity#explode()}，此时不会进行爆炸合并
 	 */
 	@Override
 	public void tick() {
-		if (!hasNoGravity()) setVelocity(getVelocity().add(0, -0.04, 0));
-		move(MovementType.SELF, getVelocity());
-		setVelocity(getVelocity().multiply(0.98));
-		if (isOnGround()) setVelocity(getVelocity().multiply(0.7, -0.5, 0.7));
+		if (sleeping && isDisturbed()) sleeping = false;
+		if (!sleeping) {
+			if (!hasNoGravity()) setVelocity(getVelocity().add(0, -0.04, 0));
+			move(MovementType.SELF, getVelocity());
+			setVelocity(getVelocity().multiply(0.98));
+			if (isOnGround()) setVelocity(getVelocity().multiply(0.7, -0.5, 0.7));
+			trySleep();
+		}
 		int fuse = getFuse() - 1;
 		setFuse(fuse);
 		if (fuse <= 0) {
 			discard();
-			if (!getWorld().isClient) explode();
+			if (!getWorld().isClient) detonate();
 		} else {
 			updateWaterState();
 			if (getWorld().isClient) getWorld().addParticle(ParticleTypes.SMOKE, getX(), getY() + EntityUtil.POS_SHIFTING, getZ(), 0, 0, 0);